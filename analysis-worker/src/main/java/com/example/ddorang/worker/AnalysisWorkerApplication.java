@@ -0,0 +1,44 @@
+package com.example.ddorang.worker;
+
+import com.example.ddorang.common.config.AsyncConfig;
+import com.example.ddorang.common.config.MailConfig;
+import com.example.ddorang.common.config.RedisConfig;
+import com.example.ddorang.common.config.RestTemplateConfig;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 영상 분석 워커 (웹 서버 없음)
+ *
+ * API 노드(analysis.worker.enabled=false)가 점유를 풀어 둔 작업을 같은 DB에서 점유해
+ * 청크 업로드, 결과 폴링, 결과 저장과 완료 알림을 맡는다.
+ * 컨트롤러/보안/웹소켓 설정은 올리지 않고 서비스 계층과 분석에 필요한 설정만 불러온다.
+ * 실시간 알림은 Redis를 거쳐 API 노드가 사용자에게 보낸다 (RealtimeMessageRelay).
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, UserDetailsServiceAutoConfiguration.class})
+@ComponentScan(basePackages = {
+    "com.example.ddorang.presentation.service",
+    "com.example.ddorang.common.service",
+    "com.example.ddorang.mail.service"
+})
+@Import({AsyncConfig.class, RedisConfig.class, RestTemplateConfig.class, MailConfig.class})
+@EntityScan("com.example.ddorang")
+@EnableJpaRepositories("com.example.ddorang")
+public class AnalysisWorkerApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(AnalysisWorkerApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("worker")
+            .run(args);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.ddorang.worker;
+
+import com.example.ddorang.common.service.RealtimeMessageRelay;
+import com.example.ddorang.presentation.controller.VideoAnalysisController;
+import com.example.ddorang.presentation.service.VideoAnalysisDispatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 웹 서버 없이 워커가 스캔하는 패키지만으로 컨텍스트가 올라오는지 확인 (Redis는 목, DB는 H2)
+@SpringBootTest(
+    classes = AnalysisWorkerApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:analysis-worker;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "analysis.lease.scan-interval-ms=3600000",
+        "analysis.worker.cancel-check-interval-ms=3600000"
+    })
+@ActiveProfiles({"dev", "worker"})
+class AnalysisWorkerApplicationTest {
+
+    @MockitoBean
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void contextLoadsWithoutWebOrSecurityBeans() {
+        assertThat(context).isNotInstanceOf(runtimeClass("org.springframework.web.context.WebApplicationContext"));
+        assertThat(context.getBeansOfType(VideoAnalysisDispatcher.class)).hasSize(1);
+        assertThat(context.getBeansOfType(RealtimeMessageRelay.class)).hasSize(1);
+
+        assertThat(context.getBeansOfType(VideoAnalysisController.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(
+            runtimeClass("org.springframework.security.web.SecurityFilterChain"))).isEmpty();
+        assertThat(context.getBeanNamesForType(
+            runtimeClass("org.springframework.messaging.simp.SimpMessagingTemplate"))).isEmpty();
+    }
+
+    // 웹/보안/웹소켓 모듈은 API 앱의 런타임 의존성이라 이름으로 로딩
+    private Class<?> runtimeClass(String className) {
+        return ClassUtils.resolveClassName(className, getClass().getClassLoader());
+    }
+}
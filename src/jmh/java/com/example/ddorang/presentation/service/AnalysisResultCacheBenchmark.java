@@ -0,0 +1,157 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결과 캐시 비교: 상한 없는 ConcurrentHashMap(기존 방식) vs 크기 상한 Caffeine(AnalysisResultCache)
+ *
+ * - lookup: 일부 결과에 조회가 몰리는 분포에서의 조회 처리량 (Caffeine 누락 시 보관본 재적재를 put으로 흉내)
+ * - fillDay: 하루치 결과를 넣은 뒤 남은 힙 크기 (·retainedKb 보조 지표)
+ * ./gradlew jmh 로 실행.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalysisResultCacheBenchmark {
+
+    @Param({"map", "caffeine"})
+    private String impl;
+
+    // 하루 완료 작업 수
+    @Param({"2000"})
+    private int jobs;
+
+    // 결과당 전사 텍스트 길이 (20분 발표 ≈ 8,000자)
+    @Param({"8000"})
+    private int transcriptChars;
+
+    // Caffeine 상한 (16MB - 하루치 결과 ≈ 32MB의 절반)
+    @Param({"16777216"})
+    private long maxBytes;
+
+    private UUID[] jobIds;
+    private FastApiAnalysisResult[] results;
+    private int[] accessOrder;
+    private ResultStore store;
+
+    // 비교 대상 공통 인터페이스
+    private interface ResultStore {
+        FastApiAnalysisResult get(UUID jobId);
+
+        void put(UUID jobId, FastApiAnalysisResult result);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long retainedKb;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7);
+        jobIds = new UUID[jobs];
+        results = new FastApiAnalysisResult[jobs];
+        String base = "안녕하세요 오늘은 캐시 구조를 설명하겠습니다 ".repeat(transcriptChars / 24 + 1)
+            .substring(0, transcriptChars);
+        for (int i = 0; i < jobs; i++) {
+            jobIds[i] = new UUID(random.nextLong(), random.nextLong());
+            // 결과마다 별도 문자열 (같은 배열을 공유하면 힙 비교가 무의미)
+            results[i] = FastApiAnalysisResult.builder()
+                .intensityGrade("보통")
+                .pitchGrade("좋음")
+                .transcription(base + i)
+                .build();
+        }
+
+        // 조회의 대부분이 최근/인기 결과에 몰리도록 (지수 분포)
+        accessOrder = new int[1 << 16];
+        for (int i = 0; i < accessOrder.length; i++) {
+            accessOrder[i] = (int) Math.min(jobs - 1, (long) (-Math.log(1 - random.nextDouble()) * jobs / 10));
+        }
+
+        store = newStore();
+        for (int i = 0; i < jobs; i++) {
+            store.put(jobIds[i], results[i]);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(4)
+    public FastApiAnalysisResult lookup() {
+        int index = accessOrder[ThreadLocalRandom.current().nextInt(accessOrder.length)];
+        FastApiAnalysisResult result = store.get(jobIds[index]);
+        if (result == null) {
+            result = results[index];
+            store.put(jobIds[index], result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object fillDay(Heap heap) {
+        long before = usedHeapAfterGc();
+        ResultStore day = newStore();
+        for (int i = 0; i < jobs; i++) {
+            // 상태에 이미 잡혀 있는 결과가 아니라 새 결과를 넣어야 캐시가 붙잡는 크기가 드러남
+            day.put(jobIds[i], results[i].toBuilder()
+                .transcription(String.valueOf(results[i].transcription().toCharArray()))
+                .build());
+        }
+        heap.retainedKb = Math.max(0, usedHeapAfterGc() - before) / 1024;
+        return day;
+    }
+
+    private ResultStore newStore() {
+        if ("map".equals(impl)) {
+            Map<UUID, FastApiAnalysisResult> map = new ConcurrentHashMap<>();
+            return new ResultStore() {
+                public FastApiAnalysisResult get(UUID jobId) {
+                    return map.get(jobId);
+                }
+
+                public void put(UUID jobId, FastApiAnalysisResult result) {
+                    map.put(jobId, result);
+                }
+            };
+        }
+        AnalysisResultCache cache = new AnalysisResultCache(maxBytes, Duration.ofHours(24), Duration.ofHours(1));
+        return new ResultStore() {
+            public FastApiAnalysisResult get(UUID jobId) {
+                return cache.get(jobId);
+            }
+
+            public void put(UUID jobId, FastApiAnalysisResult result) {
+                cache.put(jobId, result);
+            }
+        };
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiJobResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /result 응답 처리 비교: Map 트리 + instanceof 추출(기존 방식) vs 스트리밍 파서
+ *
+ * ./gradlew jmh 로 실행하면 gc 프로파일러가 ·gc.alloc.rate.norm(연산당 할당 바이트)을 함께 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FastApiResultParserBenchmark {
+
+    // 전사 텍스트 문장 수 (20분 발표 ≈ 400문장)
+    @Param({"40", "400"})
+    private int sentences;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private FastApiResultParser parser;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        parser = new FastApiResultParser(objectMapper, 32 * 1024 * 1024);
+        payload = objectMapper.writeValueAsBytes(syntheticJobResult(sentences));
+    }
+
+    @Benchmark
+    public void mapBased(Blackhole blackhole) throws Exception {
+        Map<String, Object> response = objectMapper.readValue(payload, new TypeReference<Map<String, Object>>() {});
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) response.get("result");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> feedback = (Map<String, Object>) result.get("feedback");
+
+        // 기존 VoiceAnalysisService 저장 경로와 같은 추출/직렬화
+        blackhole.consume(getString(result, "intensity_grade"));
+        blackhole.consume(getFloat(result, "intensity_db"));
+        blackhole.consume(getString(result, "pitch_grade"));
+        blackhole.consume(getFloat(result, "pitch_avg"));
+        blackhole.consume(getString(result, "wpm_grade"));
+        blackhole.consume(getFloat(result, "wpm_avg"));
+        blackhole.consume(getString(result, "anxiety_grade"));
+        blackhole.consume(getFloat(result, "anxiety_ratio"));
+        blackhole.consume(getString(result, "transcription"));
+        blackhole.consume(getFloat(result, "pronunciation_score"));
+        blackhole.consume(getString(result, "corrected_transcription"));
+        blackhole.consume(objectMapper.writeValueAsString(feedback.get("frequent_words")));
+        blackhole.consume(objectMapper.writeValueAsString(feedback.get("awkward_sentences")));
+        blackhole.consume(objectMapper.writeValueAsString(feedback.get("difficulty_issues")));
+        blackhole.consume(objectMapper.writeValueAsString(result.get("predicted_questions")));
+    }
+
+    @Benchmark
+    public FastApiJobResult streaming() throws Exception {
+        return parser.parseJobResult(new ByteArrayInputStream(payload));
+    }
+
+    private static String getString(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private static Float getFloat(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        if (value == null) return null;
+        if (value instanceof Number) {
+            return ((Number) value).floatValue();
+        }
+        return Float.parseFloat(value.toString());
+    }
+
+    // 실제 응답과 같은 구조의 합성 데이터
+    private static Map<String, Object> syntheticJobResult(int sentences) {
+        Random random = new Random(7);
+        String[] words = {"발표", "그래서", "음", "데이터", "결과", "우리는", "이번", "프로젝트", "사용자", "분석"};
+
+        StringBuilder transcript = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            for (int w = 0; w < 12; w++) {
+                transcript.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            transcript.append("입니다. ");
+        }
+
+        List<Map<String, Object>> frequentWords = new ArrayList<>();
+        for (int i = 0; i < sentences / 2; i++) {
+            frequentWords.add(Map.of("word", words[i % words.length] + i, "count", random.nextInt(30)));
+        }
+
+        List<String> awkward = new ArrayList<>();
+        for (int i = 0; i < sentences / 10; i++) {
+            awkward.add("어색한 문장 예시 " + i);
+        }
+
+        Map<String, Object> feedback = new LinkedHashMap<>();
+        feedback.put("frequent_words", frequentWords);
+        feedback.put("awkward_sentences", awkward);
+        feedback.put("difficulty_issues", List.of("전문 용어가 많습니다"));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("intensity_grade", "보통");
+        result.put("intensity_db", 65.5);
+        result.put("intensity_text", "음성 강도가 적절합니다.");
+        result.put("pitch_grade", "좋음");
+        result.put("pitch_avg", 150.2);
+        result.put("pitch_text", "피치 변화가 자연스럽습니다.");
+        result.put("wpm_grade", "보통");
+        result.put("wpm_avg", "120.5");
+        result.put("wpm_comment", "말하기 속도가 적당합니다.");
+        result.put("anxiety_analysis", Map.of("grade", "B", "ratio", 0.5));
+        result.put("anxiety_grade", "B");
+        result.put("anxiety_ratio", 0.5);
+        result.put("transcription", transcript.toString());
+        result.put("pronunciation_score", 0.75);
+        result.put("corrected_transcription", transcript.toString());
+        result.put("duration_seconds", sentences * 3);
+        result.put("feedback", feedback);
+        result.put("predicted_questions", List.of("이 방식의 한계는 무엇인가요?", "데이터는 어떻게 수집했나요?"));
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "completed");
+        response.put("result", result);
+        return response;
+    }
+}
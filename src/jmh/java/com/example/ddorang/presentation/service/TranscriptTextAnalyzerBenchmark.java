@@ -0,0 +1,75 @@
+package com.example.ddorang.presentation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전사 텍스트 로컬 분석(자주 쓴 단어 + 습관어) 비용
+ *
+ * 30분 발표는 분당 약 130어절 기준 4,000어절 내외. ./gradlew jmh 로 실행.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TranscriptTextAnalyzerBenchmark {
+
+    // 발표 길이(분)
+    @Param({"5", "30"})
+    private int minutes;
+
+    private TranscriptTextAnalyzer analyzer;
+    private String transcript;
+
+    @Setup
+    public void setUp() {
+        analyzer = new TranscriptTextAnalyzer(new ObjectMapper(),
+            List.of("음", "어", "아", "에", "그", "저", "이제", "뭐", "약간", "그러니까", "그래서", "사실", "좀", "막", "진짜", "그냥", "일단"),
+            10);
+        transcript = syntheticTranscript(minutes * 130);
+    }
+
+    @Benchmark
+    public TranscriptTextAnalyzer.Analysis analyze() {
+        return analyzer.analyze(transcript);
+    }
+
+    @Benchmark
+    public String analyzeAndSerialize() {
+        TranscriptTextAnalyzer.Analysis analysis = analyzer.analyze(transcript);
+        return analyzer.frequentWordsJson(analysis) + analyzer.fillerWordsJson(analysis);
+    }
+
+    private static String syntheticTranscript(int words) {
+        Random random = new Random(7);
+        String[] stems = {"발표", "데이터", "결과", "프로젝트", "사용자", "분석", "서버", "캐시", "모델", "성능",
+            "구조", "방법", "문제", "개선", "팀원", "일정", "요구사항", "테스트", "배포", "장애"};
+        String[] particles = {"", "가", "를", "는", "에서", "으로", "의", "와", "도"};
+        String[] fillers = {"음", "어", "이제", "그러니까", "약간", "좀"};
+        String[] endings = {"설명하겠습니다.", "보여드리겠습니다.", "있습니다.", "중요합니다.", "살펴보겠습니다."};
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int pick = random.nextInt(10);
+            if (pick == 0) {
+                text.append(fillers[random.nextInt(fillers.length)]);
+            } else if (pick == 1) {
+                text.append(endings[random.nextInt(endings.length)]);
+            } else {
+                text.append(stems[random.nextInt(stems.length)]).append(particles[random.nextInt(particles.length)]);
+            }
+            text.append(' ');
+        }
+        return text.toString();
+    }
+}
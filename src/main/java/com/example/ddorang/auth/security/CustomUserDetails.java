@@ -18,20 +18,28 @@ public class CustomUserDetails implements UserDetails {
 
     private final User user;
     private final List<TeamMember> teamMemberships; // 팀 멤버십 정보 추가
+    private final boolean admin; // 관리자 계정 (security.admin-emails)
 
     public CustomUserDetails(User user, List<TeamMember> teamMemberships) {
+        this(user, teamMemberships, false);
+    }
+
+    public CustomUserDetails(User user, List<TeamMember> teamMemberships, boolean admin) {
         this.user = user;
         this.teamMemberships = teamMemberships;
+        this.admin = admin;
     }
 
     // 기존 생성자와의 호환성을 위한 오버로드
     public CustomUserDetails(User user) {
-        this.user = user;
-        this.teamMemberships = null; // 팀 멤버십 정보가 없는 경우
+        this(user, null, false); // 팀 멤버십 정보가 없는 경우
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (admin) {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
         return List.of(() -> "ROLE_USER");
     }
 
@@ -5,6 +5,7 @@ import com.example.ddorang.auth.repository.UserRepository;
 import com.example.ddorang.team.entity.TeamMember;
 import com.example.ddorang.team.repository.TeamMemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -24,6 +25,10 @@ public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
     private final TeamMemberRepository teamMemberRepository;
 
+    // 운영 지표 등 관리자 전용 API를 쓸 수 있는 계정 (ROLE_ADMIN)
+    @Value("${security.admin-emails:}")
+    private List<String> adminEmails = List.of();
+
     //유저 조회
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -47,7 +52,8 @@ public class CustomUserDetailsService implements UserDetailsService {
                 teamMemberships = new ArrayList<>(); // 빈 리스트로 설정
             }
             
-            CustomUserDetails userDetails = new CustomUserDetails(user, teamMemberships);
+            boolean admin = adminEmails.stream().anyMatch(adminEmail -> adminEmail.trim().equalsIgnoreCase(email));
+            CustomUserDetails userDetails = new CustomUserDetails(user, teamMemberships, admin);
             
             return userDetails;
         } catch (Exception e) {
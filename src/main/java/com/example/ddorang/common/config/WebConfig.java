@@ -1,12 +1,20 @@
 package com.example.ddorang.common.config;
 
+import com.example.ddorang.common.ApiPaths;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final EntityManagerFactory entityManagerFactory;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -15,4 +23,16 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true); // 쿠키를 사용할 경우 true
     }
-}
\ No newline at end of file
+
+    /**
+     * open-in-view 대신 직접 등록 (spring.jpa.open-in-view: false)
+     * 비동기로 응답하는 동기 영상 분석은 제외 - 분석이 끝날 때까지 DB 커넥션을 붙잡지 않도록
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor openEntityManagerInView = new OpenEntityManagerInViewInterceptor();
+        openEntityManagerInView.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(openEntityManagerInView)
+                .excludePathPatterns(ApiPaths.ROOT + "/video-analysis/analyze/**");
+    }
+}
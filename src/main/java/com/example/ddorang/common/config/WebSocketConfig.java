@@ -1,11 +1,18 @@
 package com.example.ddorang.common.config;
 
+import com.example.ddorang.common.service.RealtimeMessageRelay;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.nio.charset.StandardCharsets;
+
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
@@ -27,4 +34,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
+
+    // 분석 워커(웹소켓 없음)가 Redis로 넘긴 사용자 메시지를 이 노드의 구독자에게 전달
+    @Bean
+    public RedisMessageListenerContainer realtimeRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        RealtimeMessageRelay realtimeMessageRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+            (message, pattern) -> realtimeMessageRelay.deliver(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(RealtimeMessageRelay.CHANNEL));
+        return container;
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.example.ddorang.auth.service.AuthService;
 import com.example.ddorang.common.entity.Notification;
 import com.example.ddorang.common.repository.NotificationRepository;
 import com.example.ddorang.common.service.NotificationService;
+import com.example.ddorang.common.util.ETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -67,12 +69,15 @@ public class NotificationController {
 
     // 읽지 않은 알림 개수 조회
     @GetMapping("/unread/count")
-    public ResponseEntity<?> getUnreadCount(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> getUnreadCount(@RequestHeader("Authorization") String authHeader,
+                                            WebRequest webRequest) {
         try {
             UUID userId = extractUserIdFromToken(authHeader);
             long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
-            
-            return ResponseEntity.ok(Map.of("unreadCount", unreadCount));
+
+            // 개수가 곧 버전 - 바뀌지 않았으면 본문 없이 304
+            return ETags.conditional(webRequest, ETags.weak("unread", unreadCount),
+                () -> Map.of("unreadCount", unreadCount));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", e.getMessage()));
@@ -6,7 +6,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+       indexes = {
+           // 읽지 않은 알림 개수 (폴링) - 인덱스만으로 집계
+           @Index(name = "idx_notifications_user_read", columnList = "user_id, is_read")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
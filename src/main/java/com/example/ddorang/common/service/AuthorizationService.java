@@ -88,6 +88,14 @@ public class AuthorizationService {
 
     // ======= 권한 확인 메서드들 (boolean 반환) =======
 
+    /**
+     * 현재 사용자의 비디오 분석 권한 확인 (예외 없이 boolean 반환)
+     * 권한이 있을 때만 일부 정보를 덧붙이는 응답용
+     */
+    public boolean hasVideoAnalysisPermission(UUID presentationId) {
+        return canAnalyzeVideo(presentationId, SecurityUtil.getCurrentUserId());
+    }
+
     /**
      * 프레젠테이션 수정 권한 확인 (엄격한 권한)
      * 개인 발표: 소유자만
@@ -12,7 +12,6 @@ import com.example.ddorang.team.repository.TeamMemberRepository;
 import com.example.ddorang.team.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -35,7 +34,7 @@ public class NotificationService {
     private final TeamMemberRepository teamMemberRepository;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RealtimeMessageRelay realtimeMessageRelay;
     private final EmailService emailService;
 
     /**
@@ -214,8 +213,8 @@ public class NotificationService {
             notificationData.put("createdAt", notification.getCreatedAt());
 
             // 특정 사용자에게만 알림 발송
-            messagingTemplate.convertAndSendToUser(
-                userId.toString(),
+            realtimeMessageRelay.sendToUser(
+                userId,
                 "/queue/notifications",
                 notificationData
             );
@@ -226,6 +225,25 @@ public class NotificationService {
         }
     }
 
+    /**
+     * 비동기 발표 비교 작업 상태 실시간 발송
+     * @param userId 사용자 ID
+     * @param jobStatus 작업 상태 (jobId, status, progress, message, comparisonId 등)
+     */
+    public void sendComparisonJobUpdate(UUID userId, Map<String, Object> jobStatus) {
+        try {
+            realtimeMessageRelay.sendToUser(
+                userId,
+                "/queue/comparisons",
+                jobStatus
+            );
+
+            log.debug("비교 작업 상태 발송 완료 - 사용자ID: {}, 작업: {}", userId, jobStatus.get("jobId"));
+        } catch (Exception e) {
+            log.error("비교 작업 상태 발송 실패 - 사용자ID: {}, 작업: {}", userId, jobStatus.get("jobId"), e);
+        }
+    }
+
     /**
      * 이메일 알림 발송
      * @param userEmail 사용자 이메일
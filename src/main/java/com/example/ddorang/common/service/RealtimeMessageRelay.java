@@ -0,0 +1,69 @@
+package com.example.ddorang.common.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 사용자별 실시간(웹소켓) 메시지 발송
+ *
+ * 웹소켓 브로커가 있는 API 노드는 바로 보내고, 웹소켓이 없는 분석 워커는 Redis 채널로 넘겨
+ * API 노드(WebSocketConfig의 구독)가 연결된 사용자에게 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RealtimeMessageRelay {
+
+    public static final String CHANNEL = "realtime:user-messages";
+
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Redis로 전달되는 메시지
+    record RelayedMessage(UUID userId, String destination, Object payload) {
+    }
+
+    public void sendToUser(UUID userId, String destination, Object payload) {
+        SimpMessagingTemplate template = messagingTemplate.getIfAvailable();
+        if (template != null) {
+            template.convertAndSendToUser(userId.toString(), destination, payload);
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL,
+                objectMapper.writeValueAsString(new RelayedMessage(userId, destination, payload)));
+            log.debug("실시간 메시지 API 노드로 전달 - 사용자ID: {}, 경로: {}", userId, destination);
+        } catch (Exception e) {
+            throw new IllegalStateException("실시간 메시지 전달 실패: " + destination, e);
+        }
+    }
+
+    /**
+     * 워커가 Redis로 넘긴 메시지를 이 노드의 웹소켓 구독자에게 발송 (API 노드에서만 호출)
+     */
+    public void deliver(String message) {
+        SimpMessagingTemplate template = messagingTemplate.getIfAvailable();
+        if (template == null) {
+            return;
+        }
+        try {
+            JsonNode relayed = objectMapper.readTree(message);
+            template.convertAndSendToUser(
+                relayed.path("userId").asText(),
+                relayed.path("destination").asText(),
+                objectMapper.treeToValue(relayed.path("payload"), Object.class));
+        } catch (Exception e) {
+            log.error("전달받은 실시간 메시지 발송 실패: {}", message, e);
+        }
+    }
+}
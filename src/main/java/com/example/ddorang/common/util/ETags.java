@@ -0,0 +1,47 @@
+package com.example.ddorang.common.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * 약한 ETag 조건부 응답 - ETag는 응답 본문 대신 엔티티 ID/수정 시각 같은 버전 값으로 만들어,
+ * If-None-Match가 같으면 본문을 조회/직렬화하지 않고 304를 돌려준다.
+ */
+public final class ETags {
+
+    // 저장은 하되 매번 ETag로 재검증 (Spring Security 기본값 no-store면 브라우저가 If-None-Match를 보내지 않음)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    // 값이 하나라도 바뀌면 달라지는 약한 ETag (null도 하나의 값으로 취급)
+    public static String weak(Object... versionParts) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object part : versionParts) {
+            joiner.add(String.valueOf(part));
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * ETag가 If-None-Match와 같으면 304 (checkNotModified가 ETag 헤더도 설정),
+     * 다르면 본문을 조회해 200 (본문이 없으면 404)
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest webRequest, String etag, Supplier<T> body) {
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        T value = body.get();
+        return value != null
+            ? ResponseEntity.ok().cacheControl(REVALIDATE).body(value)
+            : ResponseEntity.notFound().build();
+    }
+}
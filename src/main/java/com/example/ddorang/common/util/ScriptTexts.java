@@ -0,0 +1,114 @@
+package com.example.ddorang.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대본/전사 텍스트 비교 계산 (대본 해시, 단어 분리, 대본-발화 일치도, 빠뜨린 문장)
+ * 영상 분석 저장, 대본 재분석, 응답 DTO에서 같이 쓴다.
+ */
+public final class ScriptTexts {
+
+    // 문장 토큰 중 이 비율 이상이 발화에 나오면 말한 것으로 봄
+    private static final double SPOKEN_SENTENCE_RATIO = 0.5;
+
+    private ScriptTexts() {
+    }
+
+    /**
+     * 유니코드 정규화 후 연속 공백/줄바꿈을 공백 하나로
+     */
+    public static String normalize(String script) {
+        if (script == null) {
+            return "";
+        }
+        return Normalizer.normalize(script, Normalizer.Form.NFC)
+            .replaceAll("\\s+", " ")
+            .trim();
+    }
+
+    /**
+     * 대본 변경 여부 판단용 해시 - 공백/줄바꿈 차이는 같은 대본으로 본다
+     */
+    public static String hash(String script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalize(script).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 비교용 단어 분리 - 유니코드 정규화, 소문자화 후 문자/숫자가 아닌 것을 구분자로 사용
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase()
+                .split("[^\\p{L}\\p{N}]+"))
+            .filter(token -> !token.isEmpty())
+            .toList();
+    }
+
+    /**
+     * 대본 단어 중 실제 발화에 나온 비율 (0~1, 같은 단어는 나온 횟수까지만 인정)
+     * 대본이나 전사가 없으면 null
+     */
+    public static Float adherence(String script, String transcription) {
+        List<String> scriptTokens = tokenize(script);
+        List<String> spokenTokens = tokenize(transcription);
+        if (scriptTokens.isEmpty() || spokenTokens.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Integer> spoken = new HashMap<>();
+        for (String token : spokenTokens) {
+            spoken.merge(token, 1, Integer::sum);
+        }
+
+        int matched = 0;
+        for (String token : scriptTokens) {
+            Integer remaining = spoken.get(token);
+            if (remaining != null && remaining > 0) {
+                spoken.put(token, remaining - 1);
+                matched++;
+            }
+        }
+        return (float) matched / scriptTokens.size();
+    }
+
+    /**
+     * 대본 문장 중 발화에서 빠진 문장
+     */
+    public static List<String> missedSentences(String script, String transcription) {
+        List<String> missed = new ArrayList<>();
+        if (script == null || script.isBlank()) {
+            return missed;
+        }
+        Set<String> spoken = new HashSet<>(tokenize(transcription));
+
+        for (String sentence : script.split("(?<=[.?!。])\\s+|\\n+")) {
+            List<String> sentenceTokens = tokenize(sentence);
+            if (sentenceTokens.isEmpty()) {
+                continue;
+            }
+            long found = sentenceTokens.stream().filter(spoken::contains).count();
+            if (found < sentenceTokens.size() * SPOKEN_SENTENCE_RATIO) {
+                missed.add(sentence.trim());
+            }
+        }
+        return missed;
+    }
+}
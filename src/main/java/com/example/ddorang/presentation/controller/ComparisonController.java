@@ -1,16 +1,20 @@
 package com.example.ddorang.presentation.controller;
 
 import com.example.ddorang.presentation.dto.ComparisonResponseDto;
+import com.example.ddorang.presentation.entity.PresentationComparisonJob;
+import com.example.ddorang.presentation.service.ComparisonJobService;
 import com.example.ddorang.presentation.service.ComparisonService;
 import com.example.ddorang.auth.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -20,6 +24,7 @@ import java.util.UUID;
 public class ComparisonController {
     
     private final ComparisonService comparisonService;
+    private final ComparisonJobService comparisonJobService;
     
     /**
      * 두 발표 비교
@@ -40,6 +45,47 @@ public class ComparisonController {
         return ResponseEntity.ok(comparison);
     }
     
+    /**
+     * 두 발표 비교 (비동기) - 작업 ID를 즉시 반환하고 결과는 /user/queue/comparisons 또는 상태 조회로 확인
+     */
+    @PostMapping("/{presentationId}/compare-with/{otherPresentationId}/async")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Map<String, Object>> comparePresentationsAsync(
+            @PathVariable UUID presentationId,
+            @PathVariable UUID otherPresentationId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        UUID userId = userDetails.getUser().getUserId();
+        log.info("비동기 발표 비교 요청 - 사용자: {}, 발표1: {}, 발표2: {}", userId, presentationId, otherPresentationId);
+        
+        PresentationComparisonJob job = comparisonJobService.createJob(userId, presentationId, otherPresentationId);
+        comparisonJobService.runJob(job.getId());
+        
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "jobId", job.getId(),
+                "status", job.getStatus().toString().toLowerCase(),
+                "message", "발표 비교가 시작되었습니다."
+        ));
+    }
+    
+    /**
+     * 비동기 비교 작업 상태 조회
+     */
+    @GetMapping("/comparison-jobs/{jobId}")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Map<String, Object>> getComparisonJobStatus(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        Map<String, Object> status = comparisonJobService.getJobStatus(userDetails.getUser().getUserId(), jobId);
+        
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        return ResponseEntity.ok(status);
+    }
+    
     /**
      * 사용자의 모든 비교 기록 조회
      */
@@ -8,9 +8,11 @@ import com.example.ddorang.presentation.service.PresentationService;
 import com.example.ddorang.presentation.dto.PresentationResponse;
 import com.example.ddorang.presentation.entity.VideoAnalysisJob;
 import com.example.ddorang.presentation.service.VideoAnalysisService;
-import com.example.ddorang.presentation.service.FastApiPollingService;
+import com.example.ddorang.presentation.service.VideoAnalysisDispatcher;
+import com.example.ddorang.presentation.service.VideoAnalysisJobClaimService;
 import com.example.ddorang.presentation.dto.VideoAnalysisResponse;
 import com.example.ddorang.presentation.dto.VideoAnalysisJobSummary;
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -34,7 +37,7 @@ public class PresentationController {
     private final AuthorizationService authorizationService;
     private final ObjectMapper objectMapper;
     private final VideoAnalysisService videoAnalysisService;
-    private final FastApiPollingService fastApiPollingService;
+    private final VideoAnalysisDispatcher videoAnalysisDispatcher;
     
     // 새 프레젠테이션 생성
     @PostMapping("/topics/{topicId}/presentations")
@@ -183,21 +186,41 @@ public class PresentationController {
         authorizationService.requirePresentationModifyPermission(presentationId);
 
         try {
-            // 프레젠테이션에 영상 파일 저장
-            Presentation presentation = presentationService.updateVideoFile(presentationId, videoFile);
+            // 이미 분석 중이면 영상을 덮어쓰지 않고 기존 작업 반환
+            Optional<VideoAnalysisJob> activeJob = presentationService.findActiveVideoAnalysisJob(presentationId);
+            if (activeJob.isPresent()) {
+                return ResponseEntity.ok(existingJobResponse(activeJob.get(), presentationId));
+            }
 
-            // 비동기 분석 작업 생성
-            VideoAnalysisJob job = presentationService.createVideoAnalysisJob(
-                presentation,
-                videoFile.getOriginalFilename(),
-                videoFile.getSize()
-            );
+            // 영상은 새 경로에 저장하고 작업을 만든 요청만 발표 영상으로 바꿈
+            String videoUrl = presentationService.storeVideoUpload(presentationId, videoFile);
+
+            // 비동기 분석 작업 생성 (동시에 들어온 요청은 하나만 생성)
+            VideoAnalysisJobClaimService.Claim claim;
+            try {
+                claim = presentationService.createVideoAnalysisJob(
+                    presentationService.getPresentationById(presentationId),
+                    videoUrl,
+                    videoFile.getOriginalFilename(),
+                    videoFile.getSize()
+                );
+            } catch (RuntimeException e) {
+                presentationService.discardVideoUpload(videoUrl);
+                throw e;
+            }
+            VideoAnalysisJob job = claim.job();
+            if (!claim.created()) {
+                // 진행 중인 작업이 분석하는 영상을 덮어쓰지 않도록 이번 업로드는 버림
+                presentationService.discardVideoUpload(videoUrl);
+                return ResponseEntity.ok(existingJobResponse(job, presentationId));
+            }
+            presentationService.useVideoUpload(presentationId, videoUrl);
 
             // DB에 초기 상태 저장
             videoAnalysisService.initializeJob(job);
 
-            // FastAPI 폴링 시작 (백그라운드)
-            fastApiPollingService.startVideoAnalysis(job);
+            // 분석 대기열에 등록 (예상 비용이 작은 작업부터 FastAPI로 전송)
+            videoAnalysisDispatcher.submit(job);
 
             // 즉시 응답 반환
             VideoAnalysisResponse response = VideoAnalysisResponse.builder()
@@ -216,6 +239,17 @@ public class PresentationController {
         }
     }
 
+    // 이미 진행 중인 작업 응답
+    private VideoAnalysisResponse existingJobResponse(VideoAnalysisJob job, UUID presentationId) {
+        log.info("이미 진행 중인 분석 작업 반환 - 작업 ID: {}", job.getId());
+        return VideoAnalysisResponse.builder()
+            .jobId(job.getId())
+            .presentationId(presentationId)
+            .status(job.getStatus().toString().toLowerCase())
+            .message("이미 진행 중인 영상 분석 작업이 있습니다. 완료되면 알림을 보내드릴게요!")
+            .build();
+    }
+
     // 진행 상태 조회 - 프론트엔드가 폴링하며 확인
     @GetMapping("/video-analysis/{jobId}/progress")
     public ResponseEntity<Map<String, Object>> getAnalysisProgress(@PathVariable UUID jobId) {
@@ -239,7 +273,7 @@ public class PresentationController {
 
     // 분석 결과 조회 - 작업 완료 후 AI 분석 결과를 가져옴
     @GetMapping("/video-analysis/{jobId}/result")
-    public ResponseEntity<Map<String, Object>> getAnalysisResult(@PathVariable UUID jobId) {
+    public ResponseEntity<?> getAnalysisResult(@PathVariable UUID jobId) {
 
         try {
             // 작업 상태 확인
@@ -255,7 +289,7 @@ public class PresentationController {
             }
 
             // 결과 캐시에서 분석 결과 조회
-            Map<String, Object> result = videoAnalysisService.getJobResult(jobId);
+            FastApiAnalysisResult result = videoAnalysisService.getJobResult(jobId);
 
             if (result == null) {
                 return ResponseEntity.notFound()
@@ -330,29 +364,27 @@ public class PresentationController {
         }
     }
 
-    // 분석 작업 취소 (대기 중인 작업일 경우에만)
+    // 분석 작업 취소 (대기 중이거나 처리 중인 작업)
     @DeleteMapping("/video-analysis/{jobId}")
     public ResponseEntity<Void> cancelAnalysisJob(@PathVariable UUID jobId) {
 
-        try {
-            Map<String, Object> progress = videoAnalysisService.getJobStatus(jobId);
-
-            if (progress == null) {
-                return ResponseEntity.notFound().build();
-            }
+        UUID presentationId = videoAnalysisService.getJobPresentationId(jobId);
+        if (presentationId == null) {
+            return ResponseEntity.notFound().build();
+        }
 
-            if ("processing".equals(progress.get("status"))) {
-                return ResponseEntity.badRequest().build(); // 이미 처리 중
-            }
+        authorizationService.requirePresentationModifyPermission(presentationId);
 
-            if (!"pending".equals(progress.get("status"))) {
+        try {
+            // 작업을 취소 상태로 변경 (대기/처리 중일 때만 - 그 사이 완료된 작업은 덮어쓰지 않음)
+            if (!videoAnalysisService.cancelJob(jobId)) {
                 return ResponseEntity.badRequest().build(); // 이미 완료됨
             }
 
-            // 작업을 취소 상태로 변경
-            videoAnalysisService.markJobAsFailed(jobId, "사용자에 의해 취소됨");
+            // 대기열 제거 / 실행 중인 업로드·폴링 중단 (FastAPI 취소 요청, 임시 파일 정리 포함)
+            boolean stopped = videoAnalysisDispatcher.cancel(jobId);
 
-            log.info("분석 작업 취소: {}", jobId);
+            log.info("분석 작업 취소: {} (대기열/실행 중 작업 중단: {})", jobId, stopped);
             return ResponseEntity.ok().build();
 
         } catch (Exception e) {
@@ -1,27 +1,42 @@
 package com.example.ddorang.presentation.controller;
 
 import com.example.ddorang.common.service.AuthorizationService;
+import com.example.ddorang.common.util.ETags;
 import com.example.ddorang.common.util.SecurityUtil;
 import com.example.ddorang.common.ApiPaths;
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.presentation.service.AnalysisCancellationRegistry;
 import com.example.ddorang.presentation.service.FastApiService;
 import com.example.ddorang.presentation.service.VoiceAnalysisService;
 import com.example.ddorang.presentation.service.PresentationService;
+import com.example.ddorang.presentation.service.ScriptReanalysisService;
+import com.example.ddorang.presentation.service.VideoAnalysisJobClaimService;
+import com.example.ddorang.presentation.service.VideoAnalysisService;
+import com.example.ddorang.presentation.service.VideoAnalysisStageService;
+import com.example.ddorang.presentation.service.VideoAnalysisStatusCache;
+import com.example.ddorang.presentation.dto.AnalysisResultVersions;
+import com.example.ddorang.presentation.dto.VideoAnalysisJobStatus;
+import com.example.ddorang.presentation.dto.VideoAnalysisStageMetrics;
 import com.example.ddorang.presentation.dto.VoiceAnalysisResponse;
 import com.example.ddorang.presentation.dto.SttResultResponse;
 import com.example.ddorang.presentation.dto.PresentationFeedbackResponse;
 import com.example.ddorang.presentation.entity.VideoAnalysisJob;
-import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping(ApiPaths.ROOT+"/video-analysis")
@@ -34,13 +49,25 @@ public class VideoAnalysisController {
     private final VoiceAnalysisService voiceAnalysisService;
     private final AuthorizationService authorizationService;
     private final PresentationService presentationService;
-    private final VideoAnalysisJobRepository videoAnalysisJobRepository;
+    private final ScriptReanalysisService scriptReanalysisService;
+    private final VideoAnalysisService videoAnalysisService;
+    private final AnalysisCancellationRegistry analysisCancellationRegistry;
+    private final VideoAnalysisStageService videoAnalysisStageService;
+    private final VideoAnalysisStatusCache videoAnalysisStatusCache;
+
+    // 동기 분석 응답을 기다리는 최대 시간 - 넘으면 202 + 작업 ID
+    @Value("${analysis.sync.timeout-ms:120000}")
+    private long syncAnalysisTimeoutMillis;
 
     /**
      * 비디오 파일을 업로드하여 음성 분석 수행
+     *
+     * FastAPI 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 DeferredResult로 응답한다.
+     * 분석은 영상 분석 작업으로 기록되므로, 제한 시간 안에 끝나지 않으면 202와 작업 ID를 돌려주고
+     * 분석은 계속 진행된다 (완료 시 결과 저장 + 알림, 진행 상태는 작업 ID로 조회).
      */
     @PostMapping("/analyze/{presentationId}")
-    public ResponseEntity<Map<String, Object>> analyzeVideo(
+    public DeferredResult<ResponseEntity<Map<String, Object>>> analyzeVideo(
             @PathVariable UUID presentationId,
             @RequestParam("videoFile") MultipartFile videoFile) {
 
@@ -51,30 +78,158 @@ public class VideoAnalysisController {
 
             authorizationService.requireVideoAnalysisPermission(presentationId);
 
+            // 이미 분석 중이면 그 작업을 알려줌
+            Optional<VideoAnalysisJob> activeJob = presentationService.findActiveVideoAnalysisJob(presentationId);
+            if (activeJob.isPresent()) {
+                return completed(acceptedResponse(presentationId, activeJob.get().getId(),
+                        "이미 진행 중인 영상 분석 작업이 있습니다."));
+            }
+
             // 프레젠테이션의 목표시간 조회
             Integer goalTimeSeconds = presentationService.getGoalTime(presentationId);
 
-            // FastAPI로 비디오 분석 요청 (목표시간 포함)
-            Map<String, Object> analysisResult = fastApiService.analyzeVideo(videoFile, goalTimeSeconds);
+            // 영상 저장 후 분석 작업으로 기록 (시간 초과 시 작업 ID로 이어서 조회)
+            // 영상은 새 경로에 저장하고 작업을 만든 요청만 발표 영상으로 바꿈
+            String videoUrl = presentationService.storeVideoUpload(presentationId, videoFile);
+            VideoAnalysisJobClaimService.Claim claim;
+            try {
+                claim = presentationService.createVideoAnalysisJob(presentationService.getPresentationById(presentationId),
+                        videoUrl, videoFile.getOriginalFilename(), videoFile.getSize());
+            } catch (RuntimeException e) {
+                presentationService.discardVideoUpload(videoUrl);
+                throw e;
+            }
+            UUID jobId = claim.job().getId();
+            if (!claim.created()) {
+                presentationService.discardVideoUpload(videoUrl);
+                return completed(acceptedResponse(presentationId, jobId, "이미 진행 중인 영상 분석 작업이 있습니다."));
+            }
+            presentationService.useVideoUpload(presentationId, videoUrl);
+            videoAnalysisService.updateJobStatus(jobId, "processing", "FastAPI에서 분석 중...");
+
+            DeferredResult<ResponseEntity<Map<String, Object>>> deferredResult = new DeferredResult<>(
+                    syncAnalysisTimeoutMillis,
+                    () -> {
+                        log.info("비디오 분석 응답 시간 초과 - 작업 ID로 전환: presentationId={}, jobId={}", presentationId, jobId);
+                        return acceptedResponse(presentationId, jobId,
+                                "분석이 진행 중입니다. 완료되면 알림을 보내드릴게요!");
+                    });
+
+            AnalysisCancellationRegistry.CancellationToken token = analysisCancellationRegistry.register(jobId);
+
+            // 동기 분석은 업로드와 분석이 한 요청이라 업로드 완료/첫 폴링 없이 FastAPI 완료까지 기록
+            videoAnalysisStageService.started(jobId);
+            videoAnalysisStageService.uploadStarted(jobId);
+
+            // FastAPI로 비디오 분석 요청 (목표시간 포함) - 완료 콜백은 블로킹 작업용 스레드에서 실행됨
+            fastApiService.analyzeVideoAsync(videoFile, goalTimeSeconds)
+                    .whenComplete((analysisResult, error) -> {
+                        try {
+                            if (token.isCancelled()) {
+                                log.info("취소된 비디오 분석 결과 무시: {}", jobId);
+                                deferredResult.setResult(acceptedResponse(presentationId, jobId, "사용자에 의해 취소된 분석입니다."));
+                                return;
+                            }
+                            if (error != null) {
+                                failAnalysis(presentationId, jobId, deferredResult, error);
+                                return;
+                            }
+
+                            // 결과 저장 + 작업 완료 + 알림
+                            videoAnalysisStageService.upstreamCompleted(jobId);
+                            videoAnalysisService.completeJob(jobId, analysisResult);
+
+                            Map<String, Object> response = new HashMap<>();
+                            response.put("success", true);
+                            response.put("message", "비디오 분석이 완료되었습니다.");
+                            response.put("presentationId", presentationId);
+                            response.put("jobId", jobId);
+                            response.put("analysisResult", analysisResult);
+                            deferredResult.setResult(ResponseEntity.ok(response));
+
+                        } catch (Exception e) {
+                            failAnalysis(presentationId, jobId, deferredResult, e);
+                        } finally {
+                            analysisCancellationRegistry.unregister(jobId);
+                        }
+                    });
+
+            return deferredResult;
+
+        } catch (Exception e) {
+            log.error("비디오 분석 실패: presentationId={}", presentationId, e);
+            return completed(errorResponse(presentationId, e));
+        }
+    }
+
+    private void failAnalysis(UUID presentationId, UUID jobId,
+                              DeferredResult<ResponseEntity<Map<String, Object>>> deferredResult, Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        log.error("비디오 분석 실패: presentationId={}", presentationId, error);
+        videoAnalysisService.markJobAsFailed(jobId, "분석 실패: " + error.getMessage());
+        deferredResult.setResult(errorResponse(presentationId, error));
+    }
+
+    private DeferredResult<ResponseEntity<Map<String, Object>>> completed(ResponseEntity<Map<String, Object>> response) {
+        DeferredResult<ResponseEntity<Map<String, Object>>> deferredResult = new DeferredResult<>();
+        deferredResult.setResult(response);
+        return deferredResult;
+    }
+
+    private ResponseEntity<Map<String, Object>> acceptedResponse(UUID presentationId, UUID jobId, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("presentationId", presentationId);
+        response.put("jobId", jobId);
+        response.put("status", "processing");
+        return ResponseEntity.accepted().body(response);
+    }
+
+    private ResponseEntity<Map<String, Object>> errorResponse(UUID presentationId, Throwable e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", "비디오 분석 중 오류가 발생했습니다: " + e.getMessage());
+        errorResponse.put("presentationId", presentationId);
+        return ResponseEntity.status(500).body(errorResponse);
+    }
+
+    /**
+     * 대본만 수정된 경우의 재분석 - 저장된 STT/음성 분석을 재사용하고 대본 의존 결과만 다시 계산
+     */
+    @PostMapping("/reanalyze-script/{presentationId}")
+    public ResponseEntity<Map<String, Object>> reanalyzeScript(@PathVariable UUID presentationId) {
+
+        authorizationService.requireVideoAnalysisPermission(presentationId);
 
-            // 분석 결과를 DB에 저장
-            voiceAnalysisService.saveAnalysisResults(presentationId, analysisResult);
+        try {
+            ScriptReanalysisService.Result result = scriptReanalysisService.reanalyze(presentationId);
 
-            // 응답 데이터 구성
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "비디오 분석이 완료되었습니다.");
+            response.put("message", result.reused() ? "대본이 변경되지 않아 기존 결과를 반환합니다." : "대본 재분석이 완료되었습니다.");
             response.put("presentationId", presentationId);
-            response.put("analysisResult", analysisResult);
+            response.put("sttResult", result.sttResult());
+            response.put("missedSentences", result.missedSentences());
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalStateException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("presentationId", presentationId);
+
+            return ResponseEntity.status(409).body(errorResponse);
+
         } catch (Exception e) {
-            log.error("비디오 분석 실패: presentationId={}", presentationId, e);
+            log.error("대본 재분석 실패: presentationId={}", presentationId, e);
 
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
-            errorResponse.put("message", "비디오 분석 중 오류가 발생했습니다: " + e.getMessage());
+            errorResponse.put("message", "대본 재분석 중 오류가 발생했습니다: " + e.getMessage());
             errorResponse.put("presentationId", presentationId);
 
             return ResponseEntity.status(500).body(errorResponse);
@@ -85,15 +240,15 @@ public class VideoAnalysisController {
      * 프레젠테이션의 음성 분석 결과 조회
      */
     @GetMapping("/voice-analysis/{presentationId}")
-    public ResponseEntity<VoiceAnalysisResponse> getVoiceAnalysis(@PathVariable UUID presentationId) {
+    public ResponseEntity<VoiceAnalysisResponse> getVoiceAnalysis(@PathVariable UUID presentationId,
+                                                                  WebRequest webRequest) {
         try {
-            VoiceAnalysisResponse voiceAnalysis = voiceAnalysisService.getVoiceAnalysis(presentationId);
-
-            if (voiceAnalysis != null) {
-                return ResponseEntity.ok(voiceAnalysis);
-            } else {
+            AnalysisResultVersions versions = voiceAnalysisService.getAnalysisResultVersions(presentationId);
+            if (versions == null || versions.voiceAnalysisId() == null) {
                 return ResponseEntity.notFound().build();
             }
+            return ETags.conditional(webRequest, versions.voiceAnalysisETag(),
+                () -> voiceAnalysisService.getVoiceAnalysis(presentationId));
         } catch (Exception e) {
             log.error("음성 분석 결과 조회 실패: presentationId={}", presentationId, e);
             return ResponseEntity.status(500).build();
@@ -104,15 +259,15 @@ public class VideoAnalysisController {
      * 프레젠테이션의 STT 결과 조회
      */
     @GetMapping("/stt-result/{presentationId}")
-    public ResponseEntity<SttResultResponse> getSttResult(@PathVariable UUID presentationId) {
+    public ResponseEntity<SttResultResponse> getSttResult(@PathVariable UUID presentationId,
+                                                          WebRequest webRequest) {
         try {
-            SttResultResponse sttResult = voiceAnalysisService.getSttResult(presentationId);
-
-            if (sttResult != null) {
-                return ResponseEntity.ok(sttResult);
-            } else {
+            AnalysisResultVersions versions = voiceAnalysisService.getAnalysisResultVersions(presentationId);
+            if (versions == null || versions.sttResultId() == null) {
                 return ResponseEntity.notFound().build();
             }
+            return ETags.conditional(webRequest, versions.sttResultETag(),
+                () -> voiceAnalysisService.getSttResult(presentationId));
         } catch (Exception e) {
             log.error("STT 결과 조회 실패: presentationId={}", presentationId, e);
             return ResponseEntity.status(500).build();
@@ -123,15 +278,15 @@ public class VideoAnalysisController {
      * 프레젠테이션의 피드백 결과 조회
      */
     @GetMapping("/feedback/{presentationId}")
-    public ResponseEntity<PresentationFeedbackResponse> getPresentationFeedback(@PathVariable UUID presentationId) {
+    public ResponseEntity<PresentationFeedbackResponse> getPresentationFeedback(@PathVariable UUID presentationId,
+                                                                                WebRequest webRequest) {
         try {
-            PresentationFeedbackResponse feedback = voiceAnalysisService.getPresentationFeedback(presentationId);
-
-            if (feedback != null) {
-                return ResponseEntity.ok(feedback);
-            } else {
+            AnalysisResultVersions versions = voiceAnalysisService.getAnalysisResultVersions(presentationId);
+            if (versions == null || versions.feedbackId() == null) {
                 return ResponseEntity.notFound().build();
             }
+            return ETags.conditional(webRequest, versions.feedbackETag(),
+                () -> voiceAnalysisService.getPresentationFeedback(presentationId));
         } catch (Exception e) {
             log.error("피드백 결과 조회 실패: presentationId={}", presentationId, e);
             return ResponseEntity.status(500).build();
@@ -142,24 +297,23 @@ public class VideoAnalysisController {
      * 프레젠테이션의 모든 분석 결과 조회
      */
     @GetMapping("/results/{presentationId}")
-    public ResponseEntity<Map<String, Object>> getAllAnalysisResults(@PathVariable UUID presentationId) {
+    public ResponseEntity<Map<String, Object>> getAllAnalysisResults(@PathVariable UUID presentationId,
+                                                                     WebRequest webRequest) {
         try {
-            // 프레젠테이션 존재 여부 확인
-            if (!presentationService.hasPresentation(presentationId)) {
+            // 프레젠테이션이 없으면 버전도 없음
+            AnalysisResultVersions versions = voiceAnalysisService.getAnalysisResultVersions(presentationId);
+            if (versions == null) {
                 log.warn("프레젠테이션을 찾을 수 없습니다: {}", presentationId);
                 return ResponseEntity.notFound().build();
             }
 
-            VoiceAnalysisResponse voiceAnalysis = voiceAnalysisService.getVoiceAnalysis(presentationId);
-            SttResultResponse sttResult = voiceAnalysisService.getSttResult(presentationId);
-            PresentationFeedbackResponse feedback = voiceAnalysisService.getPresentationFeedback(presentationId);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("voiceAnalysis", voiceAnalysis);
-            response.put("sttResult", sttResult);
-            response.put("feedback", feedback);
-
-            return ResponseEntity.ok(response);
+            return ETags.conditional(webRequest, versions.allETag(), () -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("voiceAnalysis", voiceAnalysisService.getVoiceAnalysis(presentationId));
+                response.put("sttResult", voiceAnalysisService.getSttResult(presentationId));
+                response.put("feedback", voiceAnalysisService.getPresentationFeedback(presentationId));
+                return response;
+            });
 
         } catch (Exception e) {
             log.error("분석 결과 조회 실패: presentationId={}", presentationId, e);
@@ -191,18 +345,19 @@ public class VideoAnalysisController {
      * 프레젠테이션의 분석 상태 확인
      */
     @GetMapping("/{presentationId}/status")
-    public ResponseEntity<Map<String, Object>> getAnalysisStatus(@PathVariable UUID presentationId) {
+    public ResponseEntity<Map<String, Object>> getAnalysisStatus(@PathVariable UUID presentationId,
+                                                                 WebRequest webRequest) {
         try {
-            // 프레젠테이션 존재 여부 확인
-            if (!presentationService.hasPresentation(presentationId)) {
-                log.warn("프레젠테이션을 찾을 수 없습니다: {}", presentationId);
-                return ResponseEntity.notFound().build();
-            }
+            // 최신 작업 상태 (상태 캐시 - 작업 상태가 바뀔 때마다 갱신되므로 폴링 중에는 DB를 거치지 않음)
+            VideoAnalysisJobStatus latestJob = videoAnalysisStatusCache.getLatest(presentationId);
+
+            if (latestJob == null) {
+                // 프레젠테이션 존재 여부 확인
+                if (!presentationService.hasPresentation(presentationId)) {
+                    log.warn("프레젠테이션을 찾을 수 없습니다: {}", presentationId);
+                    return ResponseEntity.notFound().build();
+                }
 
-            // 프레젠테이션의 최신 분석 작업 조회
-            List<VideoAnalysisJob> jobs = videoAnalysisJobRepository.findByPresentationIdOrderByCreatedAtDesc(presentationId);
-            
-            if (jobs.isEmpty()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("presentationId", presentationId);
                 response.put("status", "not_started");
@@ -211,15 +366,29 @@ public class VideoAnalysisController {
                 return ResponseEntity.ok(response);
             }
 
-            VideoAnalysisJob latestJob = jobs.get(0);
-            Map<String, Object> response = new HashMap<>();
-            response.put("presentationId", presentationId);
-            response.put("status", latestJob.getStatus().toString().toLowerCase());
-            response.put("message", getStatusMessage(latestJob));
-            response.put("progress", getProgressPercentage(latestJob));
-            response.put("createdAt", latestJob.getCreatedAt().toString());
+            // 분석 노드가 Redis에 올려 둔 예비 피드백 (전체 결과가 저장되기 전까지)
+            // 전사 내용(자주 쓴 단어, 군말)이라 상태와 달리 분석 권한이 있는 사용자에게만 보여줌
+            Map<String, Object> preliminary = latestJob.status().isInProgress()
+                    && authorizationService.hasVideoAnalysisPermission(presentationId)
+                ? videoAnalysisService.getPreliminaryFeedback(latestJob.jobId())
+                : null;
 
-            return ResponseEntity.ok(response);
+            // 상태와 예비 피드백이 그대로면 본문 없이 304
+            String etag = ETags.weak(latestJob.jobId(), latestJob.status(), latestJob.updatedAt(), preliminary);
+            return ETags.conditional(webRequest, etag, () -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("presentationId", presentationId);
+                response.put("jobId", latestJob.jobId());
+                response.put("status", latestJob.status().toString().toLowerCase());
+                response.put("message", getStatusMessage(latestJob.status(), latestJob.errorMessage()));
+                response.put("progress", getProgressPercentage(latestJob.status()));
+                response.put("createdAt", latestJob.createdAt().toString());
+                response.put("updatedAt", latestJob.updatedAt().toString());
+                if (preliminary != null) {
+                    response.put("preliminaryFeedback", preliminary);
+                }
+                return response;
+            });
 
         } catch (Exception e) {
             log.error("분석 상태 확인 실패: presentationId={}", presentationId, e);
@@ -227,17 +396,37 @@ public class VideoAnalysisController {
         }
     }
 
-    private String getStatusMessage(VideoAnalysisJob job) {
-        return switch (job.getStatus()) {
+    /**
+     * 최근 hours시간 동안 생성된 분석 작업의 단계별 소요 시간 p50/p95/p99 (ms)
+     * 단계: queue, upload, firstPoll, upstream, persist, notify, total
+     * 전체 사용자의 작업 지표라 관리자(security.admin-emails)만 조회
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stage-metrics")
+    public ResponseEntity<VideoAnalysisStageMetrics> getStageMetrics(
+            @RequestParam(defaultValue = "24") int hours) {
+        try {
+            // 최대 30일
+            int windowHours = Math.max(1, Math.min(hours, 24 * 30));
+            return ResponseEntity.ok(videoAnalysisStageService.summarize(Duration.ofHours(windowHours)));
+
+        } catch (Exception e) {
+            log.error("분석 단계 지표 조회 실패: hours={}", hours, e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+
+    private String getStatusMessage(JobStatus status, String errorMessage) {
+        return switch (status) {
             case PENDING -> "분석 대기 중입니다...";
             case PROCESSING -> "분석을 진행하고 있습니다...";
             case COMPLETED -> "분석이 완료되었습니다.";
-            case FAILED -> "분석에 실패했습니다: " + job.getErrorMessage();
+            case FAILED -> "분석에 실패했습니다: " + errorMessage;
         };
     }
 
-    private int getProgressPercentage(VideoAnalysisJob job) {
-        return switch (job.getStatus()) {
+    private int getProgressPercentage(JobStatus status) {
+        return switch (status) {
             case PENDING -> 10;
             case PROCESSING -> 50;
             case COMPLETED -> 100;
@@ -0,0 +1,42 @@
+package com.example.ddorang.presentation.dto;
+
+import com.example.ddorang.common.util.ETags;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 발표의 분석 결과 행(voice_analysis, stt_result, presentation_feedback)별 ID와 수정 시각
+ * 조회 API의 ETag 계산용 - 없는 결과는 null
+ *
+ * 결과는 재분석 때 지우고 다시 만들어 ID가 바뀌므로, 수정 시각이 없는 기존 행도 ID로 구분된다.
+ * 응답에는 발표 제목과 대본 기준 값(scriptOutdated)도 들어가므로 모든 ETag에 발표 수정 시각을 포함한다.
+ */
+public record AnalysisResultVersions(
+    LocalDateTime presentationUpdatedAt,
+    UUID voiceAnalysisId,
+    LocalDateTime voiceAnalysisUpdatedAt,
+    UUID sttResultId,
+    LocalDateTime sttResultUpdatedAt,
+    UUID feedbackId,
+    LocalDateTime feedbackUpdatedAt
+) {
+
+    public String voiceAnalysisETag() {
+        return ETags.weak("voice", presentationUpdatedAt, voiceAnalysisId, voiceAnalysisUpdatedAt);
+    }
+
+    public String sttResultETag() {
+        return ETags.weak("stt", presentationUpdatedAt, sttResultId, sttResultUpdatedAt);
+    }
+
+    public String feedbackETag() {
+        return ETags.weak("feedback", presentationUpdatedAt, feedbackId, feedbackUpdatedAt);
+    }
+
+    // 세 결과 전체 (/results)
+    public String allETag() {
+        return ETags.weak("all", presentationUpdatedAt, voiceAnalysisId, voiceAnalysisUpdatedAt, sttResultId, sttResultUpdatedAt,
+            feedbackId, feedbackUpdatedAt);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.ddorang.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.Builder;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * FastAPI 분석 결과 (/analysis, /result/{job_id}의 result)
+ *
+ * FastApiResultParser가 응답 본문에서 스트리밍 방식으로 바로 채운다.
+ * 구조가 고정되지 않은 값(feedback 하위 항목, 예상 질문, 알 수 없는 필드)은
+ * 맵으로 풀지 않고 원본 JSON 문자열 그대로 보관하며, 응답으로 내보낼 때도 그대로 쓴다.
+ */
+@Builder(toBuilder = true)
+@JsonSerialize(using = FastApiAnalysisResult.Writer.class)
+public record FastApiAnalysisResult(
+        // 음성 강도 분석
+        String intensityGrade,
+        Float intensityDb,
+        String intensityText,
+        // 피치 분석
+        String pitchGrade,
+        Float pitchAvg,
+        String pitchText,
+        // WPM 분석
+        String wpmGrade,
+        Float wpmAvg,
+        String wpmComment,
+        // 불안 분석
+        String anxietyGrade,
+        Float anxietyRatio,
+        String anxietyAnalysisJson,
+        // STT
+        String transcription,
+        Float pronunciationScore,
+        String adjustedScript,
+        String correctedTranscription,
+        Integer durationSeconds,
+        // 피드백
+        Feedback feedback,
+        String predictedQuestionsJson,
+        // 정의되지 않은 필드 (필드명 → 원본 JSON)
+        Map<String, String> extras) {
+
+    /**
+     * feedback 객체 - 각 항목은 원본 JSON 문자열 (DB에도 JSON 문자열로 저장됨)
+     */
+    @Builder
+    public record Feedback(
+            String frequentWordsJson,
+            String awkwardSentencesJson,
+            String difficultyIssuesJson,
+            Map<String, String> extras) {
+    }
+
+    /**
+     * FastAPI 응답과 같은 snake_case 구조로 직렬화
+     */
+    public static class Writer extends StdSerializer<FastApiAnalysisResult> {
+
+        public Writer() {
+            super(FastApiAnalysisResult.class);
+        }
+
+        @Override
+        public void serialize(FastApiAnalysisResult result, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            writeString(gen, "intensity_grade", result.intensityGrade());
+            writeFloat(gen, "intensity_db", result.intensityDb());
+            writeString(gen, "intensity_text", result.intensityText());
+            writeString(gen, "pitch_grade", result.pitchGrade());
+            writeFloat(gen, "pitch_avg", result.pitchAvg());
+            writeString(gen, "pitch_text", result.pitchText());
+            writeString(gen, "wpm_grade", result.wpmGrade());
+            writeFloat(gen, "wpm_avg", result.wpmAvg());
+            writeString(gen, "wpm_comment", result.wpmComment());
+            writeString(gen, "anxiety_grade", result.anxietyGrade());
+            writeFloat(gen, "anxiety_ratio", result.anxietyRatio());
+            writeRaw(gen, "anxiety_analysis", result.anxietyAnalysisJson());
+            writeString(gen, "transcription", result.transcription());
+            writeFloat(gen, "pronunciation_score", result.pronunciationScore());
+            writeString(gen, "adjusted_script", result.adjustedScript());
+            writeString(gen, "corrected_transcription", result.correctedTranscription());
+            if (result.durationSeconds() != null) {
+                gen.writeNumberField("duration_seconds", result.durationSeconds());
+            }
+
+            Feedback feedback = result.feedback();
+            if (feedback != null) {
+                gen.writeObjectFieldStart("feedback");
+                writeRaw(gen, "frequent_words", feedback.frequentWordsJson());
+                writeRaw(gen, "awkward_sentences", feedback.awkwardSentencesJson());
+                writeRaw(gen, "difficulty_issues", feedback.difficultyIssuesJson());
+                writeExtras(gen, feedback.extras());
+                gen.writeEndObject();
+            }
+
+            writeRaw(gen, "predicted_questions", result.predictedQuestionsJson());
+            writeExtras(gen, result.extras());
+            gen.writeEndObject();
+        }
+
+        private void writeString(JsonGenerator gen, String name, String value) throws IOException {
+            if (value != null) {
+                gen.writeStringField(name, value);
+            }
+        }
+
+        private void writeFloat(JsonGenerator gen, String name, Float value) throws IOException {
+            if (value != null) {
+                gen.writeNumberField(name, value);
+            }
+        }
+
+        private void writeRaw(JsonGenerator gen, String name, String rawJson) throws IOException {
+            if (rawJson != null) {
+                gen.writeFieldName(name);
+                gen.writeRawValue(rawJson);
+            }
+        }
+
+        private void writeExtras(JsonGenerator gen, Map<String, String> extras) throws IOException {
+            if (extras == null) {
+                return;
+            }
+            for (Map.Entry<String, String> entry : extras.entrySet()) {
+                writeRaw(gen, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+}
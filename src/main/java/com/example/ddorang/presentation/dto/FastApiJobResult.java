@@ -0,0 +1,11 @@
+package com.example.ddorang.presentation.dto;
+
+/**
+ * FastAPI /result/{job_id} 폴링 응답
+ *
+ * @param status "processing", "completed", "error", "not_found"
+ * @param error  status가 error일 때 오류 메시지
+ * @param result status가 completed일 때 분석 결과
+ */
+public record FastApiJobResult(String status, String error, FastApiAnalysisResult result) {
+}
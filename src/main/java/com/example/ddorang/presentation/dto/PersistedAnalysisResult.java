@@ -0,0 +1,67 @@
+package com.example.ddorang.presentation.dto;
+
+/**
+ * 저장된 분석 결과 테이블(voice_analysis, stt_result, presentation_feedback)을 발표 ID로 묶어 읽은 한 행
+ * 세 테이블 중 없는 쪽의 값은 null
+ */
+public record PersistedAnalysisResult(
+    // voice_analysis
+    String intensityGrade,
+    Float intensityDb,
+    String intensityText,
+    String pitchGrade,
+    Float pitchAvg,
+    String pitchText,
+    String wpmGrade,
+    Float wpmAvg,
+    String wpmComment,
+    String anxietyGrade,
+    Float anxietyRatio,
+    // stt_result
+    String transcription,
+    Float pronunciationScore,
+    String adjustedScript,
+    String correctedScript,
+    // presentation_feedback (JSON 문자열)
+    String frequentWords,
+    String awkwardSentences,
+    String difficultyIssues,
+    String predictedQuestions
+) {
+
+    /**
+     * 저장 시(VoiceAnalysisService.saveAnalysisResults)의 매핑을 거꾸로 적용한 분석 결과
+     * 저장하지 않는 값(불안 분석 상세, 영상 길이, 알 수 없는 필드)은 비어 있고,
+     * 자주 쓴 단어는 FastAPI 값이 아니라 서버에서 전사 텍스트로 계산해 저장한 값이다.
+     */
+    public FastApiAnalysisResult toResult() {
+        FastApiAnalysisResult.Feedback feedback = frequentWords == null && awkwardSentences == null
+                && difficultyIssues == null
+            ? null
+            : FastApiAnalysisResult.Feedback.builder()
+                .frequentWordsJson(frequentWords)
+                .awkwardSentencesJson(awkwardSentences)
+                .difficultyIssuesJson(difficultyIssues)
+                .build();
+
+        return FastApiAnalysisResult.builder()
+            .intensityGrade(intensityGrade)
+            .intensityDb(intensityDb)
+            .intensityText(intensityText)
+            .pitchGrade(pitchGrade)
+            .pitchAvg(pitchAvg)
+            .pitchText(pitchText)
+            .wpmGrade(wpmGrade)
+            .wpmAvg(wpmAvg)
+            .wpmComment(wpmComment)
+            .anxietyGrade(anxietyGrade)
+            .anxietyRatio(anxietyRatio)
+            .transcription(transcription)
+            .pronunciationScore(pronunciationScore)
+            .adjustedScript(adjustedScript)
+            .correctedTranscription(correctedScript)
+            .feedback(feedback)
+            .predictedQuestionsJson(predictedQuestions)
+            .build();
+    }
+}
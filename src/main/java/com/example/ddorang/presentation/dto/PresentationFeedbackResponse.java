@@ -26,6 +26,9 @@ public class PresentationFeedbackResponse {
     // 자주 사용된 단어들
     private List<String> frequentWords;
     
+    // 습관어 사용 횟수 ({"word": ..., "count": n})
+    private List<Map<String, Object>> fillerWords;
+    
     // 어색한 문장들
     private List<Map<String, String>> awkwardSentences;
     
@@ -35,6 +38,9 @@ public class PresentationFeedbackResponse {
     // 예측된 질문들
     private List<String> predictedQuestions;
     
+    // 대본에서 발화에 빠진 문장들
+    private List<String> missedSentences;
+    
     // Entity에서 DTO로 변환하는 정적 메서드
     public static PresentationFeedbackResponse from(PresentationFeedback feedback) {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -43,6 +49,9 @@ public class PresentationFeedbackResponse {
             List<String> frequentWords = feedback.getFrequentWords() != null ?
                     objectMapper.readValue(feedback.getFrequentWords(), new TypeReference<List<String>>() {}) : null;
             
+            List<Map<String, Object>> fillerWords = feedback.getFillerWords() != null ?
+                    objectMapper.readValue(feedback.getFillerWords(), new TypeReference<List<Map<String, Object>>>() {}) : null;
+            
             List<Map<String, String>> awkwardSentences = feedback.getAwkwardSentences() != null ?
                     objectMapper.readValue(feedback.getAwkwardSentences(), new TypeReference<List<Map<String, String>>>() {}) : null;
             
@@ -52,14 +61,19 @@ public class PresentationFeedbackResponse {
             List<String> predictedQuestions = feedback.getPredictedQuestions() != null ?
                     objectMapper.readValue(feedback.getPredictedQuestions(), new TypeReference<List<String>>() {}) : null;
             
+            List<String> missedSentences = feedback.getMissedSentences() != null ?
+                    objectMapper.readValue(feedback.getMissedSentences(), new TypeReference<List<String>>() {}) : null;
+            
             return PresentationFeedbackResponse.builder()
                     .id(feedback.getId())
                     .presentationId(feedback.getPresentation().getId())
                     .presentationTitle(feedback.getPresentation().getTitle())
                     .frequentWords(frequentWords)
+                    .fillerWords(fillerWords)
                     .awkwardSentences(awkwardSentences)
                     .difficultyIssues(difficultyIssues)
                     .predictedQuestions(predictedQuestions)
+                    .missedSentences(missedSentences)
                     .build();
                     
         } catch (JsonProcessingException e) {
@@ -21,6 +21,8 @@ public class SttResultResponse {
     private Float pronunciationScore;
     private String adjustedScript;
     private String correctedScript;
+    private Float scriptAdherenceScore;
+    private boolean scriptOutdated;  // 분석 후 대본이 수정됨 (대본 재분석 필요)
     
     // Entity에서 DTO로 변환하는 정적 메서드
     public static SttResultResponse from(SttResult sttResult) {
@@ -32,6 +34,8 @@ public class SttResultResponse {
                 .pronunciationScore(sttResult.getPronunciationScore())
                 .adjustedScript(sttResult.getAdjustedScript())
                 .correctedScript(sttResult.getCorrectedScript())
+                .scriptAdherenceScore(sttResult.getScriptAdherenceScore())
+                .scriptOutdated(sttResult.isOutdatedFor(sttResult.getPresentation().getScript()))
                 .build();
     }
 } 
\ No newline at end of file
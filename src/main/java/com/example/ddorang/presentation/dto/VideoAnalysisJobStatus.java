@@ -0,0 +1,27 @@
+package com.example.ddorang.presentation.dto;
+
+import com.example.ddorang.common.enums.JobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 발표의 최신 영상 분석 작업 상태 (상태 폴링 응답용 조회 결과 / 상태 캐시 값)
+ * errorMessage는 실패한 작업일 때만 채워짐
+ */
+public record VideoAnalysisJobStatus(
+    UUID jobId,
+    JobStatus status,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    String errorMessage
+) {
+
+    public VideoAnalysisJobStatus(UUID jobId, JobStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(jobId, status, createdAt, updatedAt, null);
+    }
+
+    public VideoAnalysisJobStatus withErrorMessage(String errorMessage) {
+        return new VideoAnalysisJobStatus(jobId, status, createdAt, updatedAt, errorMessage);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.ddorang.presentation.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 기간 내 영상 분석 작업의 단계별 소요 시간 분포
+ *
+ * @param jobCount 기간 내 생성된 작업 수 (단계별 count는 그 단계를 거친 작업 수)
+ * @param stages   단계 이름 → 백분위 (queue, upload, firstPoll, upstream, persist, notify, total)
+ */
+public record VideoAnalysisStageMetrics(
+    LocalDateTime since,
+    LocalDateTime until,
+    int jobCount,
+    Map<String, StagePercentiles> stages
+) {
+
+    // 한 단계의 소요 시간 백분위 (ms, 해당 작업이 없으면 null)
+    public record StagePercentiles(int count, Long p50Ms, Long p95Ms, Long p99Ms, Long maxMs) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.ddorang.presentation.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 영상 분석 작업 한 건의 단계별 시각 (단계 지표 집계용 조회 결과)
+ * 거치지 않은 단계(실패, 동기 분석 등)는 null
+ */
+public record VideoAnalysisStageTimes(
+    LocalDateTime createdAt,
+    LocalDateTime queuedAt,
+    LocalDateTime startedAt,
+    LocalDateTime uploadStartedAt,
+    LocalDateTime uploadFinishedAt,
+    Long uploadedBytes,
+    Integer chunkCount,
+    LocalDateTime firstPolledAt,
+    LocalDateTime upstreamCompletedAt,
+    LocalDateTime persistedAt,
+    LocalDateTime notifiedAt
+) {
+
+    // 두 시각 사이 걸린 시간(ms) - 한쪽이라도 없거나 순서가 뒤집혔으면 null
+    public static Long millisBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            return null;
+        }
+        return Duration.between(from, to).toMillis();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.ddorang.presentation.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 작업별 FastAPI 분석 결과 원본 (Deflate 압축 JSON) - 캐시 재적재와 결과 재파싱용
+@Entity
+@Table(name = "analysis_result_archive",
+       indexes = {
+           @Index(name = "idx_analysis_result_archive_presentation_id", columnList = "presentation_id")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisResultArchive {
+
+    // 영상 분석 작업 ID (작업당 한 번만 저장)
+    @Id
+    @Column(name = "job_id", updatable = false, nullable = false)
+    private UUID jobId;
+
+    @Column(name = "presentation_id", nullable = false)
+    private UUID presentationId;
+
+    // FastAPI 응답과 같은 snake_case 구조의 JSON을 Deflate로 압축
+    @Lob
+    @Column(name = "compressed_json", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] compressedJson;
+
+    @Column(name = "raw_size", nullable = false)
+    private Integer rawSize;  // 압축 전 크기 (bytes)
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
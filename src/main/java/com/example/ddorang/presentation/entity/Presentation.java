@@ -40,7 +40,17 @@ public class Presentation {
     @Column(name = "goal_time")
     private Integer goalTime;
 
+    // 마지막 저장 시각 (제목/대본 수정 포함 - 분석 결과 조회 ETag에 포함)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @OneToMany(mappedBy = "presentation", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
+
+    @PrePersist
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
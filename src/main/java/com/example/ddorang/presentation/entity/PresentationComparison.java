@@ -33,6 +33,10 @@ public class PresentationComparison {
     @Column(name = "comparison_summary", columnDefinition = "TEXT")
     private String comparisonSummary;
 
+    // 비교에 사용된 입력(대본, 분석 결과 버전)의 지문 - 같으면 재비교 없이 재사용
+    @Column(name = "input_fingerprint", length = 64)
+    private String inputFingerprint;
+
     @Column(name = "created_at", updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
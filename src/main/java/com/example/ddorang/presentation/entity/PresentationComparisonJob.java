@@ -0,0 +1,68 @@
+package com.example.ddorang.presentation.entity;
+
+import com.example.ddorang.common.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//비동기 발표 비교 작업 관리 엔터티
+@Entity
+@Table(name = "presentation_comparison_job")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class PresentationComparisonJob {
+
+    @Id @GeneratedValue
+    @Column(name = "job_id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "presentation_id_1", nullable = false)
+    private UUID presentationId1;
+
+    @Column(name = "presentation_id_2", nullable = false)
+    private UUID presentationId2;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private JobStatus status = JobStatus.PENDING;
+
+    @Column(name = "progress", nullable = false)
+    @Builder.Default
+    private Integer progress = 0;  // 진행률 (0~100)
+
+    @Column(name = "message")
+    private String message;  // 현재 단계 설명
+
+    @Column(name = "comparison_id")
+    private UUID comparisonId;  // 완료 시 생성된 PresentationComparison ID
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;  // 실패 시 에러 메시지
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+
+    // 작업을 실패 상태로 변경
+    public void markAsFailed(String errorMessage) {
+        this.status = JobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    // 작업을 완료 상태로 변경
+    public void markAsCompleted(UUID comparisonId) {
+        this.status = JobStatus.COMPLETED;
+        this.progress = 100;
+        this.comparisonId = comparisonId;
+        this.completedAt = LocalDateTime.now();
+    }
+}
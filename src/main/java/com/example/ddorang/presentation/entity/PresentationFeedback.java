@@ -2,6 +2,7 @@ package com.example.ddorang.presentation.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -30,6 +31,10 @@ public class PresentationFeedback {
     @Column(name = "awkward_sentences", columnDefinition = "TEXT")
     private String awkwardSentences;
 
+    // 습관어별 사용 횟수 (JSON 형태로 저장, 전사 텍스트로 서버에서 계산)
+    @Column(name = "filler_words", columnDefinition = "TEXT")
+    private String fillerWords;
+
     // 난이도 문제들 (JSON 형태로 저장)
     @Column(name = "difficulty_issues", columnDefinition = "TEXT")
     private String difficultyIssues;
@@ -37,4 +42,18 @@ public class PresentationFeedback {
     // 예측된 질문들 (JSON 형태로 저장)
     @Column(name = "predicted_questions", columnDefinition = "TEXT")
     private String predictedQuestions;
-} 
\ No newline at end of file
+
+    // 대본에는 있지만 발화에서 빠진 문장들 (JSON 형태로 저장, 대본 재분석 시 갱신)
+    @Column(name = "missed_sentences", columnDefinition = "TEXT")
+    private String missedSentences;
+
+    // 마지막 저장 시각 (조회 API의 ETag용)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
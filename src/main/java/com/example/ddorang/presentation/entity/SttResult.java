@@ -1,7 +1,9 @@
 package com.example.ddorang.presentation.entity;
 
+import com.example.ddorang.common.util.ScriptTexts;
 import jakarta.persistence.*;
 import lombok.*;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -33,4 +35,29 @@ public class SttResult {
 
     @Column(name = "corrected_script", columnDefinition = "TEXT")
     private String correctedScript;
-} 
\ No newline at end of file
+
+    // 대본과 실제 발화의 일치도 (0~1)
+    @Column(name = "script_adherence_score")
+    private Float scriptAdherenceScore;
+
+    // adjustedScript/일치도를 계산할 때 사용한 대본의 해시 - 대본이 바뀌었는지 판단
+    @Column(name = "source_script_hash", length = 64)
+    private String sourceScriptHash;
+
+    // 마지막 저장 시각 (조회 API의 ETag용)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 분석 이후 대본이 수정되었는지 (해시가 없는 이전 결과는 판단하지 않음)
+     */
+    public boolean isOutdatedFor(String currentScript) {
+        return sourceScriptHash != null && !sourceScriptHash.equals(ScriptTexts.hash(currentScript));
+    }
+}
@@ -8,7 +8,14 @@ import java.util.UUID;
 
 //비동기 영상 분석 관리 엔터티
 @Entity
-@Table(name = "video_analysis_job")
+@Table(name = "video_analysis_job",
+       indexes = {
+           // 기간별 단계 지표 집계
+           @Index(name = "idx_video_analysis_job_created_at", columnList = "created_at"),
+           // 발표별 최신 작업 상태 조회 - 인덱스만 읽고 끝나도록 조회 컬럼까지 포함
+           @Index(name = "idx_video_analysis_job_presentation_latest",
+                  columnList = "presentation_id, created_at, status, updated_at")
+       })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class VideoAnalysisJob {
 
@@ -37,10 +44,79 @@ public class VideoAnalysisJob {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;  // 실패 시 에러 메시지
 
+    @Column(name = "fast_api_job_id")
+    private String fastApiJobId;  // FastAPI가 발급한 job_id
+
+    @Column(name = "fast_api_instance")
+    private String fastApiInstance;  // 작업을 맡은 FastAPI 인스턴스 주소 (결과 폴링 대상)
+
+    // 진행 중(PENDING/PROCESSING)일 때만 발표 ID, 끝나면 null
+    // NULL은 유니크 제약에 걸리지 않으므로 발표당 진행 중 작업이 하나뿐임을 DB가 보장
+    @Column(name = "active_presentation_id", unique = true)
+    private UUID activePresentationId;
+
+    // 이어받는 노드가 폴링을 재개할 시각 (노드 교대 시에만 기록)
+    // 점유/폴링 상태는 조건부 UPDATE로만 바꾸므로 엔티티 저장에서는 제외 (오래된 값으로 덮어쓰지 않도록)
+    @Column(name = "next_poll_at", updatable = false)
+    private LocalDateTime nextPollAt;
+
+    // 작업을 처리 중인 서버 노드와 점유 만료 시각 - 만료되거나 비어 있으면 다른 노드가 이어받음
+    @Column(name = "lease_owner", updatable = false)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at", updatable = false)
+    private LocalDateTime leaseExpiresAt;
+
+    // === 단계별 시각 (단계 지표 집계용) ===
+    // 여러 스레드가 단계마다 조건부 UPDATE로 기록하므로 점유 컬럼과 같이 엔티티 저장에서는 제외
+
+    @Column(name = "queued_at", updatable = false)
+    private LocalDateTime queuedAt;  // 디스패처 대기열 등록
+
+    @Column(name = "started_at", updatable = false)
+    private LocalDateTime startedAt;  // 대기열에서 꺼내 실행 시작
+
+    @Column(name = "upload_started_at", updatable = false)
+    private LocalDateTime uploadStartedAt;
+
+    @Column(name = "upload_finished_at", updatable = false)
+    private LocalDateTime uploadFinishedAt;  // 마지막 청크 업로드 완료 (FastAPI job_id 발급)
+
+    @Column(name = "uploaded_bytes", updatable = false)
+    private Long uploadedBytes;
+
+    @Column(name = "chunk_count", updatable = false)
+    private Integer chunkCount;
+
+    @Column(name = "first_polled_at", updatable = false)
+    private LocalDateTime firstPolledAt;  // 첫 결과 폴링 (노드 교대 후에도 처음 값 유지)
+
+    @Column(name = "upstream_completed_at", updatable = false)
+    private LocalDateTime upstreamCompletedAt;  // FastAPI 분석 완료 응답 수신
+
+    @Column(name = "persisted_at", updatable = false)
+    private LocalDateTime persistedAt;  // 분석 결과 DB 저장 완료
+
+    @Column(name = "notified_at", updatable = false)
+    private LocalDateTime notifiedAt;  // 완료 알림 발송
+
     @Column(name = "created_at", nullable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 엔티티 저장/상태 변경 시각 (조건부 UPDATE 중 상태를 바꾸는 것도 함께 갱신)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 저장할 때마다 진행 중 표시와 수정 시각 갱신
+    @PrePersist
+    @PreUpdate
+    void syncActivePresentationId() {
+        this.activePresentationId = status != null && status.isInProgress() && presentation != null
+            ? presentation.getId()
+            : null;
+        this.updatedAt = LocalDateTime.now();
+    }
 
     // 간단한 비즈니스 메서드들
     // 작업을 실패 상태로 변경 (필요 시)
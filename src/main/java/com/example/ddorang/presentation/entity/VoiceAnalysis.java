@@ -2,6 +2,7 @@ package com.example.ddorang.presentation.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -58,4 +59,14 @@ public class VoiceAnalysis {
 
     @Column(name = "anxiety_ratio")
     private Float anxietyRatio;
-} 
\ No newline at end of file
+
+    // 마지막 저장 시각 (조회 API의 ETag용)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.ddorang.presentation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 영상 분석 작업 상태 변경 이벤트 (생성, 진행, 완료, 실패, 대기열로 되돌림, 발표 삭제로 작업 삭제)
+ * 트랜잭션 커밋 후 상태 캐시 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class JobStatusChangedEvent {
+    private final UUID jobId;           // 발표 삭제 시 null
+    private final UUID presentationId;  // 모르면 null (작업 ID로 조회)
+}
@@ -0,0 +1,11 @@
+package com.example.ddorang.presentation.repository;
+
+import com.example.ddorang.presentation.entity.AnalysisResultArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface AnalysisResultArchiveRepository extends JpaRepository<AnalysisResultArchive, UUID> {
+}
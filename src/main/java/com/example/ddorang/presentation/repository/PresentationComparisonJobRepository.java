@@ -0,0 +1,15 @@
+package com.example.ddorang.presentation.repository;
+
+import com.example.ddorang.presentation.entity.PresentationComparisonJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PresentationComparisonJobRepository extends JpaRepository<PresentationComparisonJob, UUID> {
+
+    // 본인 작업만 조회 (상태 폴링용)
+    Optional<PresentationComparisonJob> findByIdAndUserId(UUID id, UUID userId);
+}
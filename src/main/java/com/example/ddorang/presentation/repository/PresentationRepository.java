@@ -1,5 +1,6 @@
 package com.example.ddorang.presentation.repository;
 
+import com.example.ddorang.presentation.dto.AnalysisResultVersions;
 import com.example.ddorang.presentation.entity.Presentation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +14,16 @@ import java.util.UUID;
 @Repository
 public interface PresentationRepository extends JpaRepository<Presentation, UUID> {
     
+    // 발표와 분석 결과 행별 ID/수정 시각 (본문 없이 ETag 계산용, 발표가 없으면 empty)
+    @Query("SELECT new com.example.ddorang.presentation.dto.AnalysisResultVersions(" +
+           "p.updatedAt, va.id, va.updatedAt, sr.id, sr.updatedAt, pf.id, pf.updatedAt) " +
+           "FROM Presentation p " +
+           "LEFT JOIN VoiceAnalysis va ON va.presentation.id = p.id " +
+           "LEFT JOIN SttResult sr ON sr.presentation.id = p.id " +
+           "LEFT JOIN PresentationFeedback pf ON pf.presentation.id = p.id " +
+           "WHERE p.id = :presentationId")
+    Optional<AnalysisResultVersions> findAnalysisResultVersions(@Param("presentationId") UUID presentationId);
+
     // 특정 토픽의 프레젠테이션 목록 조회
     @Query("SELECT p FROM Presentation p WHERE p.topic.id = :topicId ORDER BY p.createdAt DESC")
     List<Presentation> findByTopicId(@Param("topicId") UUID topicId);
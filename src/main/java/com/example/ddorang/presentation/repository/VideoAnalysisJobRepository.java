@@ -1,14 +1,19 @@
 package com.example.ddorang.presentation.repository;
 
 import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.presentation.dto.PersistedAnalysisResult;
+import com.example.ddorang.presentation.dto.VideoAnalysisJobStatus;
+import com.example.ddorang.presentation.dto.VideoAnalysisStageTimes;
 import com.example.ddorang.presentation.entity.VideoAnalysisJob;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +30,20 @@ public interface VideoAnalysisJobRepository extends JpaRepository<VideoAnalysisJ
            "ORDER BY vaj.createdAt DESC")
     List<VideoAnalysisJob> findByPresentationIdOrderByCreatedAtDesc(@Param("presentationId") UUID presentationId);
 
+    // 특정 발표의 최신 작업 상태만 조회 (엔티티/연관 로딩 없이, idx_video_analysis_job_presentation_latest만 읽음)
+    @Query("SELECT new com.example.ddorang.presentation.dto.VideoAnalysisJobStatus(" +
+           "vaj.id, vaj.status, vaj.createdAt, COALESCE(vaj.updatedAt, vaj.createdAt)) " +
+           "FROM VideoAnalysisJob vaj WHERE vaj.presentation.id = :presentationId " +
+           "ORDER BY vaj.createdAt DESC LIMIT 1")
+    Optional<VideoAnalysisJobStatus> findLatestStatus(@Param("presentationId") UUID presentationId);
+
+    // 실패 메세지만 조회 (최신 작업이 실패했을 때)
+    @Query("SELECT vaj.errorMessage FROM VideoAnalysisJob vaj WHERE vaj.id = :jobId")
+    Optional<String> findErrorMessageById(@Param("jobId") UUID jobId);
+
+    @Query("SELECT vaj.presentation.id FROM VideoAnalysisJob vaj WHERE vaj.id = :jobId")
+    Optional<UUID> findPresentationIdById(@Param("jobId") UUID jobId);
+
     // 특정 발표의 진행 중인 작업 조회 (중복 작업 방지용, Fetch Join으로 N+1 방지)
     @Query("SELECT vaj FROM VideoAnalysisJob vaj " +
            "JOIN FETCH vaj.presentation p " +
@@ -76,6 +95,139 @@ public interface VideoAnalysisJobRepository extends JpaRepository<VideoAnalysisJ
            "AND vaj.status IN (com.example.ddorang.common.enums.JobStatus.COMPLETED, com.example.ddorang.common.enums.JobStatus.FAILED)")
     List<VideoAnalysisJob> findOldFinishedJobs(@Param("cutoffTime") LocalDateTime cutoffTime);
 
+    // === 노드 간 작업 점유 (조건부 UPDATE - 영향받은 행 수로 성공 여부 판단) ===
+
+    // 점유가 비었거나 만료된 진행 중 작업의 ID (active_presentation_id는 진행 중일 때만 채워짐)
+    @Query("SELECT vaj.id FROM VideoAnalysisJob vaj WHERE vaj.activePresentationId IS NOT NULL " +
+           "AND (vaj.leaseOwner IS NULL OR vaj.leaseExpiresAt < :now) " +
+           "ORDER BY vaj.createdAt")
+    List<UUID> findUnleasedActiveJobIds(@Param("now") LocalDateTime now);
+
+    // 점유가 비었거나 만료됐을 때만 점유 - 여러 노드가 동시에 시도해도 한 곳만 1을 받음
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.leaseOwner = :owner, vaj.leaseExpiresAt = :expiresAt " +
+           "WHERE vaj.id = :jobId AND vaj.activePresentationId IS NOT NULL " +
+           "AND (vaj.leaseOwner IS NULL OR vaj.leaseExpiresAt < :now)")
+    int claimLease(@Param("jobId") UUID jobId, @Param("owner") String owner,
+                   @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    // 노드가 가진 진행 중 작업의 점유 연장
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.leaseExpiresAt = :expiresAt " +
+           "WHERE vaj.leaseOwner = :owner AND vaj.activePresentationId IS NOT NULL")
+    int renewLeases(@Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 폴링 재개 시각을 남기고 점유 해제 (FastAPI job_id/인스턴스는 업로드 직후 이미 기록됨)
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.nextPollAt = :nextPollAt, " +
+           "vaj.leaseOwner = NULL, vaj.leaseExpiresAt = NULL " +
+           "WHERE vaj.id = :jobId AND vaj.leaseOwner = :owner")
+    int handOffPolling(@Param("jobId") UUID jobId, @Param("owner") String owner,
+                       @Param("nextPollAt") LocalDateTime nextPollAt);
+
+    // 업로드를 끝내지 못한 작업은 처음부터 다시 하도록 대기 상태로 돌리고 점유 해제
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.status = com.example.ddorang.common.enums.JobStatus.PENDING, " +
+           "vaj.fastApiJobId = NULL, vaj.fastApiInstance = NULL, vaj.nextPollAt = NULL, " +
+           "vaj.uploadStartedAt = NULL, vaj.uploadFinishedAt = NULL, vaj.uploadedBytes = NULL, " +
+           "vaj.chunkCount = NULL, vaj.firstPolledAt = NULL, " +
+           "vaj.leaseOwner = NULL, vaj.leaseExpiresAt = NULL, vaj.updatedAt = :now " +
+           "WHERE vaj.id = :jobId AND vaj.leaseOwner = :owner AND vaj.activePresentationId IS NOT NULL")
+    int requeue(@Param("jobId") UUID jobId, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // 진행 중인 작업만 완료 처리 - 다른 노드에서 이미 취소/실패 처리된 작업을 완료로 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.status = com.example.ddorang.common.enums.JobStatus.COMPLETED, " +
+           "vaj.activePresentationId = NULL, vaj.updatedAt = :now " +
+           "WHERE vaj.id = :jobId " +
+           "AND vaj.status IN (com.example.ddorang.common.enums.JobStatus.PENDING, com.example.ddorang.common.enums.JobStatus.PROCESSING)")
+    int markCompleted(@Param("jobId") UUID jobId, @Param("now") LocalDateTime now);
+
+    // 진행 중인 작업만 실패(취소) 처리 - 그 사이 완료된 작업을 실패로 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.status = com.example.ddorang.common.enums.JobStatus.FAILED, " +
+           "vaj.errorMessage = :errorMessage, vaj.activePresentationId = NULL, vaj.updatedAt = :now " +
+           "WHERE vaj.id = :jobId " +
+           "AND vaj.status IN (com.example.ddorang.common.enums.JobStatus.PENDING, com.example.ddorang.common.enums.JobStatus.PROCESSING)")
+    int markFailed(@Param("jobId") UUID jobId, @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    // 상태는 그대로 두고 점유만 해제 (대기열에서 시작하지 못한 작업)
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.leaseOwner = NULL, vaj.leaseExpiresAt = NULL " +
+           "WHERE vaj.id = :jobId AND vaj.leaseOwner = :owner")
+    int releaseLease(@Param("jobId") UUID jobId, @Param("owner") String owner);
+
+    // 주어진 작업 중 이미 끝난(완료/실패/취소) 작업 ID
+    @Query("SELECT vaj.id FROM VideoAnalysisJob vaj WHERE vaj.id IN :jobIds " +
+           "AND vaj.status IN (com.example.ddorang.common.enums.JobStatus.COMPLETED, com.example.ddorang.common.enums.JobStatus.FAILED)")
+    List<UUID> findFinishedJobIds(@Param("jobIds") Collection<UUID> jobIds);
+
+    // === 단계별 시각 기록 (단계마다 한 컬럼만 바꾸므로 다른 스레드의 기록을 덮어쓰지 않음) ===
+
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.queuedAt = :at WHERE vaj.id = :jobId")
+    int recordQueuedAt(@Param("jobId") UUID jobId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.startedAt = :at WHERE vaj.id = :jobId")
+    int recordStartedAt(@Param("jobId") UUID jobId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.uploadStartedAt = :at WHERE vaj.id = :jobId")
+    int recordUploadStartedAt(@Param("jobId") UUID jobId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.uploadFinishedAt = :at, " +
+           "vaj.uploadedBytes = :bytes, vaj.chunkCount = :chunkCount WHERE vaj.id = :jobId")
+    int recordUploadFinished(@Param("jobId") UUID jobId, @Param("at") LocalDateTime at,
+                             @Param("bytes") long bytes, @Param("chunkCount") int chunkCount);
+
+    // 첫 폴링만 기록 (이어받은 노드의 폴링이나 구간별 폴링은 무시)
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.firstPolledAt = :at " +
+           "WHERE vaj.id = :jobId AND vaj.firstPolledAt IS NULL")
+    int recordFirstPolledAt(@Param("jobId") UUID jobId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.upstreamCompletedAt = :at WHERE vaj.id = :jobId")
+    int recordUpstreamCompletedAt(@Param("jobId") UUID jobId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.persistedAt = :at WHERE vaj.id = :jobId")
+    int recordPersistedAt(@Param("jobId") UUID jobId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE VideoAnalysisJob vaj SET vaj.notifiedAt = :at WHERE vaj.id = :jobId")
+    int recordNotifiedAt(@Param("jobId") UUID jobId, @Param("at") LocalDateTime at);
+
+    // 기간 내 생성된 작업의 단계별 시각만 조회 (엔티티/연관 로딩 없이)
+    @Query("SELECT new com.example.ddorang.presentation.dto.VideoAnalysisStageTimes(" +
+           "vaj.createdAt, vaj.queuedAt, vaj.startedAt, vaj.uploadStartedAt, vaj.uploadFinishedAt, " +
+           "vaj.uploadedBytes, vaj.chunkCount, vaj.firstPolledAt, vaj.upstreamCompletedAt, " +
+           "vaj.persistedAt, vaj.notifiedAt) " +
+           "FROM VideoAnalysisJob vaj WHERE vaj.createdAt >= :since")
+    List<VideoAnalysisStageTimes> findStageTimesSince(@Param("since") LocalDateTime since);
+
+    // 완료된 작업의 결과를 저장된 분석 테이블 세 개에서 한 번에 조회 (발표 ID로 조인)
+    // 분석 테이블은 발표마다 마지막 결과로 덮어쓰므로 같은 발표에서 더 나중에 완료된 작업이 있으면 조회하지 않음
+    @Query("SELECT new com.example.ddorang.presentation.dto.PersistedAnalysisResult(" +
+           "va.intensityGrade, va.intensityDb, va.intensityText, va.pitchGrade, va.pitchAvg, va.pitchText, " +
+           "va.wpmGrade, va.wpmAvg, va.wpmComment, va.anxietyGrade, va.anxietyRatio, " +
+           "sr.transcription, sr.pronunciationScore, sr.adjustedScript, sr.correctedScript, " +
+           "pf.frequentWords, pf.awkwardSentences, pf.difficultyIssues, pf.predictedQuestions) " +
+           "FROM VideoAnalysisJob vaj " +
+           "LEFT JOIN VoiceAnalysis va ON va.presentation.id = vaj.presentation.id " +
+           "LEFT JOIN SttResult sr ON sr.presentation.id = vaj.presentation.id " +
+           "LEFT JOIN PresentationFeedback pf ON pf.presentation.id = vaj.presentation.id " +
+           "WHERE vaj.id = :jobId " +
+           "AND vaj.status = com.example.ddorang.common.enums.JobStatus.COMPLETED " +
+           "AND (va.id IS NOT NULL OR sr.id IS NOT NULL) " +
+           "AND NOT EXISTS (SELECT 1 FROM VideoAnalysisJob later " +
+           "WHERE later.presentation.id = vaj.presentation.id " +
+           "AND later.status = com.example.ddorang.common.enums.JobStatus.COMPLETED " +
+           "AND later.createdAt > vaj.createdAt)")
+    Optional<PersistedAnalysisResult> findPersistedResult(@Param("jobId") UUID jobId);
+
     // 연관 엔티티를 미리 로딩하여 조회 (LazyInitializationException 방지)
     @EntityGraph(attributePaths = {"presentation", "presentation.topic", "presentation.topic.user"})
     @Override
@@ -0,0 +1,125 @@
+package com.example.ddorang.presentation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 중인 영상 분석 작업의 취소 토큰 관리
+ *
+ * 분석 스레드는 청크 업로드/폴링 사이사이에 토큰을 확인하고, 폴링 대기도 토큰으로 하므로
+ * 취소하면 대기 중이던 스레드가 바로 깨어난다. FastAPI 취소 요청 같은 정리 작업은
+ * onCancel로 등록해 두면 취소를 요청한 스레드에서 즉시 실행된다.
+ */
+@Component
+@Slf4j
+public class AnalysisCancellationRegistry {
+
+    private final Map<UUID, CancellationToken> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * 취소되어 작업을 중단할 때 던지는 예외
+     */
+    public static class AnalysisCancelledException extends RuntimeException {
+        public AnalysisCancelledException(UUID jobId) {
+            super("사용자에 의해 취소된 작업: " + jobId);
+        }
+    }
+
+    public static final class CancellationToken {
+        private final UUID jobId;
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+        private final List<Runnable> callbacks = new CopyOnWriteArrayList<>();
+
+        private CancellationToken(UUID jobId) {
+            this.jobId = jobId;
+        }
+
+        public boolean isCancelled() {
+            return cancelled.getCount() == 0;
+        }
+
+        public void throwIfCancelled() {
+            if (isCancelled()) {
+                throw new AnalysisCancelledException(jobId);
+            }
+        }
+
+        /**
+         * millis만큼 대기 - 도중에 취소되면 바로 AnalysisCancelledException
+         */
+        public void sleep(long millis) throws InterruptedException {
+            if (cancelled.await(millis, TimeUnit.MILLISECONDS)) {
+                throw new AnalysisCancelledException(jobId);
+            }
+        }
+
+        /**
+         * 취소 시 실행할 정리 작업 등록 (이미 취소됐으면 바로 실행)
+         */
+        public void onCancel(Runnable callback) {
+            callbacks.add(callback);
+            if (isCancelled() && callbacks.remove(callback)) {
+                runQuietly(callback);
+            }
+        }
+
+        private void cancel() {
+            cancelled.countDown();
+            for (Runnable callback : callbacks) {
+                if (callbacks.remove(callback)) {
+                    runQuietly(callback);
+                }
+            }
+        }
+
+        private void runQuietly(Runnable callback) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                log.warn("취소 정리 작업 실패 (무시됨): {} - {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    // 아무것도 취소하지 않는 토큰 (취소 대상이 아닌 호출용)
+    public static final CancellationToken NONE = new CancellationToken(new UUID(0, 0));
+
+    /**
+     * 작업 시작 시 토큰 발급
+     */
+    public CancellationToken register(UUID jobId) {
+        return tokens.computeIfAbsent(jobId, CancellationToken::new);
+    }
+
+    /**
+     * 작업 종료 시 토큰 해제
+     */
+    public void unregister(UUID jobId) {
+        tokens.remove(jobId);
+    }
+
+    /**
+     * 실행 중인 작업 취소 - 토큰이 없으면(실행 중이 아니면) false
+     */
+    public boolean cancel(UUID jobId) {
+        CancellationToken token = tokens.get(jobId);
+        if (token == null) {
+            return false;
+        }
+        log.info("분석 작업 취소 신호: {}", jobId);
+        token.cancel();
+        return true;
+    }
+
+    public boolean isRunning(UUID jobId) {
+        return tokens.containsKey(jobId);
+    }
+}
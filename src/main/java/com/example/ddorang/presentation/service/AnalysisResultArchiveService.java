@@ -0,0 +1,52 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.entity.AnalysisResultArchive;
+import com.example.ddorang.presentation.repository.AnalysisResultArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * FastAPI 분석 결과 원본 보관
+ *
+ * 완료된 작업의 결과를 AnalysisResultCodec 형식(압축 JSON)으로 작업당 한 번 저장한다.
+ * 캐시(메모리, Redis)가 모두 비었을 때(만료, 재시작) 결과를 다시 읽는 마지막 단계이고,
+ * 결과 매핑이 바뀌어도 분석을 다시 돌리지 않고 새 매핑으로 읽을 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisResultArchiveService {
+
+    private final AnalysisResultArchiveRepository analysisResultArchiveRepository;
+
+    /**
+     * 압축된 결과 저장 (이미 저장된 작업이면 무시)
+     */
+    @Transactional
+    public void archive(UUID jobId, UUID presentationId, AnalysisResultCodec.Encoded encoded) {
+        if (analysisResultArchiveRepository.existsById(jobId)) {
+            return;
+        }
+
+        analysisResultArchiveRepository.save(AnalysisResultArchive.builder()
+            .jobId(jobId)
+            .presentationId(presentationId)
+            .compressedJson(encoded.bytes())
+            .rawSize(encoded.rawSize())
+            .build());
+        log.debug("분석 결과 보관: {} ({}KB → {}KB)", jobId, encoded.rawSize() / 1024, encoded.bytes().length / 1024);
+    }
+
+    /**
+     * 보관된 압축 결과 (없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<byte[]> loadEncoded(UUID jobId) {
+        return analysisResultArchiveRepository.findById(jobId).map(AnalysisResultArchive::getCompressedJson);
+    }
+}
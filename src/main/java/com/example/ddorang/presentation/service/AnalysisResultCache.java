@@ -0,0 +1,170 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 완료된 영상 분석 결과 노드 메모리 캐시 (Redis 공유 캐시 앞의 근거리 캐시, AnalysisResultStore 참고)
+ *
+ * 결과 크기(추정 바이트) 합으로 상한을 두고, 넘치면 W-TinyLFU로 자주 조회되는 결과를 남긴다.
+ * 만료는 항목별 타이머 휠로 처리해 전체를 훑지 않는다 - 이 노드가 만든 결과는 ttl, Redis/보관본에서
+ * 다시 읽은 결과는 다시 읽기 쉬우므로 더 짧은 rehydrated-ttl.
+ */
+@Component
+@Slf4j
+public class AnalysisResultCache {
+
+    private final Cache<UUID, Entry> cache;
+    private final long maxBytes;
+
+    // 캐시 항목 - 추정 크기는 넣을 때 한 번만 계산
+    private record Entry(FastApiAnalysisResult result, boolean rehydrated, int weight) {
+    }
+
+    @Autowired
+    public AnalysisResultCache(@Value("${analysis.result-cache.max-bytes:67108864}") long maxBytes,
+                               @Value("${analysis.result-cache.ttl:1h}") Duration ttl,
+                               @Value("${analysis.result-cache.rehydrated-ttl:10m}") Duration rehydratedTtl) {
+        this(maxBytes, ttl, rehydratedTtl, Ticker.systemTicker(), ForkJoinPool.commonPool(), Scheduler.systemScheduler());
+    }
+
+    AnalysisResultCache(long maxBytes, Duration ttl, Duration rehydratedTtl,
+                        Ticker ticker, Executor executor, Scheduler scheduler) {
+        this.maxBytes = maxBytes;
+        long ttlNanos = ttl.toNanos();
+        long rehydratedTtlNanos = rehydratedTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((UUID jobId, Entry entry) -> entry.weight())
+            .expireAfter(new Expiry<UUID, Entry>() {
+                @Override
+                public long expireAfterCreate(UUID jobId, Entry entry, long currentTime) {
+                    return entry.rehydrated() ? rehydratedTtlNanos : ttlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(UUID jobId, Entry entry, long currentTime, long currentDuration) {
+                    return expireAfterCreate(jobId, entry, currentTime);
+                }
+
+                // 조회는 만료 시각을 늦추지 않음
+                @Override
+                public long expireAfterRead(UUID jobId, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .ticker(ticker)
+            .executor(executor)
+            // 만료된 결과를 조회가 없어도 제때 비움
+            .scheduler(scheduler)
+            .recordStats()
+            .build();
+        log.info("분석 결과 캐시 설정 - 최대 {}MB, 보관 {}, 재적재 보관 {}", maxBytes / (1024 * 1024), ttl, rehydratedTtl);
+    }
+
+    // 새로 완료된 결과
+    public void put(UUID jobId, FastApiAnalysisResult result) {
+        cache.put(jobId, new Entry(result, false, weigh(result)));
+    }
+
+    // 보관본에서 다시 읽은 결과 (짧게 보관)
+    public void putRehydrated(UUID jobId, FastApiAnalysisResult result) {
+        cache.put(jobId, new Entry(result, true, weigh(result)));
+    }
+
+    // 없거나 만료됐으면 null
+    public FastApiAnalysisResult get(UUID jobId) {
+        Entry entry = cache.getIfPresent(jobId);
+        return entry != null ? entry.result() : null;
+    }
+
+    public void evict(UUID jobId) {
+        cache.invalidate(jobId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 현재 보관 중인 결과의 추정 크기 합 (bytes)
+    public long weightedBytes() {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    // 보류 중인 만료/축출 처리를 바로 수행
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * 스케줄러: 매 1시간마다 캐시 통계 기록
+     */
+    @Scheduled(fixedRate = 3600000)
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        if (stats.requestCount() == 0 && cache.estimatedSize() == 0) {
+            return;
+        }
+        log.info("분석 결과 캐시: {}개, {}MB/{}MB, 적중률 {}% (적중 {}, 누락 {}, 축출 {})",
+            cache.estimatedSize(), weightedBytes() / (1024 * 1024), maxBytes / (1024 * 1024),
+            Math.round(stats.hitRate() * 100), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    /**
+     * 결과가 힙에서 차지하는 크기 추정 (bytes) - 문자열은 UTF-16 기준 (한글 전사 텍스트가 대부분)
+     */
+    static int weigh(FastApiAnalysisResult result) {
+        long bytes = 96;
+        bytes += stringBytes(result.intensityGrade()) + stringBytes(result.intensityText())
+            + stringBytes(result.pitchGrade()) + stringBytes(result.pitchText())
+            + stringBytes(result.wpmGrade()) + stringBytes(result.wpmComment())
+            + stringBytes(result.anxietyGrade()) + stringBytes(result.anxietyAnalysisJson())
+            + stringBytes(result.transcription()) + stringBytes(result.adjustedScript())
+            + stringBytes(result.correctedTranscription()) + stringBytes(result.predictedQuestionsJson());
+        bytes += 6 * 16; // Float/Integer 박싱
+        bytes += mapBytes(result.extras());
+        FastApiAnalysisResult.Feedback feedback = result.feedback();
+        if (feedback != null) {
+            bytes += 32 + stringBytes(feedback.frequentWordsJson()) + stringBytes(feedback.awkwardSentencesJson())
+                + stringBytes(feedback.difficultyIssuesJson()) + mapBytes(feedback.extras());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+
+    private static long mapBytes(Map<String, String> map) {
+        if (map == null) {
+            return 0;
+        }
+        long bytes = 64;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            bytes += 32 + stringBytes(entry.getKey()) + stringBytes(entry.getValue());
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 분석 결과 저장 형식 - FastAPI 응답과 같은 JSON(알 수 없는 필드 포함)을 Deflate로 압축
+ *
+ * 결과 보관(DB)과 공유 캐시(Redis)가 같은 바이트를 쓴다. 결과 대부분이 전사 텍스트와 원본 JSON 조각이라
+ * CBOR 같은 이진 형식으로 바꿔도 문자열은 그대로이고 키/구두점은 압축이 이미 줄여 주며,
+ * 원본 JSON 조각(writeRawValue)을 그대로 옮길 수 있는 형식은 JSON뿐이다.
+ * 풀 때는 항상 현재 FastApiResultParser로 파싱하므로 결과 매핑이 바뀌어도 새 매핑으로 읽힌다.
+ */
+@Component
+public class AnalysisResultCodec {
+
+    private final ObjectMapper objectMapper;
+    private final FastApiResultParser fastApiResultParser;
+    private final int deflateLevel;
+
+    public AnalysisResultCodec(ObjectMapper objectMapper,
+                               FastApiResultParser fastApiResultParser,
+                               @Value("${analysis.archive.deflate-level:6}") int deflateLevel) {
+        this.objectMapper = objectMapper;
+        this.fastApiResultParser = fastApiResultParser;
+        this.deflateLevel = deflateLevel;
+    }
+
+    /**
+     * 압축된 결과와 압축 전 크기
+     */
+    public record Encoded(byte[] bytes, int rawSize) {
+    }
+
+    public Encoded encode(FastApiAnalysisResult result) {
+        Deflater deflater = new Deflater(deflateLevel);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try {
+            // 압축 전 JSON을 따로 만들지 않고 바로 압축 스트림에 기록 (writeValue가 스트림을 닫아 압축을 마무리)
+            objectMapper.writeValue(new DeflaterOutputStream(compressed, deflater), result);
+            return new Encoded(compressed.toByteArray(), (int) deflater.getBytesRead());
+        } catch (IOException e) {
+            throw new IllegalStateException("분석 결과 압축 실패", e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public FastApiAnalysisResult decode(byte[] bytes) {
+        // 압축을 푸는 대로 파서에 흘려 보냄
+        try (InputStream json = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return fastApiResultParser.parseAnalysis(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("압축된 분석 결과 읽기 실패", e);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 구간별 분석 결과를 하나의 분석 결과로 병합
+ *
+ * - 수치 지표(WPM, 강도, 피치, 불안 비율, 발음 점수)는 구간 길이 가중 평균
+ * - 등급/코멘트는 병합된 값과 가장 가까운 구간의 것을 사용 (등급 기준은 FastAPI에만 있으므로)
+ * - 전사 텍스트는 순서대로 이어 붙이고, 구간별 시작 위치는 extras의 segments에 기록
+ * - 자주 쓴 단어는 구간별 횟수를 합산, 나머지 피드백/예상 질문은 순서대로 합침
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisResultMerger {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 구간 분석 결과
+     *
+     * @param offsetSeconds   원본 영상 기준 시작 위치
+     * @param durationSeconds 구간 길이 (가중치)
+     */
+    public record SegmentResult(FastApiAnalysisResult result, double offsetSeconds, double durationSeconds) {
+    }
+
+    public FastApiAnalysisResult merge(List<SegmentResult> segments) {
+        if (segments == null || segments.isEmpty()) {
+            throw new IllegalArgumentException("병합할 구간 결과가 없습니다");
+        }
+
+        List<SegmentResult> ordered = segments.stream()
+            .sorted(Comparator.comparingDouble(SegmentResult::offsetSeconds))
+            .toList();
+        if (ordered.size() == 1) {
+            return ordered.get(0).result();
+        }
+
+        double totalSeconds = ordered.stream().mapToDouble(SegmentResult::durationSeconds).sum();
+
+        Float wpmAvg = weightedAverage(ordered, FastApiAnalysisResult::wpmAvg);
+        Float intensityDb = weightedAverage(ordered, FastApiAnalysisResult::intensityDb);
+        Float pitchAvg = weightedAverage(ordered, FastApiAnalysisResult::pitchAvg);
+        Float anxietyRatio = weightedAverage(ordered, FastApiAnalysisResult::anxietyRatio);
+
+        FastApiAnalysisResult wpmSource = closest(ordered, FastApiAnalysisResult::wpmAvg, wpmAvg);
+        FastApiAnalysisResult intensitySource = closest(ordered, FastApiAnalysisResult::intensityDb, intensityDb);
+        FastApiAnalysisResult pitchSource = closest(ordered, FastApiAnalysisResult::pitchAvg, pitchAvg);
+        FastApiAnalysisResult anxietySource = closest(ordered, FastApiAnalysisResult::anxietyRatio, anxietyRatio);
+        FastApiAnalysisResult first = ordered.get(0).result();
+
+        Map<String, String> extras = new LinkedHashMap<>();
+        if (first.extras() != null) {
+            extras.putAll(first.extras());
+        }
+        extras.put("segments", segmentsJson(ordered));
+
+        return FastApiAnalysisResult.builder()
+            .intensityGrade(intensitySource.intensityGrade())
+            .intensityDb(intensityDb)
+            .intensityText(intensitySource.intensityText())
+            .pitchGrade(pitchSource.pitchGrade())
+            .pitchAvg(pitchAvg)
+            .pitchText(pitchSource.pitchText())
+            .wpmGrade(wpmSource.wpmGrade())
+            .wpmAvg(wpmAvg)
+            .wpmComment(wpmSource.wpmComment())
+            .anxietyGrade(anxietySource.anxietyGrade())
+            .anxietyRatio(anxietyRatio)
+            .anxietyAnalysisJson(anxietySource.anxietyAnalysisJson())
+            .transcription(joinText(ordered, FastApiAnalysisResult::transcription))
+            .pronunciationScore(weightedAverage(ordered, FastApiAnalysisResult::pronunciationScore))
+            .adjustedScript(joinText(ordered, FastApiAnalysisResult::adjustedScript))
+            .correctedTranscription(joinText(ordered, FastApiAnalysisResult::correctedTranscription))
+            .durationSeconds((int) Math.round(totalSeconds))
+            .feedback(mergeFeedback(ordered))
+            .predictedQuestionsJson(concatArrays(ordered.stream()
+                .map(s -> s.result().predictedQuestionsJson()).toList(), true))
+            .extras(extras)
+            .build();
+    }
+
+    // === 수치 지표 ===
+
+    private Float weightedAverage(List<SegmentResult> segments, Function<FastApiAnalysisResult, Float> metric) {
+        double weightedSum = 0;
+        double weightSum = 0;
+        for (SegmentResult segment : segments) {
+            Float value = metric.apply(segment.result());
+            if (value != null && segment.durationSeconds() > 0) {
+                weightedSum += value * segment.durationSeconds();
+                weightSum += segment.durationSeconds();
+            }
+        }
+        return weightSum > 0 ? (float) (weightedSum / weightSum) : null;
+    }
+
+    // 병합된 값과 가장 가까운 구간 (값이 없으면 가장 긴 구간)
+    private FastApiAnalysisResult closest(List<SegmentResult> segments,
+                                          Function<FastApiAnalysisResult, Float> metric, Float target) {
+        Comparator<SegmentResult> longest = Comparator.comparingDouble(SegmentResult::durationSeconds).reversed();
+        if (target == null) {
+            return segments.stream().min(longest).orElseThrow().result();
+        }
+        return segments.stream()
+            .filter(s -> metric.apply(s.result()) != null)
+            .min(Comparator.<SegmentResult>comparingDouble(s -> Math.abs(metric.apply(s.result()) - target))
+                .thenComparing(longest))
+            .orElseThrow()
+            .result();
+    }
+
+    // === 텍스트 ===
+
+    private String joinText(List<SegmentResult> segments, Function<FastApiAnalysisResult, String> text) {
+        String joined = segments.stream()
+            .map(s -> text.apply(s.result()))
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(t -> !t.isEmpty())
+            .collect(Collectors.joining(" "));
+        return joined.isEmpty() ? null : joined;
+    }
+
+    // 구간별 시작 위치/길이/전사 텍스트 (원본 영상 기준 타임스탬프)
+    private String segmentsJson(List<SegmentResult> segments) {
+        ArrayNode array = objectMapper.createArrayNode();
+        for (int i = 0; i < segments.size(); i++) {
+            SegmentResult segment = segments.get(i);
+            ObjectNode node = array.addObject();
+            node.put("index", i);
+            node.put("offset_seconds", Math.round(segment.offsetSeconds() * 1000) / 1000.0);
+            node.put("duration_seconds", Math.round(segment.durationSeconds() * 1000) / 1000.0);
+            node.put("transcription", segment.result().transcription());
+        }
+        return array.toString();
+    }
+
+    // === 피드백 ===
+
+    private FastApiAnalysisResult.Feedback mergeFeedback(List<SegmentResult> segments) {
+        List<FastApiAnalysisResult.Feedback> feedbacks = segments.stream()
+            .map(s -> s.result().feedback())
+            .filter(Objects::nonNull)
+            .toList();
+        if (feedbacks.isEmpty()) {
+            return null;
+        }
+
+        return FastApiAnalysisResult.Feedback.builder()
+            .frequentWordsJson(mergeFrequentWords(feedbacks.stream()
+                .map(FastApiAnalysisResult.Feedback::frequentWordsJson).toList()))
+            .awkwardSentencesJson(concatArrays(feedbacks.stream()
+                .map(FastApiAnalysisResult.Feedback::awkwardSentencesJson).toList(), false))
+            .difficultyIssuesJson(concatArrays(feedbacks.stream()
+                .map(FastApiAnalysisResult.Feedback::difficultyIssuesJson).toList(), false))
+            .extras(feedbacks.get(0).extras())
+            .build();
+    }
+
+    /**
+     * 자주 쓴 단어 합산
+     * {"word": ..., "count": n} 형식이면 횟수를 더하고, 단어 문자열 목록이면 등장한 구간 수로 센다.
+     * 입력과 같은 형식으로 많이 쓴 순서대로 반환한다.
+     */
+    private String mergeFrequentWords(List<String> jsons) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        boolean withCounts = false;
+
+        for (JsonNode array : readArrays(jsons)) {
+            for (JsonNode item : array) {
+                if (item.isObject() && item.hasNonNull("word")) {
+                    withCounts = true;
+                    counts.merge(item.get("word").asText(), item.path("count").asLong(1), Long::sum);
+                } else if (item.isTextual()) {
+                    counts.merge(item.asText(), 1L, Long::sum);
+                }
+            }
+        }
+        if (counts.isEmpty()) {
+            return concatArrays(jsons, false);
+        }
+
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(counts.entrySet());
+        // 같은 횟수면 먼저 나온 단어 우선 (정렬은 안정적)
+        sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        ArrayNode merged = objectMapper.createArrayNode();
+        for (Map.Entry<String, Long> entry : sorted) {
+            if (withCounts) {
+                merged.addObject().put("word", entry.getKey()).put("count", entry.getValue());
+            } else {
+                merged.add(entry.getKey());
+            }
+        }
+        return merged.toString();
+    }
+
+    private String concatArrays(List<String> jsons, boolean distinct) {
+        List<JsonNode> arrays = readArrays(jsons);
+        if (arrays.isEmpty()) {
+            return null;
+        }
+
+        ArrayNode merged = objectMapper.createArrayNode();
+        Set<JsonNode> seen = new LinkedHashSet<>();
+        for (JsonNode array : arrays) {
+            for (JsonNode item : array) {
+                if (!distinct || seen.add(item)) {
+                    merged.add(item);
+                }
+            }
+        }
+        return merged.toString();
+    }
+
+    private List<JsonNode> readArrays(List<String> jsons) {
+        List<JsonNode> arrays = new ArrayList<>();
+        for (String json : jsons) {
+            if (json == null || json.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(json);
+                if (node.isArray()) {
+                    arrays.add(node);
+                }
+            } catch (Exception e) {
+                log.warn("구간 결과 JSON 파싱 실패 (건너뜀): {}", e.getMessage());
+            }
+        }
+        return arrays;
+    }
+}
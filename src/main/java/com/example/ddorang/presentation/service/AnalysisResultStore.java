@@ -0,0 +1,137 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.presentation.dto.PersistedAnalysisResult;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 완료된 영상 분석 결과 조회 경로 - 노드 메모리(근거리 캐시) → Redis(모든 노드 공유) → DB 보관본 → 분석 테이블
+ *
+ * 결과는 완료 시 세 곳에 모두 쓰이므로 어느 노드가 분석했든 다른 노드도 Redis GET 한 번으로 결과를 돌려준다.
+ * Redis 값은 보관본과 같은 압축 JSON(AnalysisResultCodec)이라 보관본에서 다시 읽을 때는 바이트를 그대로 올린다.
+ * 보관본이 없는 작업(보관 도입 전, 보관 실패)은 저장된 분석 테이블에서 쿼리 한 번으로 결과를 다시 만들어 캐시에 올린다.
+ * Redis 장애는 조회/저장을 막지 않는다 - 로그만 남기고 다음 단계로 넘어간다.
+ */
+@Service
+@Slf4j
+public class AnalysisResultStore {
+
+    static final String KEY_PREFIX = "analysis:result:";
+
+    private final AnalysisResultCache analysisResultCache;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final AnalysisResultCodec analysisResultCodec;
+    private final AnalysisResultArchiveService analysisResultArchiveService;
+    private final VideoAnalysisJobRepository videoAnalysisJobRepository;
+    private final Duration redisTtl;
+    private final Duration rehydratedRedisTtl;
+
+    public AnalysisResultStore(AnalysisResultCache analysisResultCache,
+                               RedisTemplate<String, byte[]> binaryRedisTemplate,
+                               AnalysisResultCodec analysisResultCodec,
+                               AnalysisResultArchiveService analysisResultArchiveService,
+                               VideoAnalysisJobRepository videoAnalysisJobRepository,
+                               @Value("${analysis.result-cache.redis-ttl:24h}") Duration redisTtl,
+                               @Value("${analysis.result-cache.redis-rehydrated-ttl:1h}") Duration rehydratedRedisTtl) {
+        this.analysisResultCache = analysisResultCache;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.analysisResultCodec = analysisResultCodec;
+        this.analysisResultArchiveService = analysisResultArchiveService;
+        this.videoAnalysisJobRepository = videoAnalysisJobRepository;
+        this.redisTtl = redisTtl;
+        this.rehydratedRedisTtl = rehydratedRedisTtl;
+    }
+
+    /**
+     * 새로 완료된 결과 저장 - 한 번 압축한 바이트를 Redis와 보관본에 같이 씀
+     */
+    public void save(UUID jobId, UUID presentationId, FastApiAnalysisResult result) {
+        analysisResultCache.put(jobId, result);
+
+        AnalysisResultCodec.Encoded encoded = analysisResultCodec.encode(result);
+        writeShared(jobId, encoded.bytes(), redisTtl);
+
+        // 캐시 만료/Redis 초기화 후 결과 조회용 (실패해도 완료 처리는 계속)
+        try {
+            analysisResultArchiveService.archive(jobId, presentationId, encoded);
+        } catch (Exception e) {
+            log.warn("분석 결과 보관 실패 (무시됨): {} - {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 결과 조회 (어디에도 없으면 null)
+     */
+    public FastApiAnalysisResult find(UUID jobId) {
+        FastApiAnalysisResult cached = analysisResultCache.get(jobId);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] shared = readShared(jobId);
+        if (shared != null) {
+            FastApiAnalysisResult result = analysisResultCodec.decode(shared);
+            analysisResultCache.putRehydrated(jobId, result);
+            return result;
+        }
+
+        byte[] archived = analysisResultArchiveService.loadEncoded(jobId).orElse(null);
+        if (archived != null) {
+            FastApiAnalysisResult result = analysisResultCodec.decode(archived);
+            writeShared(jobId, archived, rehydratedRedisTtl);
+            analysisResultCache.putRehydrated(jobId, result);
+            log.debug("보관된 분석 결과 재적재: {}", jobId);
+            return result;
+        }
+
+        PersistedAnalysisResult persisted = videoAnalysisJobRepository.findPersistedResult(jobId).orElse(null);
+        if (persisted == null) {
+            return null;
+        }
+        FastApiAnalysisResult result = persisted.toResult();
+        writeShared(jobId, analysisResultCodec.encode(result).bytes(), rehydratedRedisTtl);
+        analysisResultCache.putRehydrated(jobId, result);
+        log.debug("저장된 분석 테이블에서 결과 재구성: {}", jobId);
+        return result;
+    }
+
+    /**
+     * 캐시에서 제거 (보관본은 남김)
+     */
+    public void evict(UUID jobId) {
+        analysisResultCache.evict(jobId);
+        try {
+            binaryRedisTemplate.delete(key(jobId));
+        } catch (Exception e) {
+            log.warn("공유 결과 캐시 제거 실패: {} - {}", jobId, e.getMessage());
+        }
+    }
+
+    private byte[] readShared(UUID jobId) {
+        try {
+            return binaryRedisTemplate.opsForValue().get(key(jobId));
+        } catch (Exception e) {
+            log.warn("공유 결과 캐시 조회 실패 - 보관본에서 조회: {} - {}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(UUID jobId, byte[] bytes, Duration ttl) {
+        try {
+            binaryRedisTemplate.opsForValue().set(key(jobId), bytes, ttl);
+        } catch (Exception e) {
+            log.warn("공유 결과 캐시 저장 실패: {} - {}", jobId, e.getMessage());
+        }
+    }
+
+    private static String key(UUID jobId) {
+        return KEY_PREFIX + jobId;
+    }
+}
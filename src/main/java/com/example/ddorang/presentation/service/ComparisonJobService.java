@@ -0,0 +1,117 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.common.service.NotificationService;
+import com.example.ddorang.presentation.dto.ComparisonResponseDto;
+import com.example.ddorang.presentation.entity.PresentationComparisonJob;
+import com.example.ddorang.presentation.repository.PresentationComparisonJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 비동기 발표 비교 작업 관리
+ * 작업 상태/진행률은 DB에 저장하고, 변경될 때마다 STOMP(/user/queue/comparisons)로 알린다.
+ * 각 상태 갱신은 리포지토리 단위의 짧은 트랜잭션으로만 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ComparisonJobService {
+
+    private final PresentationComparisonJobRepository comparisonJobRepository;
+    private final ComparisonService comparisonService;
+    private final NotificationService notificationService;
+
+    /**
+     * 비교 작업 생성 (권한/데이터 검증 후 PENDING 상태로 저장)
+     */
+    public PresentationComparisonJob createJob(UUID userId, UUID presentationId1, UUID presentationId2) {
+        comparisonService.validateComparisonRequest(userId, presentationId1, presentationId2);
+
+        PresentationComparisonJob job = PresentationComparisonJob.builder()
+                .userId(userId)
+                .presentationId1(presentationId1)
+                .presentationId2(presentationId2)
+                .message("비교를 준비하고 있습니다...")
+                .build();
+
+        PresentationComparisonJob savedJob = comparisonJobRepository.save(job);
+        log.info("비교 작업 생성: {} ({} vs {})", savedJob.getId(), presentationId1, presentationId2);
+        return savedJob;
+    }
+
+    /**
+     * 비교 작업 실행 (비동기)
+     */
+    @Async
+    public void runJob(UUID jobId) {
+        PresentationComparisonJob job = comparisonJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            log.warn("비교 작업 없음: {}", jobId);
+            return;
+        }
+
+        try {
+            updateProgress(job, 0, "비교를 시작합니다...");
+
+            ComparisonResponseDto comparison = comparisonService.comparePresentations(
+                    job.getUserId(), job.getPresentationId1(), job.getPresentationId2(),
+                    (progress, message) -> updateProgress(job, progress, message));
+
+            job.markAsCompleted(comparison.getId());
+            job.setMessage("비교가 완료되었습니다.");
+            comparisonJobRepository.save(job);
+            log.info("비교 작업 완료: {} → 비교 ID {}", jobId, comparison.getId());
+
+        } catch (Exception e) {
+            log.error("비교 작업 실패: {}", jobId, e);
+            job.markAsFailed(e.getMessage());
+            job.setMessage("비교 중 오류가 발생했습니다");
+            comparisonJobRepository.save(job);
+        }
+
+        notificationService.sendComparisonJobUpdate(job.getUserId(), toStatusMap(job));
+    }
+
+    /**
+     * 작업 상태 조회 (본인 작업만)
+     */
+    public Map<String, Object> getJobStatus(UUID userId, UUID jobId) {
+        return comparisonJobRepository.findByIdAndUserId(jobId, userId)
+                .map(this::toStatusMap)
+                .orElse(null);
+    }
+
+    private void updateProgress(PresentationComparisonJob job, int progress, String message) {
+        try {
+            job.setStatus(JobStatus.PROCESSING);
+            job.setProgress(progress);
+            job.setMessage(message);
+            comparisonJobRepository.save(job);
+
+            notificationService.sendComparisonJobUpdate(job.getUserId(), toStatusMap(job));
+        } catch (Exception e) {
+            log.warn("비교 작업 진행률 갱신 실패: {} - {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private Map<String, Object> toStatusMap(PresentationComparisonJob job) {
+        Map<String, Object> status = new HashMap<>();
+        status.put("jobId", job.getId().toString());
+        status.put("status", job.getStatus().toString().toLowerCase());
+        status.put("progress", job.getProgress());
+        status.put("message", job.getMessage());
+        status.put("presentationId1", job.getPresentationId1().toString());
+        status.put("presentationId2", job.getPresentationId2().toString());
+        status.put("comparisonId", job.getComparisonId() != null ? job.getComparisonId().toString() : null);
+        status.put("errorMessage", job.getErrorMessage());
+        status.put("createdAt", job.getCreatedAt().toString());
+        return status;
+    }
+}
@@ -18,8 +18,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,48 +43,142 @@ public class ComparisonService {
     private final UserRepository userRepository;
     private final FastApiService fastApiService;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
     
+    // 진행률 알림이 필요 없을 때 사용
+    private static final ComparisonProgressListener NO_PROGRESS = (progress, message) -> { };
+
+    /**
+     * 비교 진행률 콜백 (비동기 비교 작업에서 상태 갱신용)
+     */
+    @FunctionalInterface
+    public interface ComparisonProgressListener {
+        void onProgress(int progress, String message);
+    }
+
+    /**
+     * 읽기 트랜잭션에서 만든 비교 입력 스냅샷 (엔티티 대신 값만 담아 트랜잭션 밖으로 전달)
+     */
+    private record ComparisonInput(
+            UUID userId,
+            UUID presentationId1,
+            UUID presentationId2,
+            String title1,
+            String title2,
+            String optimizedScript1,
+            String optimizedScript2,
+            ComparisonDataDto comparisonData,
+            String fingerprint,
+            ComparisonResponseDto reusedComparison) {
+    }
+
     /**
      * 두 발표를 비교하는 메인 메서드
      */
-    @Transactional
     public ComparisonResponseDto comparePresentations(UUID userId, UUID presentationId1, UUID presentationId2) {
+        return comparePresentations(userId, presentationId1, presentationId2, NO_PROGRESS);
+    }
+
+    /**
+     * 두 발표 비교
+     * 두 발표의 대본/분석 결과가 이전 비교 때와 같으면 저장된 결과를 그대로 반환한다.
+     * FastAPI(LLM) 호출 동안 DB 커넥션을 잡지 않도록
+     * 읽기 트랜잭션 → 트랜잭션 밖 FastAPI 호출 → 쓰기 트랜잭션 순서로 나눠 처리한다.
+     */
+    public ComparisonResponseDto comparePresentations(UUID userId, UUID presentationId1, UUID presentationId2,
+                                                      ComparisonProgressListener progressListener) {
         log.info("발표 비교 시작 - 사용자: {}, 발표1: {}, 발표2: {}", userId, presentationId1, presentationId2);
         
-        // 1. 기존 비교 기록이 있는지 확인 (있으면 삭제하고 새로 생성)
-        Optional<PresentationComparison> existingComparison = 
-            comparisonRepository.findExistingComparison(userId, presentationId1, presentationId2);
-            
-        if (existingComparison.isPresent()) {
-            log.info("기존 비교 기록 발견, 삭제 후 최신 데이터로 재생성");
-            comparisonRepository.delete(existingComparison.get());
+        // 1. 입력 조회 (짧은 읽기 트랜잭션)
+        progressListener.onProgress(10, "비교할 발표 데이터를 불러오는 중...");
+        ComparisonInput input = readOnlyTransactionTemplate()
+            .execute(status -> loadComparisonInput(userId, presentationId1, presentationId2));
+        
+        if (input.reusedComparison() != null) {
+            log.info("입력 변경 없음, 기존 비교 결과 재사용 - ID: {}", input.reusedComparison().getId());
+            return input.reusedComparison();
         }
         
-        // 2. 발표 및 사용자 정보 조회
+        // 2. AI 기반 최적화된 대본 비교 분석 (트랜잭션 없음)
+        progressListener.onProgress(30, "AI가 두 대본을 비교하는 중...");
+        Map<String, Object> aiComparisonResult = generateAiComparisonResult(input);
+        
+        // 3. 비교 결과 저장 (짧은 쓰기 트랜잭션)
+        progressListener.onProgress(90, "비교 결과를 저장하는 중...");
+        return transactionTemplate.execute(status -> saveComparison(input, aiComparisonResult));
+    }
+    
+    /**
+     * 비교 요청 검증 (비동기 작업 등록 전 빠른 실패용)
+     */
+    @Transactional(readOnly = true)
+    public void validateComparisonRequest(UUID userId, UUID presentationId1, UUID presentationId2) {
+        User user = getUserById(userId);
+        validateUserOwnership(user, getPresentationById(presentationId1), getPresentationById(presentationId2));
+        getVoiceAnalysis(presentationId1);
+        getVoiceAnalysis(presentationId2);
+    }
+    
+    private ComparisonInput loadComparisonInput(UUID userId, UUID presentationId1, UUID presentationId2) {
+        // 발표 및 사용자 정보 조회
         User user = getUserById(userId);
         Presentation presentation1 = getPresentationById(presentationId1);
         Presentation presentation2 = getPresentationById(presentationId2);
         
-        // 3. 권한 검증 - 두 발표 모두 해당 사용자의 것인지 확인
+        // 권한 검증 - 두 발표 모두 해당 사용자의 것인지 확인
         validateUserOwnership(user, presentation1, presentation2);
         
-        // 4. 음성 분석 데이터 조회
+        // 음성 분석 / STT 데이터 조회 (각각 한 번만)
         VoiceAnalysis analysis1 = getVoiceAnalysis(presentationId1);
         VoiceAnalysis analysis2 = getVoiceAnalysis(presentationId2);
+        SttResult sttResult1 = sttResultRepository.findByPresentationId(presentationId1).orElse(null);
+        SttResult sttResult2 = sttResultRepository.findByPresentationId(presentationId2).orElse(null);
+        
+        // 기존 비교 기록 확인 (입력이 같으면 재사용)
+        String fingerprint = comparisonFingerprint(
+            presentationFingerprint(presentation1, analysis1, sttResult1),
+            presentationFingerprint(presentation2, analysis2, sttResult2));
         
-        // 5. 비교 데이터 생성
-        ComparisonDataDto comparisonData = createComparisonData(analysis1, analysis2);
+        ComparisonResponseDto reusedComparison = comparisonRepository
+            .findExistingComparison(userId, presentationId1, presentationId2)
+            .filter(existing -> fingerprint.equals(existing.getInputFingerprint()))
+            .map(this::convertToResponseDto)
+            .orElse(null);
         
-        // 6. AI 기반 최적화된 대본 비교 분석
-        Map<String, Object> aiComparisonResult = generateAiComparisonResult(presentation1, presentation2);
+        return new ComparisonInput(
+            userId,
+            presentationId1,
+            presentationId2,
+            presentation1.getTitle(),
+            presentation2.getTitle(),
+            sttResult1 != null ? getOptimizedScriptOrNull(sttResult1) : null,
+            sttResult2 != null ? getOptimizedScriptOrNull(sttResult2) : null,
+            reusedComparison == null ? createComparisonData(analysis1, sttResult1, analysis2, sttResult2) : null,
+            fingerprint,
+            reusedComparison);
+    }
+    
+    private ComparisonResponseDto saveComparison(ComparisonInput input, Map<String, Object> aiComparisonResult) {
+        // 기존 비교 기록이 있으면 삭제하고 새로 생성
+        Optional<PresentationComparison> existingComparison = comparisonRepository
+            .findExistingComparison(input.userId(), input.presentationId1(), input.presentationId2());
+            
+        if (existingComparison.isPresent()) {
+            log.info("기존 비교 기록 발견, 삭제 후 최신 데이터로 재생성");
+            comparisonRepository.delete(existingComparison.get());
+            comparisonRepository.flush();
+        }
+        
+        // 목/대체 결과는 다음 요청에서 다시 비교하도록 지문을 남기지 않음
+        boolean reusable = aiComparisonResult.remove(FastApiService.MOCK_RESULT_KEY) == null;
         
-        // 7. 비교 결과 저장
         PresentationComparison comparison = PresentationComparison.builder()
-                .user(user)
-                .presentation1(presentation1)
-                .presentation2(presentation2)
-                .comparisonData(convertToJson(comparisonData))
+                .user(userRepository.getReferenceById(input.userId()))
+                .presentation1(getPresentationById(input.presentationId1()))
+                .presentation2(getPresentationById(input.presentationId2()))
+                .comparisonData(convertToJson(input.comparisonData()))
                 .comparisonSummary(convertMapToJson(aiComparisonResult))
+                .inputFingerprint(reusable ? input.fingerprint() : null)
                 .build();
         
         PresentationComparison savedComparison = comparisonRepository.save(comparison);
@@ -88,10 +187,17 @@ public class ComparisonService {
         return convertToResponseDto(savedComparison);
     }
     
+    private TransactionTemplate readOnlyTransactionTemplate() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+    
     /**
      * 두 음성 분석 데이터를 비교하여 ComparisonDataDto 생성
      */
-    private ComparisonDataDto createComparisonData(VoiceAnalysis analysis1, VoiceAnalysis analysis2) {
+    private ComparisonDataDto createComparisonData(VoiceAnalysis analysis1, SttResult stt1,
+                                                   VoiceAnalysis analysis2, SttResult stt2) {
         log.debug("비교 데이터 생성 시작");
         
         Presentation p1 = analysis1.getPresentation();
@@ -101,20 +207,18 @@ public class ComparisonService {
         Float pronunciationScore1 = null;
         Float pronunciationScore2 = null;
         
-        try {
-            SttResult stt1 = getSttResult(p1.getId());
+        if (stt1 != null) {
             pronunciationScore1 = stt1.getPronunciationScore();
             log.info("발표1의 발음 점수: {}", pronunciationScore1);
-        } catch (Exception e) {
-            log.warn("발표1의 발음 점수를 가져올 수 없습니다: {}", e.getMessage());
+        } else {
+            log.warn("발표1의 발음 점수를 가져올 수 없습니다: STT 결과 없음");
         }
         
-        try {
-            SttResult stt2 = getSttResult(p2.getId());
+        if (stt2 != null) {
             pronunciationScore2 = stt2.getPronunciationScore();
             log.info("발표2의 발음 점수: {}", pronunciationScore2);
-        } catch (Exception e) {
-            log.warn("발표2의 발음 점수를 가져올 수 없습니다: {}", e.getMessage());
+        } else {
+            log.warn("발표2의 발음 점수를 가져올 수 없습니다: STT 결과 없음");
         }
         
         // 발표1의 메트릭스 생성
@@ -161,23 +265,21 @@ public class ComparisonService {
     /**
      * AI 기반 최적화된 대본 비교 분석 (구조화된 결과 반환)
      */
-    private Map<String, Object> generateAiComparisonResult(Presentation p1, Presentation p2) {
-        log.debug("AI 대본 비교 분석 시작 - '{}' vs '{}'", p1.getTitle(), p2.getTitle());
+    private Map<String, Object> generateAiComparisonResult(ComparisonInput input) {
+        log.debug("AI 대본 비교 분석 시작 - '{}' vs '{}'", input.title1(), input.title2());
 
         try {
-            // 1. 최적화된 대본 조회
-            SttResult sttResult1 = getSttResult(p1.getId());
-            SttResult sttResult2 = getSttResult(p2.getId());
-
-            // 2. 최적화된 대본 추출 (adjustedScript 우선, 없으면 correctedScript)
-            String optimizedScript1 = getOptimizedScript(sttResult1);
-            String optimizedScript2 = getOptimizedScript(sttResult2);
+            // 1. 최적화된 대본 확인 (adjustedScript 우선, 없으면 correctedScript)
+            if (input.optimizedScript1() == null || input.optimizedScript2() == null) {
+                throw new RuntimeException("최적화된 대본을 찾을 수 없습니다: "
+                    + (input.optimizedScript1() == null ? input.presentationId1() : input.presentationId2()));
+            }
 
-            // 3. FastAPI에 대본 비교 요청
+            // 2. FastAPI에 대본 비교 요청
             Map<String, Object> comparisonResult = fastApiService.compareOptimizedScripts(
-                optimizedScript1, optimizedScript2);
+                input.optimizedScript1(), input.optimizedScript2());
 
-            // 4. FastAPI 응답을 그대로 반환 (구조화된 데이터)
+            // 3. FastAPI 응답을 그대로 반환 (구조화된 데이터)
             return comparisonResult;
 
         } catch (Exception e) {
@@ -187,6 +289,7 @@ public class ComparisonService {
             fallbackResult.put("strengths_comparison", "AI 대본 비교 분석을 수행할 수 없습니다.");
             fallbackResult.put("improvement_suggestions", "대본 데이터를 확인해주세요.");
             fallbackResult.put("overall_feedback", "분석 결과를 불러올 수 없습니다.");
+            fallbackResult.put(FastApiService.MOCK_RESULT_KEY, true);
             return fallbackResult;
         }
     }
@@ -194,21 +297,21 @@ public class ComparisonService {
     /**
      * AI 기반 최적화된 대본 비교 분석 (텍스트 요약 반환 - 하위 호환성을 위해 유지)
      */
-    private String generateAiComparisonSummary(Presentation p1, Presentation p2) {
-        Map<String, Object> result = generateAiComparisonResult(p1, p2);
+    private String generateAiComparisonSummary(ComparisonInput input) {
+        Map<String, Object> result = generateAiComparisonResult(input);
         return extractComparisonSummary(result);
     }
 
     /**
-     * STT 결과에서 최적화된 대본 추출
+     * STT 결과에서 최적화된 대본 추출 (없으면 null)
      */
-    private String getOptimizedScript(SttResult sttResult) {
+    private String getOptimizedScriptOrNull(SttResult sttResult) {
         if (sttResult.getAdjustedScript() != null && !sttResult.getAdjustedScript().trim().isEmpty()) {
             return sttResult.getAdjustedScript();
         } else if (sttResult.getCorrectedScript() != null && !sttResult.getCorrectedScript().trim().isEmpty()) {
             return sttResult.getCorrectedScript();
         } else {
-            throw new RuntimeException("최적화된 대본을 찾을 수 없습니다");
+            return null;
         }
     }
 
@@ -275,6 +378,38 @@ public class ComparisonService {
         }
     }
     
+    /**
+     * 발표 하나의 비교 입력 지문
+     * VoiceAnalysis/SttResult는 재분석 때마다 새로 저장되므로 ID가 곧 버전이고,
+     * 최적화 대본은 재분석 없이 바뀔 수 있어 내용까지 포함한다.
+     */
+    private String presentationFingerprint(Presentation presentation, VoiceAnalysis analysis, SttResult sttResult) {
+        return sha256(String.join("\u0000",
+            String.valueOf(presentation.getId()),
+            String.valueOf(presentation.getTitle()),
+            String.valueOf(presentation.getScript()),
+            String.valueOf(analysis.getId()),
+            sttResult != null ? String.valueOf(sttResult.getId()) : "",
+            sttResult != null ? String.valueOf(sttResult.getAdjustedScript()) : "",
+            sttResult != null ? String.valueOf(sttResult.getCorrectedScript()) : ""));
+    }
+
+    // 두 발표 지문을 정렬해서 합침 (findExistingComparison과 같이 순서 무관)
+    private String comparisonFingerprint(String fingerprint1, String fingerprint2) {
+        return fingerprint1.compareTo(fingerprint2) <= 0
+            ? sha256(fingerprint1 + fingerprint2)
+            : sha256(fingerprint2 + fingerprint1);
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
     private String convertToJson(ComparisonDataDto comparisonData) {
         try {
             return objectMapper.writeValueAsString(comparisonData);
@@ -0,0 +1,265 @@
+package com.example.ddorang.presentation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * FastAPI 인스턴스 풀
+ *
+ * fastapi.base-urls에 나열한 인스턴스 중 진행 중인 요청 + 맡고 있는 분석 작업이 가장 적은 곳으로 요청을 보낸다.
+ * 분석 작업은 업로드한 인스턴스에만 존재하므로 job_id → 인스턴스를 기록해 두고 결과 폴링도 같은 곳으로 보낸다.
+ * 주기적으로 헬스 체크를 하며, 연결 실패한 인스턴스는 다음 헬스 체크가 성공할 때까지 제외한다.
+ */
+@Component
+@Slf4j
+public class FastApiEndpointPool {
+
+    private final List<Endpoint> endpoints;
+    private final Map<String, Endpoint> jobAffinity = new ConcurrentHashMap<>();
+    private final RestTemplate healthCheckClient;
+    private final String healthCheckPath;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    private static class Endpoint {
+        private final String baseUrl;
+        private final AtomicInteger inflightRequests = new AtomicInteger();
+        private final AtomicInteger assignedJobs = new AtomicInteger();
+        private volatile boolean healthy = true;
+
+        Endpoint(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        int outstanding() {
+            return inflightRequests.get() + assignedJobs.get();
+        }
+    }
+
+    /**
+     * 인스턴스 상태 스냅샷
+     *
+     * @param inflightRequests 진행 중인 HTTP 요청 수
+     * @param assignedJobs     결과를 기다리는 분석 작업 수
+     */
+    public record EndpointStatus(String baseUrl, boolean healthy, int inflightRequests, int assignedJobs) {
+    }
+
+    @FunctionalInterface
+    public interface EndpointCall<T> {
+        T call(String baseUrl) throws Exception;
+    }
+
+    /**
+     * 인스턴스 하나를 점유 - 닫을 때 진행 중 요청 수를 되돌린다
+     */
+    public final class Lease implements AutoCloseable {
+        private final Endpoint endpoint;
+        private boolean closed;
+
+        private Lease(Endpoint endpoint) {
+            this.endpoint = endpoint;
+            endpoint.inflightRequests.incrementAndGet();
+        }
+
+        public String baseUrl() {
+            return endpoint.baseUrl;
+        }
+
+        // 연결 실패 - 다음 헬스 체크 전까지 라우팅에서 제외
+        public void markFailed() {
+            markUnhealthy(endpoint);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                endpoint.inflightRequests.decrementAndGet();
+            }
+        }
+    }
+
+    public FastApiEndpointPool(
+            @Value("${fastapi.base-urls:${fastapi.base-url:http://localhost:8000}}") List<String> baseUrls,
+            @Value("${fastapi.health-check.path:/docs}") String healthCheckPath,
+            @Value("${fastapi.health-check.timeout-ms:2000}") int healthCheckTimeoutMs) {
+        List<Endpoint> configured = new ArrayList<>();
+        for (String baseUrl : baseUrls) {
+            String trimmed = baseUrl.trim().replaceAll("/+$", "");
+            if (!trimmed.isEmpty() && configured.stream().noneMatch(e -> e.baseUrl.equals(trimmed))) {
+                configured.add(new Endpoint(trimmed));
+            }
+        }
+        if (configured.isEmpty()) {
+            throw new IllegalStateException("FastAPI 인스턴스가 설정되지 않았습니다 (fastapi.base-urls)");
+        }
+        this.endpoints = List.copyOf(configured);
+        this.healthCheckPath = healthCheckPath;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(healthCheckTimeoutMs);
+        requestFactory.setReadTimeout(healthCheckTimeoutMs);
+        this.healthCheckClient = new RestTemplate(requestFactory);
+
+        log.info("FastAPI 인스턴스 풀 구성: {}", getBaseUrls());
+    }
+
+    /**
+     * 가장 한가한 인스턴스를 점유 (try-with-resources로 사용)
+     */
+    public Lease acquire() {
+        return new Lease(selectEndpoint());
+    }
+
+    /**
+     * 가장 한가한 인스턴스로 요청 실행 - 연결 실패 시 해당 인스턴스를 제외하고 예외는 그대로 던진다
+     */
+    public <T> T execute(EndpointCall<T> call) throws Exception {
+        try (Lease lease = acquire()) {
+            try {
+                return call.call(lease.baseUrl());
+            } catch (ResourceAccessException | WebClientRequestException e) {
+                lease.markFailed();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * execute의 비동기 버전 - 반환한 future가 끝날 때 점유를 해제한다
+     */
+    public <T> CompletableFuture<T> executeAsync(Function<String, CompletableFuture<T>> call) {
+        Lease lease = acquire();
+        CompletableFuture<T> future;
+        try {
+            future = call.apply(lease.baseUrl());
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+        return future.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof WebClientRequestException) {
+                lease.markFailed();
+            }
+            lease.close();
+        });
+    }
+
+    /**
+     * 분석 작업을 인스턴스에 고정 - 결과를 받을 때까지 그 인스턴스의 부하로 계산된다
+     */
+    public void bindJob(String fastApiJobId, String baseUrl) {
+        Endpoint endpoint = findEndpoint(baseUrl);
+        if (endpoint == null) {
+            log.warn("풀에 없는 FastAPI 인스턴스에 작업 고정 시도: {} → {}", fastApiJobId, baseUrl);
+            return;
+        }
+        Endpoint previous = jobAffinity.put(fastApiJobId, endpoint);
+        if (previous != endpoint) {
+            endpoint.assignedJobs.incrementAndGet();
+            if (previous != null) {
+                previous.assignedJobs.decrementAndGet();
+            }
+        }
+        log.debug("FastAPI 작업 고정: {} → {}", fastApiJobId, baseUrl);
+    }
+
+    /**
+     * 작업이 끝나면 고정 해제
+     */
+    public void unbindJob(String fastApiJobId) {
+        Endpoint endpoint = jobAffinity.remove(fastApiJobId);
+        if (endpoint != null) {
+            endpoint.assignedJobs.decrementAndGet();
+        }
+    }
+
+    /**
+     * 작업을 맡고 있는 인스턴스 주소 (모르면 null)
+     */
+    public String instanceFor(String fastApiJobId) {
+        Endpoint endpoint = jobAffinity.get(fastApiJobId);
+        return endpoint != null ? endpoint.baseUrl : null;
+    }
+
+    public List<String> getBaseUrls() {
+        return endpoints.stream().map(e -> e.baseUrl).toList();
+    }
+
+    // 인스턴스별 상태 스냅샷
+    public List<EndpointStatus> getStatus() {
+        return endpoints.stream()
+            .map(e -> new EndpointStatus(e.baseUrl, e.healthy, e.inflightRequests.get(), e.assignedJobs.get()))
+            .toList();
+    }
+
+    /**
+     * 주기적 헬스 체크 - 2xx 응답이면 정상
+     */
+    @Scheduled(fixedDelayString = "${fastapi.health-check.interval-ms:10000}")
+    public void checkHealth() {
+        Map<String, Boolean> changed = new LinkedHashMap<>();
+        for (Endpoint endpoint : endpoints) {
+            boolean healthy;
+            try {
+                ResponseEntity<Void> response =
+                    healthCheckClient.getForEntity(endpoint.baseUrl + healthCheckPath, Void.class);
+                healthy = response.getStatusCode().is2xxSuccessful();
+            } catch (Exception e) {
+                healthy = false;
+            }
+            if (endpoint.healthy != healthy) {
+                changed.put(endpoint.baseUrl, healthy);
+            }
+            endpoint.healthy = healthy;
+        }
+        if (!changed.isEmpty()) {
+            log.info("FastAPI 인스턴스 상태 변경: {}", changed);
+        }
+    }
+
+    private Endpoint selectEndpoint() {
+        List<Endpoint> candidates = endpoints.stream().filter(e -> e.healthy).toList();
+        if (candidates.isEmpty()) {
+            // 모두 비정상이면 그래도 요청은 보내 본다 (헬스 체크 경로만 막힌 경우 등)
+            log.warn("정상 FastAPI 인스턴스 없음 - 전체 인스턴스 중에서 선택");
+            candidates = endpoints;
+        }
+
+        // 부하가 같으면 돌아가며 선택해 한 인스턴스로 몰리지 않게 함
+        int offset = Math.floorMod(roundRobin.getAndIncrement(), candidates.size());
+        List<Endpoint> rotated = new ArrayList<>(candidates.subList(offset, candidates.size()));
+        rotated.addAll(candidates.subList(0, offset));
+        return rotated.stream().min(Comparator.comparingInt(Endpoint::outstanding)).orElseThrow();
+    }
+
+    private Endpoint findEndpoint(String baseUrl) {
+        return endpoints.stream().filter(e -> e.baseUrl.equals(baseUrl)).findFirst().orElse(null);
+    }
+
+    private void markUnhealthy(Endpoint endpoint) {
+        if (endpoint.healthy) {
+            endpoint.healthy = false;
+            log.warn("FastAPI 인스턴스 연결 실패 - 헬스 체크 전까지 제외: {}", endpoint.baseUrl);
+        }
+    }
+}
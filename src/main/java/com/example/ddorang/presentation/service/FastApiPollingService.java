@@ -1,36 +1,130 @@
 package com.example.ddorang.presentation.service;
 
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.presentation.dto.FastApiJobResult;
 import com.example.ddorang.presentation.entity.VideoAnalysisJob;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FastApiPollingService {
 
+    private static final long POLL_INTERVAL_MILLIS = 5000;
+    // 폴링 대기 중 노드 교대 신호를 확인하는 간격
+    private static final long HANDOFF_CHECK_MILLIS = 250;
+
     private final VideoAnalysisService videoAnalysisService;
     private final VideoChunkService videoChunkService;
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final FastApiResultParser fastApiResultParser;
+    private final FastApiEndpointPool fastApiEndpointPool;
+    private final VideoSegmentSplitter videoSegmentSplitter;
+    private final AnalysisResultMerger analysisResultMerger;
+    private final AnalysisCancellationRegistry analysisCancellationRegistry;
+    private final VideoAnalysisLeaseService videoAnalysisLeaseService;
+    private final VideoAnalysisStageService videoAnalysisStageService;
+
+    // 이 노드에서 실행 중인 작업 (노드 종료 시 이어받을 수 있도록 넘길 상태)
+    private final Map<UUID, RunningJob> runningJobs = new ConcurrentHashMap<>();
+
+    // 노드 종료 중 - 설정되면 실행 중인 작업은 다음 확인 지점에서 멈추고 다른 노드로 넘어감
+    private volatile boolean handoffRequested = false;
 
-    @Value("${fastapi.base-url:http://localhost:8000}")
-    private String fastApiUrl;
+    // 구간 분석/취소 요청은 대부분 I/O 대기이므로 가상 스레드 사용
+    private final ExecutorService backgroundExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
 
+    // FastAPI 작업 취소 경로 (POST, 지원하지 않는 서버면 실패 로그만 남김)
+    @Value("${fastapi.cancel-path:/cancel/{job_id}}")
+    private String cancelPath;
+
+    // 긴 영상을 구간으로 나눠 여러 FastAPI 인스턴스에서 동시에 분석 (기본 꺼짐)
+    @Value("${analysis.sharding.enabled:false}")
+    private boolean shardingEnabled;
+
+    @Value("${analysis.sharding.min-duration-seconds:900}")
+    private int shardingMinDurationSeconds;
+
+    @Value("${analysis.sharding.segment-seconds:300}")
+    private int shardingSegmentSeconds;
+
+    @Value("${analysis.sharding.max-segments:8}")
+    private int shardingMaxSegments;
+
+    public enum Phase {
+        UPLOADING,  // 청크 업로드 중 - 넘기면 다른 노드가 다시 업로드
+        POLLING,    // 결과 폴링 중 - 넘기면 다른 노드가 같은 FastAPI 작업을 이어서 폴링
+        SEGMENTED   // 구간 분할 분석 - FastAPI 작업이 여러 개라 다시 분석
+    }
+
+    // 실행 중인 작업의 진행 단계와 폴링 상태
+    private static final class RunningJob {
+        private volatile Phase phase = Phase.UPLOADING;
+        private volatile String fastApiJobId;
+        private volatile LocalDateTime nextPollAt;
+        // 결과 저장과 노드 교대 중 먼저 한 쪽만 진행 (같은 작업을 두 노드가 완료하지 않도록)
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private boolean settle() {
+            return settled.compareAndSet(false, true);
+        }
+    }
+
+    // 구간 업로드 진행 - 마지막 구간 업로드가 끝나면 업로드 완료로 기록
+    private static final class SegmentUploads {
+        private final AtomicInteger remaining;
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicInteger chunks = new AtomicInteger();
+
+        private SegmentUploads(int segments) {
+            this.remaining = new AtomicInteger(segments);
+        }
+    }
+
+    /**
+     * 노드 종료로 작업을 다른 노드에 넘기고 중단할 때 던지는 예외
+     */
+    public static class AnalysisHandedOffException extends RuntimeException {
+        public AnalysisHandedOffException() {
+            super("노드 종료로 다른 노드에 넘긴 작업");
+        }
+    }
+
     // 비동기 영상 분석 시작
     @Async
     public CompletableFuture<Void> startVideoAnalysis(VideoAnalysisJob job) {
@@ -38,12 +132,34 @@ public class FastApiPollingService {
         log.debug("DEBUG: VideoAnalysisJob - videoPath: {}, presentationId: {}", job.getVideoPath(), job.getPresentation().getId());
         log.debug("DEBUG: VideoChunkService bean: {}", videoChunkService != null ? "OK" : "NULL");
 
+        AnalysisCancellationRegistry.CancellationToken token = analysisCancellationRegistry.register(job.getId());
+        RunningJob running = new RunningJob();
+        runningJobs.put(job.getId(), running);
         try {
+            // 다른 노드가 업로드까지 마치고 넘긴 작업은 폴링만 이어서
+            if (job.getStatus() == JobStatus.PROCESSING && job.getFastApiJobId() != null) {
+                resumePolling(job, running, token);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            // 긴 영상은 구간별로 나눠 병렬 분석
+            if (shardingEnabled) {
+                File videoFile = resolveVideoFile(job);
+                if (videoFile != null && shouldShard(videoFile)) {
+                    running.phase = Phase.SEGMENTED;
+                    analyzeInSegments(job, videoFile, token);
+                    return CompletableFuture.completedFuture(null);
+                }
+            }
+
             // FastAPI /analysis 엔드포인트 호출
             log.debug("DEBUG: callFastApiStt() 호출 직전");
-            String fastApiJobId = callFastApiStt(job);
+            String fastApiJobId = callFastApiStt(job, token);
             log.debug("DEBUG: callFastApiStt() 호출 직후 - 반환값: {}", fastApiJobId);
 
+            // 업로드가 교대 대기 시간을 넘겨 이미 다시 대기 상태로 넘어간 작업이면 기록하지 않음
+            throwIfHandingOff();
+
             if (fastApiJobId == null) {
                 log.warn("⚠️ FastAPI 초기 호출 실패, 백그라운드 처리 대기 중: {}", job.getId());
                 videoAnalysisService.updateJobStatus(job.getId(), "processing", "분석 서버 연결 중입니다. 잠시만 기다려주세요...");
@@ -51,54 +167,170 @@ public class FastApiPollingService {
                 return CompletableFuture.completedFuture(null);
             }
 
+            // 작업을 받은 인스턴스 기록 (결과는 그 인스턴스에만 있음)
+            String fastApiInstance = instanceFor(fastApiJobId);
+            videoAnalysisService.assignFastApiJob(job.getId(), fastApiJobId, fastApiInstance);
+
+            // 취소되면 FastAPI에도 바로 취소 요청 (이미 취소됐으면 즉시 실행)
+            token.onCancel(() -> cancelUpstream(fastApiJobId, fastApiInstance));
+
             // 상태를 processing으로 업데이트
+            token.throwIfCancelled();
             videoAnalysisService.updateJobStatus(job.getId(), "processing", "FastAPI에서 분석 중...");
 
             // 백그라운드에서 결과 폴링 시작
-            pollFastApiResult(job.getId(), fastApiJobId);
+            pollAssignedJob(job.getId(), fastApiJobId, fastApiInstance, running, token, 0);
 
+        } catch (AnalysisHandedOffException e) {
+            handOff(job.getId(), running);
+        } catch (AnalysisCancellationRegistry.AnalysisCancelledException e) {
+            // 상태는 취소 요청 쪽에서 이미 변경함
+            log.info("분석 작업 취소로 중단: {}", job.getId());
         } catch (Exception e) {
             log.error("FastAPI 분석 시작 실패: {}", job.getId(), e);
             videoAnalysisService.markJobAsFailed(job.getId(), "분석 시작 실패: " + e.getMessage());
+        } finally {
+            runningJobs.remove(job.getId());
+            analysisCancellationRegistry.unregister(job.getId());
         }
 
         return CompletableFuture.completedFuture(null);
     }
 
+    // 다른 노드에서 넘겨받은 작업 - 업로드 없이 기록된 FastAPI 작업을 nextPollAt부터 폴링
+    private void resumePolling(VideoAnalysisJob job, RunningJob running,
+                               AnalysisCancellationRegistry.CancellationToken token) {
+        String fastApiJobId = job.getFastApiJobId();
+        String fastApiInstance = job.getFastApiInstance() != null ? job.getFastApiInstance() : instanceFor(fastApiJobId);
+        fastApiEndpointPool.bindJob(fastApiJobId, fastApiInstance);
+        token.onCancel(() -> cancelUpstream(fastApiJobId, fastApiInstance));
+
+        long delayMillis = job.getNextPollAt() != null
+            ? Math.max(0, Duration.between(LocalDateTime.now(), job.getNextPollAt()).toMillis())
+            : 0;
+        log.info("넘겨받은 분석 작업 폴링 재개: {} → {} ({}, {}ms 후)", job.getId(), fastApiJobId, fastApiInstance, delayMillis);
+        pollAssignedJob(job.getId(), fastApiJobId, fastApiInstance, running, token, delayMillis);
+    }
 
-    // FastAPI /analysis 엔드포인트 호출 (청크 업로드 방식)
-    private String callFastApiStt(VideoAnalysisJob job) {
-        log.debug("DEBUG: callFastApiStt() 메서드 진입");
-
+    // 업로드가 끝난 작업의 결과 폴링 (delayMillis 뒤 첫 폴링)
+    private void pollAssignedJob(UUID springJobId, String fastApiJobId, String fastApiInstance, RunningJob running,
+                                 AnalysisCancellationRegistry.CancellationToken token, long delayMillis) {
+        running.fastApiJobId = fastApiJobId;
+        running.nextPollAt = LocalDateTime.now().plus(Duration.ofMillis(delayMillis));
+        running.phase = Phase.POLLING;
         try {
-            log.info("📹 FastAPI Analysis 호출 (청크 모드): {}", job.getVideoPath());
+            if (delayMillis > 0) {
+                sleepUntilNextPoll(token, delayMillis);
+            }
+            pollFastApiResult(springJobId, fastApiJobId, fastApiInstance, token);
+        } catch (InterruptedException e) {
+            log.info("폴링 중단: {}", springJobId);
+            Thread.currentThread().interrupt();
+        } finally {
+            fastApiEndpointPool.unbindJob(fastApiJobId);
+        }
+    }
+
+    // === 노드 종료 시 작업 넘기기 ===
+
+    /**
+     * 실행 중인 작업에 교대 신호 - 폴링 대기 중인 작업은 바로, 업로드 중인 작업은 업로드가 끝난 뒤 멈춘다
+     */
+    public void requestHandoff() {
+        handoffRequested = true;
+    }
+
+    // 청크 업로드 중인 작업 수
+    public int getUploadingCount() {
+        return (int) runningJobs.values().stream().filter(r -> r.phase == Phase.UPLOADING).count();
+    }
+
+    // 이 노드에서 실행 중인 작업 수
+    public int getRunningCount() {
+        return runningJobs.size();
+    }
 
-            // 비디오 파일 경로 처리
-            String videoPath = job.getVideoPath();
+    // 실행 중이면서 아직 결과 저장/넘기기 전인 작업 ID
+    public List<UUID> getUnsettledJobIds() {
+        return runningJobs.entrySet().stream()
+            .filter(entry -> !entry.getValue().settled.get())
+            .map(Map.Entry::getKey)
+            .toList();
+    }
 
-            log.debug("DEBUG: 원본 videoPath: {}", videoPath);
+    /**
+     * 아직 멈추지 않은 작업을 모두 넘김 (스레드가 나중에 결과를 받아도 저장하지 않음)
+     *
+     * @return 넘긴 작업 수
+     */
+    public int handOffRemaining() {
+        int handedOff = 0;
+        for (Map.Entry<UUID, RunningJob> entry : runningJobs.entrySet()) {
+            if (handOff(entry.getKey(), entry.getValue())) {
+                handedOff++;
+            }
+        }
+        return handedOff;
+    }
 
-            // 웹 URL을 실제 파일 경로로 변환
-            // /api/files/videos/... → uploads/videos/...
-            if (videoPath.startsWith("/api/files/videos/")) {
-                String relativePath = videoPath.substring("/api/files/videos/".length());
-                videoPath = uploadDir + "/videos/" + relativePath;
-                log.debug("DEBUG: 웹 URL을 파일 경로로 변환: {}", videoPath);
+    // 폴링 중이면 다음 폴링 시각을 남기고, 그 외에는 대기 상태로 돌려 다른 노드가 이어받게 함 (작업당 한 번)
+    private boolean handOff(UUID springJobId, RunningJob running) {
+        if (!running.settle()) {
+            return false;
+        }
+        try {
+            if (running.phase == Phase.POLLING && running.fastApiJobId != null) {
+                videoAnalysisLeaseService.handOffPolling(springJobId, running.nextPollAt);
+                log.info("폴링 중인 작업 넘김: {} → {} ({}부터)", springJobId, running.fastApiJobId, running.nextPollAt);
+            } else {
+                videoAnalysisLeaseService.requeue(springJobId);
+                log.info("작업을 대기 상태로 넘김 ({}): {}", running.phase, springJobId);
             }
+            return true;
+        } catch (Exception e) {
+            log.error("작업 넘기기 실패 - 점유가 만료되면 다른 노드가 이어받음: {}", springJobId, e);
+            return false;
+        }
+    }
+
+    private void throwIfHandingOff() {
+        if (handoffRequested) {
+            throw new AnalysisHandedOffException();
+        }
+    }
+
+    // 결과를 저장하기 직전 - 이미 넘긴 작업이면 중단
+    private void settleOrHandOff(UUID springJobId) {
+        RunningJob running = runningJobs.get(springJobId);
+        if (running != null && !running.settle()) {
+            throw new AnalysisHandedOffException();
+        }
+    }
 
-            // 상대 경로인 경우 절대 경로로 변환
-            if (!videoPath.startsWith("/")) {
-                videoPath = System.getProperty("user.dir") + "/" + videoPath;
-                log.debug("DEBUG: 절대 경로로 변환: {}", videoPath);
+    // 다음 폴링까지 대기 - 취소되면 AnalysisCancelledException, 노드 교대가 시작되면 AnalysisHandedOffException
+    private void sleepUntilNextPoll(AnalysisCancellationRegistry.CancellationToken token, long millis)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        while (true) {
+            throwIfHandingOff();
+            long remaining = (deadline - System.nanoTime()) / 1_000_000;
+            if (remaining <= 0) {
+                return;
             }
+            token.sleep(Math.min(remaining, HANDOFF_CHECK_MILLIS));
+        }
+    }
+
+
+    // FastAPI /analysis 엔드포인트 호출 (청크 업로드 방식)
+    private String callFastApiStt(VideoAnalysisJob job, AnalysisCancellationRegistry.CancellationToken token) {
+        log.debug("DEBUG: callFastApiStt() 메서드 진입");
 
-            File videoFile = new File(videoPath);
-            log.debug("DEBUG: 파일 존재 여부: {}, 크기: {}MB",
-                videoFile.exists(),
-                videoFile.exists() ? videoFile.length() / (1024 * 1024) : 0);
+        try {
+            log.info("📹 FastAPI Analysis 호출 (청크 모드): {}", job.getVideoPath());
 
-            if (!videoFile.exists()) {
-                log.error("❌ 비디오 파일 없음: {}", videoPath);
+            File videoFile = resolveVideoFile(job);
+            if (videoFile == null) {
                 return null;
             }
 
@@ -110,16 +342,22 @@ public class FastApiPollingService {
             log.debug("DEBUG: 메타데이터 구성 완료 - target_time: {}", targetTime);
 
             // ===== 2. 청크 업로드 =====
+            token.throwIfCancelled();
             videoAnalysisService.updateJobStatus(job.getId(), "processing", "영상 업로드 중...");
             log.debug("DEBUG: videoChunkService.uploadVideoInChunks() 호출 직전");
             log.debug("DEBUG: videoChunkService는 null? {}", videoChunkService == null);
 
-            String fastApiJobId = videoChunkService.uploadVideoInChunks(videoFile, metadata);
+            videoAnalysisStageService.uploadStarted(job.getId());
+            String fastApiJobId = videoChunkService.uploadVideoInChunks(videoFile, metadata, token);
+            videoAnalysisStageService.uploadFinished(job.getId(), videoFile.length(),
+                VideoChunkService.chunkCount(videoFile.length()));
 
             log.debug("DEBUG: videoChunkService.uploadVideoInChunks() 호출 완료 - 반환값: {}", fastApiJobId);
             log.info("✅ FastAPI 청크 업로드 성공 - job_id: {}", fastApiJobId);
             return fastApiJobId;
 
+        } catch (AnalysisCancellationRegistry.AnalysisCancelledException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❌ FastAPI /analysis 청크 업로드 실패 - 예외 타입: {}, 메시지: {}",
                 e.getClass().getSimpleName(), e.getMessage(), e);
@@ -130,25 +368,141 @@ public class FastApiPollingService {
     }
 
 
+    // 비디오 파일 경로 처리 (파일이 없으면 null)
+    private File resolveVideoFile(VideoAnalysisJob job) {
+        String videoPath = job.getVideoPath();
+
+        log.debug("DEBUG: 원본 videoPath: {}", videoPath);
+
+        // 웹 URL을 실제 파일 경로로 변환
+        // /api/files/videos/... → uploads/videos/...
+        if (videoPath.startsWith("/api/files/videos/")) {
+            String relativePath = videoPath.substring("/api/files/videos/".length());
+            videoPath = uploadDir + "/videos/" + relativePath;
+            log.debug("DEBUG: 웹 URL을 파일 경로로 변환: {}", videoPath);
+        }
+
+        // 상대 경로인 경우 절대 경로로 변환
+        if (!videoPath.startsWith("/")) {
+            videoPath = System.getProperty("user.dir") + "/" + videoPath;
+            log.debug("DEBUG: 절대 경로로 변환: {}", videoPath);
+        }
+
+        File videoFile = new File(videoPath);
+        log.debug("DEBUG: 파일 존재 여부: {}, 크기: {}MB",
+            videoFile.exists(),
+            videoFile.exists() ? videoFile.length() / (1024 * 1024) : 0);
+
+        if (!videoFile.exists()) {
+            log.error("❌ 비디오 파일 없음: {}", videoPath);
+            return null;
+        }
+        return videoFile;
+    }
+
+    // FastAPI 작업 취소 요청 (best-effort, 요청 스레드를 막지 않도록 백그라운드에서)
+    private void cancelUpstream(String fastApiJobId, String fastApiInstance) {
+        fastApiEndpointPool.unbindJob(fastApiJobId);
+        backgroundExecutor.execute(() -> {
+            try {
+                restTemplate.postForEntity(fastApiInstance + cancelPath, null, Void.class,
+                    Map.of("job_id", fastApiJobId));
+                log.info("FastAPI 작업 취소 요청 완료: {} ({})", fastApiJobId, fastApiInstance);
+            } catch (Exception e) {
+                log.warn("FastAPI 작업 취소 요청 실패 (무시됨): {} - {}", fastApiJobId, e.getMessage());
+            }
+        });
+    }
+
+    // 작업을 받은 FastAPI 인스턴스 (모르면 기본 인스턴스)
+    private String instanceFor(String fastApiJobId) {
+        String fastApiInstance = fastApiEndpointPool.instanceFor(fastApiJobId);
+        if (fastApiInstance == null) {
+            fastApiInstance = fastApiEndpointPool.getBaseUrls().get(0);
+            log.warn("FastAPI 작업 인스턴스 정보 없음 - 기본 인스턴스로 폴링: {} → {}", fastApiJobId, fastApiInstance);
+        }
+        return fastApiInstance;
+    }
+
+
     // FastAPI 결과 폴링
-    // 5초마다 /result/{job_id} 호출
-    private void pollFastApiResult(java.util.UUID springJobId, String fastApiJobId) {
-        log.info("FastAPI 결과 폴링 시작: {} → {}", springJobId, fastApiJobId);
+    // 5초마다 작업을 맡은 인스턴스의 /result/{job_id} 호출
+    private void pollFastApiResult(UUID springJobId, String fastApiJobId, String fastApiInstance,
+                                   AnalysisCancellationRegistry.CancellationToken token) {
+        FastApiJobResult result;
+        try {
+            result = awaitResult(springJobId, fastApiJobId, fastApiInstance, token);
+        } catch (InterruptedException e) {
+            log.info("폴링 중단: {}", springJobId);
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        // 결과를 받는 사이에 취소됐거나 다른 노드로 넘겼으면 저장하지 않음
+        token.throwIfCancelled();
+        settleOrHandOff(springJobId);
+
+        if (result == null) {
+            // 타임아웃 처리
+            log.error("FastAPI 폴링 타임아웃: {} (20분 초과)", springJobId);
+            videoAnalysisService.markJobAsFailed(springJobId, "FastAPI 응답 타임아웃 (20분 초과)");
+            return;
+        }
+
+        switch (result.status()) {
+            case "completed":
+                // 분석 완료
+                log.info("FastAPI 분석 완료: {} → {}", springJobId, fastApiJobId);
+                videoAnalysisStageService.upstreamCompleted(springJobId);
+
+                // 결과를 DB에 저장하는 동안에도 상태 조회에서 보이도록 전사로 예비 피드백부터 공유
+                if (result.result() != null) {
+                    publishPreliminaryFeedback(springJobId, result.result().transcription());
+                }
+
+                // DB에 결과 저장 + 직접 웹소켓 알림 발행
+                videoAnalysisService.completeJob(springJobId, result.result());
+                break;
+
+            case "error":
+                // 분석 실패
+                log.error("FastAPI 분석 실패: {} - {}", springJobId, result.error());
+                videoAnalysisService.markJobAsFailed(springJobId, "FastAPI 분석 오류: " + result.error());
+                break;
+
+            default:
+                log.warn("⚠FastAPI 작업 없음: {}", fastApiJobId);
+                videoAnalysisService.markJobAsFailed(springJobId, "FastAPI에서 작업을 찾을 수 없음");
+        }
+    }
+
+    // 완료/실패/작업 없음 중 하나가 될 때까지 폴링 (타임아웃이면 null, 취소되면 AnalysisCancelledException)
+    private FastApiJobResult awaitResult(UUID springJobId, String fastApiJobId, String fastApiInstance,
+                                         AnalysisCancellationRegistry.CancellationToken token)
+            throws InterruptedException {
+        log.info("FastAPI 결과 폴링 시작: {} → {} ({})", springJobId, fastApiJobId, fastApiInstance);
 
         int maxAttempts = 240; // 최대 20분 (5초 × 240회)
         int attempts = 0;
+        RunningJob running = runningJobs.get(springJobId);
 
         while (attempts < maxAttempts) {
+            token.throwIfCancelled();
+            throwIfHandingOff();
+            if (attempts == 0) {
+                videoAnalysisStageService.firstPolled(springJobId);
+            }
             try {
-                // FastAPI /result/{job_id} 호출
-                ResponseEntity<Map> response = restTemplate.getForEntity(
-                    fastApiUrl + "/result/" + fastApiJobId,
-                    Map.class
+                // FastAPI /result/{job_id} 호출 (응답 본문을 스트리밍으로 바로 파싱)
+                FastApiJobResult result = restTemplate.execute(
+                    fastApiInstance + "/result/" + fastApiJobId,
+                    HttpMethod.GET,
+                    null,
+                    response -> fastApiResultParser.parseJobResult(response.getBody())
                 );
 
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    Map<String, Object> result = response.getBody();
-                    String status = (String) result.get("status");
+                if (result != null && result.status() != null) {
+                    String status = result.status();
 
                     log.debug("폴링 결과: {} - {} ({}회차)", springJobId, status, attempts + 1);
 
@@ -158,57 +512,229 @@ public class FastApiPollingService {
                             break;
 
                         case "completed":
-                            // 분석 완료
-                            Map<String, Object> analysisResult = (Map<String, Object>) result.get("result");
-
-                            log.info("FastAPI 분석 완료: {} → {}", springJobId, fastApiJobId);
-
-                            // DB에 결과 저장 + 직접 웹소켓 알림 발행
-                            videoAnalysisService.completeJob(springJobId, analysisResult);
-                            return;
-
                         case "error":
-                            // 분석 실패
-                            String error = (String) result.get("error");
-                            log.error("FastAPI 분석 실패: {} - {}", springJobId, error);
-
-                            videoAnalysisService.markJobAsFailed(springJobId, "FastAPI 분석 오류: " + error);
-                            return;
-
                         case "not_found":
-                            log.warn("⚠FastAPI 작업 없음: {}", fastApiJobId);
-                            videoAnalysisService.markJobAsFailed(springJobId, "FastAPI에서 작업을 찾을 수 없음");
-                            return;
+                            return result;
 
                         default:
                             log.warn(" 알 수 없는 상태: {} - {}", springJobId, status);
                     }
                 }
 
-                // 5초 대기
-                Thread.sleep(5000);
-                attempts++;
-
-            } catch (InterruptedException e) {
-                log.info("폴링 중단: {}", springJobId);
-                Thread.currentThread().interrupt();
-                return;
             } catch (Exception e) {
                 log.error("폴링 오류: {} ({}회차)", springJobId, attempts + 1, e);
-                attempts++;
+            }
+
+            // 5초 대기 (취소/노드 교대 시 바로 깨어남), 넘길 때를 대비해 다음 폴링 시각 기록
+            if (running != null && running.phase == Phase.POLLING) {
+                running.nextPollAt = LocalDateTime.now().plus(Duration.ofMillis(POLL_INTERVAL_MILLIS));
+            }
+            sleepUntilNextPoll(token, POLL_INTERVAL_MILLIS);
+            attempts++;
+        }
+
+        return null;
+    }
+
 
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
+    // === 구간 분할 분석 ===
+
+    // 영상이 충분히 길면 구간 분할 (ffprobe 실패 시 기존 방식)
+    private boolean shouldShard(File videoFile) {
+        try {
+            double durationSeconds = videoSegmentSplitter.probeDurationSeconds(videoFile);
+            return durationSeconds >= shardingMinDurationSeconds;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("영상 길이 측정 실패 - 단일 분석으로 진행: {} ({})", videoFile.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 영상을 구간으로 나눠 각각 FastAPI에 올리고(풀이 한가한 인스턴스로 분산) 동시에 결과를 기다린 뒤 병합
+     * 한 구간이라도 실패하면 작업 전체를 실패로 처리한다.
+     */
+    private void analyzeInSegments(VideoAnalysisJob job, File videoFile,
+                                   AnalysisCancellationRegistry.CancellationToken token) {
+        UUID springJobId = job.getId();
+        Path segmentDir = null;
+
+        try {
+            videoAnalysisService.updateJobStatus(springJobId, "processing", "영상 구간 분할 중...");
+
+            double totalSeconds = videoSegmentSplitter.probeDurationSeconds(videoFile);
+            int segmentSeconds = Math.max(shardingSegmentSeconds,
+                (int) Math.ceil(totalSeconds / Math.max(1, shardingMaxSegments)));
+
+            segmentDir = Files.createTempDirectory("segments-" + springJobId);
+            List<VideoSegmentSplitter.Segment> segments =
+                videoSegmentSplitter.split(videoFile, segmentSeconds, segmentDir);
+            log.info("구간 분할 분석 시작: {} - {}개 구간", springJobId, segments.size());
+
+            token.throwIfCancelled();
+            videoAnalysisService.updateJobStatus(springJobId, "processing",
+                "FastAPI에서 " + segments.size() + "개 구간 분석 중...");
+
+            Integer goalMinutes = job.getPresentation().getGoalTime();
+            double goalSeconds = (goalMinutes != null ? goalMinutes : 6) * 60.0;
+
+            // 구간 전사가 도착하는 대로 앞에서부터 이어 붙여 예비 피드백 갱신
+            String[] transcripts = new String[segments.size()];
+            SegmentUploads uploads = new SegmentUploads(segments.size());
+            videoAnalysisStageService.uploadStarted(springJobId);
+            List<CompletableFuture<AnalysisResultMerger.SegmentResult>> futures = new ArrayList<>();
+            for (int i = 0; i < segments.size(); i++) {
+                VideoSegmentSplitter.Segment segment = segments.get(i);
+                int index = i;
+                // 목표 시간은 구간 길이 비율만큼 나눠서 전달
+                double segmentGoal = goalSeconds * segment.durationSeconds() / totalSeconds;
+                futures.add(CompletableFuture.supplyAsync(
+                    () -> analyzeSegment(springJobId, segment, segmentGoal, uploads, token), backgroundExecutor)
+                    .thenApply(result -> {
+                        updatePreliminaryFeedback(springJobId, transcripts, index, result.result().transcription());
+                        return result;
+                    }));
+            }
+
+            // 한 구간이 실패하면 앞 구간을 기다리지 않고 바로 남은 구간과 FastAPI 작업을 취소
+            List<AnalysisResultMerger.SegmentResult> results =
+                joinFailFast(futures, () -> analysisCancellationRegistry.cancel(springJobId));
+            videoAnalysisStageService.upstreamCompleted(springJobId);
+
+            FastApiAnalysisResult merged = analysisResultMerger.merge(results);
+            log.info("구간 분석 병합 완료: {} ({}개 구간)", springJobId, results.size());
+            token.throwIfCancelled();
+            settleOrHandOff(springJobId);
+            videoAnalysisService.completeJob(springJobId, merged);
+
+        } catch (AnalysisCancellationRegistry.AnalysisCancelledException e) {
+            log.info("구간 분석 취소로 중단: {}", springJobId);
+        } catch (AnalysisHandedOffException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            log.info("구간 분석 중단: {}", springJobId);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof AnalysisCancellationRegistry.AnalysisCancelledException) {
+                log.info("구간 분석 취소로 중단: {}", springJobId);
+                return;
+            }
+            // 노드 교대 - 작업은 startVideoAnalysis에서 대기 상태로 넘김
+            if (cause instanceof AnalysisHandedOffException handedOff) {
+                throw handedOff;
+            }
+            // 남은 구간도 바로 멈추고 FastAPI 작업을 취소
+            analysisCancellationRegistry.cancel(springJobId);
+            log.error("구간 분석 실패: {}", springJobId, cause);
+            videoAnalysisService.markJobAsFailed(springJobId, "구간 분석 실패: " + cause.getMessage());
+        } finally {
+            deleteDirectory(segmentDir);
+        }
+    }
+
+    /**
+     * 구간 결과를 모두 기다림 - 한 구간이 실패하면 다른 구간이 끝나기 전에 바로 onFirstFailure 실행
+     * 실패 시에는 먼저 실패한 구간의 예외를 던진다 (그 때문에 취소된 구간의 예외가 아니라).
+     * 취소/노드 교대로 끝난 구간은 실패로 보지 않는다.
+     */
+    static <T> List<T> joinFailFast(List<CompletableFuture<T>> futures, Runnable onFirstFailure) {
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        for (CompletableFuture<T> future : futures) {
+            future.whenComplete((result, error) -> {
+                if (error == null) {
                     return;
                 }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause instanceof AnalysisCancellationRegistry.AnalysisCancelledException
+                        || cause instanceof AnalysisHandedOffException) {
+                    return;
+                }
+                if (firstFailure.compareAndSet(null, cause)) {
+                    onFirstFailure.run();
+                }
+            });
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            Throwable first = firstFailure.get();
+            throw first != null ? new CompletionException(first) : e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private void updatePreliminaryFeedback(UUID springJobId, String[] transcripts, int index, String transcription) {
+        String soFar;
+        synchronized (transcripts) {
+            transcripts[index] = transcription;
+            soFar = Arrays.stream(transcripts)
+                .filter(t -> t != null && !t.isBlank())
+                .collect(Collectors.joining(" "));
+        }
+        publishPreliminaryFeedback(springJobId, soFar);
+    }
+
+    private void publishPreliminaryFeedback(UUID springJobId, String transcription) {
+        if (transcription == null || transcription.isBlank()) {
+            return;
+        }
+        try {
+            videoAnalysisService.updatePreliminaryFeedback(springJobId, transcription);
+        } catch (Exception e) {
+            log.warn("예비 피드백 갱신 실패 (무시됨): {} - {}", springJobId, e.getMessage());
+        }
+    }
+
+    private AnalysisResultMerger.SegmentResult analyzeSegment(UUID springJobId, VideoSegmentSplitter.Segment segment,
+                                                              double segmentGoalSeconds, SegmentUploads uploads,
+                                                              AnalysisCancellationRegistry.CancellationToken token) {
+        Map<String, Object> metadata = new HashMap<>();
+        long goal = Math.round(segmentGoalSeconds);
+        metadata.put("target_time", String.format("%d:%02d", goal / 60, goal % 60));
+
+        String fastApiJobId = videoChunkService.uploadVideoInChunks(segment.file(), metadata, token);
+        long segmentBytes = segment.file().length();
+        uploads.bytes.addAndGet(segmentBytes);
+        uploads.chunks.addAndGet(VideoChunkService.chunkCount(segmentBytes));
+        if (uploads.remaining.decrementAndGet() == 0) {
+            videoAnalysisStageService.uploadFinished(springJobId, uploads.bytes.get(), uploads.chunks.get());
+        }
+        String fastApiInstance = instanceFor(fastApiJobId);
+        token.onCancel(() -> cancelUpstream(fastApiJobId, fastApiInstance));
+        try {
+            FastApiJobResult result = awaitResult(springJobId, fastApiJobId, fastApiInstance, token);
+            if (result == null) {
+                throw new IllegalStateException("구간 분석 타임아웃: " + segment.file().getName());
             }
+            if (!"completed".equals(result.status()) || result.result() == null) {
+                throw new IllegalStateException("구간 분석 실패: " + segment.file().getName()
+                    + " (" + result.status() + (result.error() != null ? " - " + result.error() : "") + ")");
+            }
+            return new AnalysisResultMerger.SegmentResult(
+                result.result(), segment.offsetSeconds(), segment.durationSeconds());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("구간 분석 중단: " + segment.file().getName(), e);
+        } finally {
+            fastApiEndpointPool.unbindJob(fastApiJobId);
         }
+    }
 
-        // 타임아웃 처리
-        log.error("FastAPI 폴링 타임아웃: {} (20분 초과)", springJobId);
-        videoAnalysisService.markJobAsFailed(springJobId, "FastAPI 응답 타임아웃 (20분 초과)");
+    private void deleteDirectory(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("구간 임시 파일 정리 실패 (무시됨): {}", dir, e);
+        }
     }
 
-}
\ No newline at end of file
+}
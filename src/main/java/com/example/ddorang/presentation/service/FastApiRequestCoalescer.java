@@ -0,0 +1,156 @@
+package com.example.ddorang.presentation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * FastAPI 동일 요청 병합 (single-flight)
+ *
+ * 같은 작업 + 같은 요청 지문으로 동시에 들어온 호출은 먼저 들어온 호출 하나만 FastAPI로 보내고,
+ * 나머지는 그 결과(또는 예외)를 함께 받는다. 호출이 끝나면 키는 바로 해제되므로 결과를 캐시하지는 않는다.
+ */
+@Component
+@Slf4j
+public class FastApiRequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private static class Counters {
+        private final LongAdder hits = new LongAdder();    // 진행 중인 호출에 합류
+        private final LongAdder misses = new LongAdder();  // 새로 FastAPI 호출
+    }
+
+    /**
+     * 작업별 병합 통계
+     *
+     * @param hits   진행 중인 호출에 합류한 횟수
+     * @param misses 직접 FastAPI를 호출한 횟수
+     */
+    public record Stats(long hits, long misses) {
+    }
+
+    /**
+     * 같은 (operation, fingerprint) 호출이 진행 중이면 그 결과를 기다리고, 없으면 직접 호출
+     * 합류한 호출자는 같은 결과 객체를 받으므로, 변경 가능한 결과는 호출자 쪽에서 복사해서 써야 한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String fingerprint, Callable<T> call) throws Exception {
+        String key = operation + ":" + fingerprint;
+        Counters operationCounters = counters.computeIfAbsent(operation, k -> new Counters());
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            operationCounters.hits.increment();
+            log.info("동일한 FastAPI 요청 진행 중 - 결과 공유: {} ({})", operation, fingerprint);
+            return (T) await(existing);
+        }
+
+        operationCounters.misses.increment();
+        try {
+            T result = call.call();
+            mine.complete(result);
+            return result;
+        } catch (Exception | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /**
+     * execute의 비동기 버전 - 같은 키의 동기/비동기 호출과 서로 결과를 공유한다
+     * call은 진행 중인 호출이 없을 때만 호출 스레드에서 실행된다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String operation, String fingerprint,
+                                                 Supplier<CompletableFuture<T>> call) {
+        String key = operation + ":" + fingerprint;
+        Counters operationCounters = counters.computeIfAbsent(operation, k -> new Counters());
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            operationCounters.hits.increment();
+            log.info("동일한 FastAPI 요청 진행 중 - 결과 공유: {} ({})", operation, fingerprint);
+            return (CompletableFuture<T>) existing.thenApply(result -> result);
+        }
+
+        operationCounters.misses.increment();
+        try {
+            call.get().whenComplete((result, error) -> {
+                inflight.remove(key, mine);
+                if (error != null) {
+                    mine.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+                } else {
+                    mine.complete(result);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            inflight.remove(key, mine);
+            mine.completeExceptionally(e);
+        }
+        return (CompletableFuture<T>) mine.thenApply(result -> result);
+    }
+
+    // 작업별 통계 스냅샷
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> snapshot = new TreeMap<>();
+        counters.forEach((operation, c) -> snapshot.put(operation, new Stats(c.hits.sum(), c.misses.sum())));
+        return snapshot;
+    }
+
+    // 현재 진행 중인 호출 수
+    public int getInflightCount() {
+        return inflight.size();
+    }
+
+    /**
+     * 요청 지문 생성 (각 값을 구분자로 이어 SHA-256)
+     */
+    public static String fingerprint(Object... parts) {
+        StringBuilder material = new StringBuilder();
+        for (Object part : parts) {
+            material.append(part).append('\u0000');
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(material.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
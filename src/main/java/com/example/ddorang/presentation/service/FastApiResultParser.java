@@ -0,0 +1,308 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.presentation.dto.FastApiJobResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FastAPI 분석 결과 스트리밍 파서
+ *
+ * 응답 본문을 Map 트리로 만들지 않고 JsonParser로 한 번 훑으면서
+ * FastApiAnalysisResult를 바로 채운다. 알 수 없는 필드는 원본 JSON으로 보관하고,
+ * 허용 크기를 넘는 응답은 읽는 도중 거부한다.
+ */
+@Component
+@Slf4j
+public class FastApiResultParser {
+
+    private final JsonFactory jsonFactory;
+    private final int maxBytes;
+
+    public FastApiResultParser(ObjectMapper objectMapper,
+                               @Value("${fastapi.result.max-bytes:33554432}") int maxBytes) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.maxBytes = maxBytes;
+    }
+
+    // 응답 본문 최대 허용 크기 (bytes)
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * /result/{job_id} 폴링 응답 파싱 ({"status", "error", "result"})
+     */
+    public FastApiJobResult parseJobResult(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(new LimitedInputStream(body, maxBytes))) {
+            expectStartObject(parser);
+
+            String status = null;
+            String error = null;
+            FastApiAnalysisResult result = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                switch (name) {
+                    case "status" -> status = readText(parser);
+                    case "error" -> error = readText(parser);
+                    case "result" -> {
+                        if (token == JsonToken.START_OBJECT) {
+                            result = readAnalysis(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return new FastApiJobResult(status, error, result);
+        }
+    }
+
+    /**
+     * /analysis 응답 파싱 (분석 결과가 최상위에 있거나 "result" 안에 있는 두 구조 모두 지원)
+     */
+    public FastApiAnalysisResult parseAnalysis(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(new LimitedInputStream(body, maxBytes))) {
+            expectStartObject(parser);
+            return readAnalysis(parser);
+        }
+    }
+
+    // 현재 토큰이 START_OBJECT인 상태에서 분석 결과 객체를 끝까지 읽음
+    private FastApiAnalysisResult readAnalysis(JsonParser parser) throws IOException {
+        FastApiAnalysisResult.FastApiAnalysisResultBuilder builder = FastApiAnalysisResult.builder();
+        Map<String, String> extras = new LinkedHashMap<>();
+        FastApiAnalysisResult nested = null;
+        boolean hasAnxietyGrade = false;
+        String anxietyGradeFromAnalysis = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (name) {
+                case "intensity_grade" -> builder.intensityGrade(readText(parser));
+                case "intensity_db" -> builder.intensityDb(readFloat(parser, name));
+                case "intensity_text" -> builder.intensityText(readText(parser));
+                case "pitch_grade" -> builder.pitchGrade(readText(parser));
+                case "pitch_avg" -> builder.pitchAvg(readFloat(parser, name));
+                case "pitch_text" -> builder.pitchText(readText(parser));
+                case "wpm_grade" -> builder.wpmGrade(readText(parser));
+                case "wpm_avg" -> builder.wpmAvg(readFloat(parser, name));
+                case "wpm_comment" -> builder.wpmComment(readText(parser));
+                case "anxiety_grade" -> {
+                    hasAnxietyGrade = true;
+                    builder.anxietyGrade(readText(parser));
+                }
+                case "anxiety_ratio" -> builder.anxietyRatio(readFloat(parser, name));
+                case "anxiety_analysis" -> {
+                    // 문자열이면 등급, 객체면 내부 grade를 등급으로 사용
+                    String raw = readRaw(parser);
+                    builder.anxietyAnalysisJson(raw);
+                    if (token == JsonToken.START_OBJECT) {
+                        anxietyGradeFromAnalysis = extractGrade(raw);
+                    } else if (token == JsonToken.VALUE_STRING) {
+                        anxietyGradeFromAnalysis = parser.getText();
+                    } else if (raw != null) {
+                        anxietyGradeFromAnalysis = raw;
+                    }
+                }
+                case "transcription" -> builder.transcription(readText(parser));
+                case "pronunciation_score" -> builder.pronunciationScore(readFloat(parser, name));
+                case "adjusted_script" -> builder.adjustedScript(readText(parser));
+                case "corrected_transcription" -> builder.correctedTranscription(readText(parser));
+                case "duration_seconds" -> builder.durationSeconds(readInteger(parser));
+                case "feedback" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        builder.feedback(readFeedback(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "predicted_questions" -> builder.predictedQuestionsJson(readRaw(parser));
+                case "result" -> {
+                    // 새 구조: 분석 결과가 result 객체 안에 있음
+                    if (token == JsonToken.START_OBJECT) {
+                        nested = readAnalysis(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> extras.put(name, copyStructure(parser));
+            }
+        }
+
+        if (nested != null) {
+            return nested;
+        }
+
+        if (!hasAnxietyGrade && anxietyGradeFromAnalysis != null) {
+            builder.anxietyGrade(anxietyGradeFromAnalysis);
+        }
+
+        return builder.extras(extras).build();
+    }
+
+    private FastApiAnalysisResult.Feedback readFeedback(JsonParser parser) throws IOException {
+        FastApiAnalysisResult.Feedback.FeedbackBuilder builder = FastApiAnalysisResult.Feedback.builder();
+        Map<String, String> extras = new LinkedHashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+
+            switch (name) {
+                case "frequent_words" -> builder.frequentWordsJson(readRaw(parser));
+                case "awkward_sentences" -> builder.awkwardSentencesJson(readRaw(parser));
+                case "difficulty_issues" -> builder.difficultyIssuesJson(readRaw(parser));
+                default -> extras.put(name, copyStructure(parser));
+            }
+        }
+
+        return builder.extras(extras).build();
+    }
+
+    // === 값 읽기 헬퍼 ===
+
+    private String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            return copyStructure(parser);
+        }
+        return parser.getText();
+    }
+
+    private Float readFloat(JsonParser parser, String name) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getFloatValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Float.parseFloat(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                log.warn("Float 변환 실패: {} = {}", name, parser.getText());
+                return null;
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private Integer readInteger(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return (int) parser.getDoubleValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    // 값을 원본 JSON 문자열로 복사 (null이면 null)
+    private String readRaw(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return copyStructure(parser);
+    }
+
+    private String copyStructure(JsonParser parser) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return writer.toString();
+    }
+
+    // anxiety_analysis 객체에서 grade만 추출 (작은 객체라 다시 파싱)
+    private String extractGrade(String rawObject) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(rawObject)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("grade".equals(name)) {
+                    return readText(parser);
+                }
+                parser.skipChildren();
+            }
+        }
+        return null;
+    }
+
+    private void expectStartObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("FastAPI 응답이 JSON 객체가 아닙니다: " + parser.currentToken());
+        }
+    }
+
+    /**
+     * 허용 크기를 넘는 응답
+     */
+    public static class PayloadTooLargeException extends IOException {
+        public PayloadTooLargeException(long maxBytes) {
+            super("FastAPI 응답이 허용 크기(" + maxBytes + " bytes)를 초과했습니다");
+        }
+    }
+
+    // 읽은 바이트 수가 한도를 넘으면 즉시 실패하는 스트림
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long count;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int read) throws IOException {
+            count += read;
+            if (count > maxBytes) {
+                throw new PayloadTooLargeException(maxBytes);
+            }
+        }
+    }
+}
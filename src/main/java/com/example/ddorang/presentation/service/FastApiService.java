@@ -1,130 +1,227 @@
 package com.example.ddorang.presentation.service;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 
 @Service
 @Slf4j
 public class FastApiService {
 
-    @Value("${fastapi.base-url:http://localhost:8000}")
-    private String fastApiBaseUrl;
+    // 목 데이터 표시용 키 - 저장 전에 제거하고, 결과를 재사용하지 않는 데 사용
+    public static final String MOCK_RESULT_KEY = "_mock";
+
+    // 업로드 영상을 FastAPI로 넘길 때 한 번에 읽는 크기
+    private static final int UPLOAD_BUFFER_SIZE = 64 * 1024;
 
     private final ObjectMapper objectMapper;
+    private final FastApiResultParser fastApiResultParser;
+    private final ScriptOptimizationCache scriptOptimizationCache;
+    private final FastApiRequestCoalescer fastApiRequestCoalescer;
+    private final FastApiEndpointPool fastApiEndpointPool;
+    private final ScriptSimilarityService scriptSimilarityService;
     private final WebClient webClient;
 
-    public FastApiService(ObjectMapper objectMapper) {
+    public FastApiService(ObjectMapper objectMapper, FastApiResultParser fastApiResultParser,
+                          ScriptOptimizationCache scriptOptimizationCache,
+                          FastApiRequestCoalescer fastApiRequestCoalescer,
+                          FastApiEndpointPool fastApiEndpointPool,
+                          ScriptSimilarityService scriptSimilarityService) {
         this.objectMapper = objectMapper;
+        this.fastApiResultParser = fastApiResultParser;
+        this.scriptOptimizationCache = scriptOptimizationCache;
+        this.fastApiRequestCoalescer = fastApiRequestCoalescer;
+        this.fastApiEndpointPool = fastApiEndpointPool;
+        this.scriptSimilarityService = scriptSimilarityService;
         this.webClient = WebClient.builder().build();
     }
 
     /**
      * FastAPI에 비디오 파일을 전송하여 음성 분석 수행 (WebClient 사용)
+     * 같은 파일/목표시간으로 동시에 들어온 요청(더블 클릭, 재시도)은 하나의 FastAPI 호출을 공유
      */
-    public Map<String, Object> analyzeVideo(MultipartFile videoFile, Integer goalTimeSeconds) throws IOException {
+    public FastApiAnalysisResult analyzeVideo(MultipartFile videoFile, Integer goalTimeSeconds) throws IOException {
         log.info("FastAPI 음성 분석 요청 시작: {}, 파일 크기: {} bytes, 목표시간: {}초",
                 videoFile.getOriginalFilename(), videoFile.getSize(), goalTimeSeconds);
 
-        String url = fastApiBaseUrl + "/analysis";
-        File tempFile = null;
-
         try {
-            // 1. MultipartFile을 임시 파일로 저장
-            String originalFilename = videoFile.getOriginalFilename();
-            tempFile = File.createTempFile("upload-", ".mp4");
-            videoFile.transferTo(tempFile);
-
-            // 2. metadata 구성 (목표시간 포함)
-            String metadata = createMetadataJson(goalTimeSeconds);
-            log.info("전송할 metadata: {}", metadata);
-
-            // 3. WebClient로 multipart/form-data 전송 (필드명 video로 변경, metadata 추가)
-            MultiValueMap<String, Object> multipartData = new LinkedMultiValueMap<>();
-            multipartData.add("video", new FileSystemResource(tempFile));
-            multipartData.add("metadata", metadata); // 목표시간이 포함된 JSON metadata
-            
-            String responseBody = webClient.mutate()
-                    .baseUrl(fastApiBaseUrl)
-                    .build()
-                    .post()
-                    .uri("/analysis")
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData(multipartData))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.info("FastAPI 응답: {}", responseBody);
-
-            // 3. 응답 파싱
-            Map<String, Object> response = objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
-            
-            // 4. FastAPI 응답 처리 완료
-            
-            return response;
+            String fingerprint = FastApiRequestCoalescer.fingerprint(
+                    videoFile.getOriginalFilename(), videoFile.getSize(), goalTimeSeconds, contentSampleDigest(videoFile));
+
+            return fastApiRequestCoalescer.execute("analysis", fingerprint,
+                    () -> requestAnalysis(videoFile, goalTimeSeconds));
 
         } catch (Exception e) {
             log.error("FastAPI 통신 오류 발생", e);
             return createMockAnalysisResult(videoFile.getOriginalFilename());
-        } finally {
-            // 임시 파일 삭제
-            if (tempFile != null && tempFile.exists()) {
-                if (tempFile.delete()) {
-                    log.info("임시 파일 삭제 성공: {}", tempFile.getAbsolutePath());
-                } else {
-                    log.warn("임시 파일 삭제 실패: {}", tempFile.getAbsolutePath());
-                }
+        }
+    }
+
+    /**
+     * analyzeVideo의 논블로킹 버전 - 업로드 파일을 스트리밍으로 넘기므로 요청 스레드는 바로 반환된다
+     * 업로드 파트는 DeferredResult 응답이 끝날 때 정리되므로 그 전에 전송이 시작되어야 한다 (구독 시 스트림을 엶).
+     * 결과는 블로킹 작업용 스케줄러 스레드에서 완료되므로 이어지는 DB 저장을 그대로 붙여도 된다.
+     * 동기 버전과 달리 실패 시 목 데이터로 바꾸지 않고 예외로 완료한다 - 호출 쪽이 작업을 실패로 기록해야 하므로
+     * (목 결과가 완료로 저장/보관되고 완료 알림까지 나가지 않도록).
+     */
+    public CompletableFuture<FastApiAnalysisResult> analyzeVideoAsync(MultipartFile videoFile, Integer goalTimeSeconds) {
+        log.info("FastAPI 음성 분석 비동기 요청 시작: {}, 파일 크기: {} bytes, 목표시간: {}초",
+                videoFile.getOriginalFilename(), videoFile.getSize(), goalTimeSeconds);
+
+        CompletableFuture<FastApiAnalysisResult> future;
+        try {
+            String fingerprint = FastApiRequestCoalescer.fingerprint(
+                    videoFile.getOriginalFilename(), videoFile.getSize(), goalTimeSeconds, contentSampleDigest(videoFile));
+
+            future = fastApiRequestCoalescer.executeAsync("analysis", fingerprint,
+                    () -> requestAnalysisAsync(videoFile, goalTimeSeconds));
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("FastAPI 통신 오류 발생", e);
             }
+        });
+    }
+
+    // FastAPI /analysis 비동기 호출 (응답을 기다리는 동안 스레드를 점유하지 않음)
+    private CompletableFuture<FastApiAnalysisResult> requestAnalysisAsync(MultipartFile videoFile, Integer goalTimeSeconds) {
+        MultiValueMap<String, HttpEntity<?>> multipartData = analysisMultipartBody(videoFile, goalTimeSeconds);
+
+        return fastApiEndpointPool.executeAsync(baseUrl -> webClient.mutate()
+                .baseUrl(baseUrl)
+                .build()
+                .post()
+                .uri("/analysis")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(multipartData))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(body -> DataBufferUtils.join(body, fastApiResultParser.getMaxBytes()))
+                .switchIfEmpty(Mono.error(() -> new IOException("FastAPI 응답 본문이 비어있습니다")))
+                // 파싱과 이후 DB 저장은 이벤트 루프가 아닌 스레드에서
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::parseAnalysisBody)
+                .toFuture());
+    }
+
+    private FastApiAnalysisResult parseAnalysisBody(DataBuffer responseBody) {
+        log.info("FastAPI 응답 수신: {} bytes", responseBody.readableByteCount());
+        try (InputStream body = responseBody.asInputStream(true)) {
+            return fastApiResultParser.parseAnalysis(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // FastAPI /analysis 호출
+    private FastApiAnalysisResult requestAnalysis(MultipartFile videoFile, Integer goalTimeSeconds) throws Exception {
+        MultiValueMap<String, HttpEntity<?>> multipartData = analysisMultipartBody(videoFile, goalTimeSeconds);
+
+        // 응답 본문은 허용 크기까지만 버퍼에 모음 (초과 시 DataBufferLimitException)
+        DataBuffer responseBody = fastApiEndpointPool.execute(baseUrl -> webClient.mutate()
+                .baseUrl(baseUrl)
+                .build()
+                .post()
+                .uri("/analysis")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(multipartData))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(body -> DataBufferUtils.join(body, fastApiResultParser.getMaxBytes()))
+                .block());
+
+        if (responseBody == null) {
+            throw new IOException("FastAPI 응답 본문이 비어있습니다");
+        }
+
+        log.info("FastAPI 응답 수신: {} bytes", responseBody.readableByteCount());
+
+        // 응답 파싱 (Map 트리 없이 바로 타입 객체로)
+        try (InputStream body = responseBody.asInputStream(true)) {
+            return fastApiResultParser.parseAnalysis(body);
+        }
+    }
+
+    /**
+     * /analysis multipart 본문 (video + metadata)
+     *
+     * 업로드 파일을 임시 파일로 다시 쓰지 않고 InputStream에서 UPLOAD_BUFFER_SIZE씩 읽어 바로 보낸다.
+     * 읽기는 소켓 쓰기 요청(back-pressure)에 맞춰 진행되므로 파일 크기와 무관하게 버퍼 몇 개만 메모리에 있다.
+     * 스트림은 구독할 때 열리므로 다른 인스턴스로 재시도해도 처음부터 다시 읽는다.
+     */
+    private MultiValueMap<String, HttpEntity<?>> analysisMultipartBody(MultipartFile videoFile, Integer goalTimeSeconds) {
+        String filename = Optional.ofNullable(videoFile.getOriginalFilename()).orElse("video.mp4");
+
+        Flux<DataBuffer> video = DataBufferUtils.readInputStream(
+                        videoFile::getInputStream, DefaultDataBufferFactory.sharedInstance, UPLOAD_BUFFER_SIZE)
+                // 블로킹 읽기가 이벤트 루프에서 돌지 않도록
+                .subscribeOn(Schedulers.boundedElastic());
+
+        String metadata = createMetadataJson(goalTimeSeconds);
+        log.info("전송할 metadata: {}", metadata);
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.asyncPart("video", video, DataBuffer.class)
+                .filename(filename)
+                .contentType(MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM));
+        builder.part("metadata", metadata); // 목표시간이 포함된 JSON metadata
+        return builder.build();
+    }
+
+    // 업로드 파일 앞부분(최대 1MB)의 해시 - 전체를 읽지 않고 같은 파일인지 구분
+    private String contentSampleDigest(MultipartFile videoFile) throws IOException {
+        try (InputStream in = videoFile.getInputStream()) {
+            byte[] sample = in.readNBytes(1024 * 1024);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(sample));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
         }
     }
 
     /**
      * FastAPI에 대본 최적화 요청 전송
+     * 같은 대본/목표시간의 결과는 캐시에서 바로 반환 (목 데이터는 캐시하지 않음)
      */
     public Map<String, Object> optimizeScript(String script, Integer goalTimeSeconds, Integer currentDurationSeconds) {
         log.info("FastAPI 대본 최적화 요청 시작: 목표시간={}초, 현재시간={}초", 
                 goalTimeSeconds, currentDurationSeconds);
 
         try {
-            // 요청 데이터 구성
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("script", script);
-            requestData.put("goal_time_seconds", goalTimeSeconds);
-            requestData.put("current_duration_seconds", currentDurationSeconds);
-
-            // WebClient로 POST 요청 전송
-            String responseBody = webClient.mutate()
-                    .baseUrl(fastApiBaseUrl)
-                    .build()
-                    .post()
-                    .uri("/optimize-script")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestData)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.info("FastAPI 대본 최적화 응답: {}", responseBody);
-
-            // 응답 파싱
-            return objectMapper.readValue(responseBody, new TypeReference<>() {});
+            return scriptOptimizationCache.get(script, goalTimeSeconds, currentDurationSeconds,
+                    () -> requestOptimizeScript(script, goalTimeSeconds, currentDurationSeconds));
 
         } catch (Exception e) {
             log.error("FastAPI 대본 최적화 통신 오류 발생", e);
@@ -132,14 +229,42 @@ public class FastApiService {
         }
     }
 
+    // FastAPI /optimize-script 호출
+    private Map<String, Object> requestOptimizeScript(String script, Integer goalTimeSeconds,
+                                                      Integer currentDurationSeconds) throws Exception {
+        // 요청 데이터 구성
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("script", script);
+        requestData.put("goal_time_seconds", goalTimeSeconds);
+        requestData.put("current_duration_seconds", currentDurationSeconds);
+
+        // WebClient로 POST 요청 전송
+        String responseBody = fastApiEndpointPool.execute(baseUrl -> webClient.mutate()
+                .baseUrl(baseUrl)
+                .build()
+                .post()
+                .uri("/optimize-script")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestData)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block());
+
+        log.info("FastAPI 대본 최적화 응답: {}", responseBody);
+
+        // 응답 파싱
+        return objectMapper.readValue(responseBody, new TypeReference<>() {});
+    }
+
     /**
      * FastAPI 서버 연결 실패 시 사용할 목 대본 최적화 결과
      */
     private Map<String, Object> createMockOptimizeResult(String originalScript, Integer goalTimeSeconds) {
         Map<String, Object> mockResult = new HashMap<>();
         mockResult.put("optimized_script", originalScript + "\n\n[목 데이터] 대본이 " + goalTimeSeconds + "초에 맞게 최적화되었습니다. (실제 최적화는 FastAPI 서버 연결 후 가능)");
-        mockResult.put("optimization_notes", "FastAPI 서버(" + fastApiBaseUrl + ")에 연결하여 실제 LLM 기반 대본 최적화를 이용하세요.");
+        mockResult.put("optimization_notes", "FastAPI 서버(" + String.join(", ", fastApiEndpointPool.getBaseUrls()) + ")에 연결하여 실제 LLM 기반 대본 최적화를 이용하세요.");
         mockResult.put("estimated_duration_seconds", goalTimeSeconds);
+        mockResult.put(MOCK_RESULT_KEY, true);
         log.info("목 대본 최적화 결과 생성 완료: 목표시간 {}초", goalTimeSeconds);
         return mockResult;
     }
@@ -147,24 +272,25 @@ public class FastApiService {
     /**
      * FastAPI 서버 연결 실패 시 사용할 목 분석 결과
      */
-    private Map<String, Object> createMockAnalysisResult(String filename) {
-        Map<String, Object> mockResult = new HashMap<>();
-        mockResult.put("intensity_grade", "보통");
-        mockResult.put("intensity_db", 65.5f);
-        mockResult.put("intensity_text", "음성 강도가 적절합니다. (목 데이터 - FastAPI 서버 연결 필요)");
-        mockResult.put("pitch_grade", "좋음");
-        mockResult.put("pitch_avg", 150.2f);
-        mockResult.put("pitch_text", "피치 변화가 자연스럽습니다. (목 데이터 - FastAPI 서버 연결 필요)");
-        mockResult.put("wpm_grade", "보통");
-        mockResult.put("wpm_avg", 120.5f);
-        mockResult.put("wpm_comment", "말하기 속도가 적당합니다. (목 데이터 - FastAPI 서버 연결 필요)");
-        mockResult.put("transcription", "안녕하세요. 이것은 테스트용 목 데이터입니다. 실제 음성 인식 결과는 FastAPI 서버(" + fastApiBaseUrl + ") 연결 후 확인하실 수 있습니다.");
-        mockResult.put("pronunciation_score", 0.75f);
-        mockResult.put("duration_seconds", 120); // Mock 데이터로 2분(120초) 설정
-        
-        // 불안 분석 목 데이터 추가
-        mockResult.put("anxiety_grade", "B");
-        mockResult.put("anxiety_ratio", 0.5f);
+    private FastApiAnalysisResult createMockAnalysisResult(String filename) {
+        FastApiAnalysisResult mockResult = FastApiAnalysisResult.builder()
+                .intensityGrade("보통")
+                .intensityDb(65.5f)
+                .intensityText("음성 강도가 적절합니다. (목 데이터 - FastAPI 서버 연결 필요)")
+                .pitchGrade("좋음")
+                .pitchAvg(150.2f)
+                .pitchText("피치 변화가 자연스럽습니다. (목 데이터 - FastAPI 서버 연결 필요)")
+                .wpmGrade("보통")
+                .wpmAvg(120.5f)
+                .wpmComment("말하기 속도가 적당합니다. (목 데이터 - FastAPI 서버 연결 필요)")
+                .transcription("안녕하세요. 이것은 테스트용 목 데이터입니다. 실제 음성 인식 결과는 FastAPI 서버(" + String.join(", ", fastApiEndpointPool.getBaseUrls()) + ") 연결 후 확인하실 수 있습니다.")
+                .pronunciationScore(0.75f)
+                .durationSeconds(120) // Mock 데이터로 2분(120초) 설정
+                // 불안 분석 목 데이터 추가
+                .anxietyGrade("B")
+                .anxietyRatio(0.5f)
+                .extras(Map.of())
+                .build();
         
         log.info("목 분석 결과 생성 완료: {}", filename);
         return mockResult;
@@ -172,31 +298,24 @@ public class FastApiService {
     
     /**
      * FastAPI에 최적화된 대본 비교 요청 전송
+     * 두 대본이 거의 같으면 LLM을 호출하지 않고 로컬에서 차이점만 정리해 반환
      */
     public Map<String, Object> compareOptimizedScripts(String optimizedScript1, String optimizedScript2) {
+        Optional<Map<String, Object>> localResult =
+                scriptSimilarityService.compareLocally(optimizedScript1, optimizedScript2);
+        if (localResult.isPresent()) {
+            return localResult.get();
+        }
+
         log.info("FastAPI 최적화된 대본 비교 요청 시작");
 
         try {
-            // WebClient로 POST 요청 전송 (form-data 방식)
-            MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-            formData.add("script1", optimizedScript1);
-            formData.add("script2", optimizedScript2);
-            
-            String responseBody = webClient.mutate()
-                    .baseUrl(fastApiBaseUrl)
-                    .build()
-                    .post()
-                    .uri("/compare")
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.info("FastAPI 대본 비교 응답: {}", responseBody);
-
-            // 응답 파싱
-            return objectMapper.readValue(responseBody, new TypeReference<>() {});
+            Map<String, Object> comparisonResult = fastApiRequestCoalescer.execute("compare",
+                    FastApiRequestCoalescer.fingerprint(optimizedScript1, optimizedScript2),
+                    () -> requestCompareScripts(optimizedScript1, optimizedScript2));
+
+            // 함께 기다린 호출자끼리 같은 Map을 공유하므로 복사해서 반환
+            return new HashMap<>(comparisonResult);
 
         } catch (Exception e) {
             log.error("FastAPI 대본 비교 통신 오류 발생", e);
@@ -204,6 +323,31 @@ public class FastApiService {
         }
     }
 
+    // FastAPI /compare 호출
+    private Map<String, Object> requestCompareScripts(String optimizedScript1, String optimizedScript2)
+            throws Exception {
+        // WebClient로 POST 요청 전송 (form-data 방식)
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("script1", optimizedScript1);
+        formData.add("script2", optimizedScript2);
+        
+        String responseBody = fastApiEndpointPool.execute(baseUrl -> webClient.mutate()
+                .baseUrl(baseUrl)
+                .build()
+                .post()
+                .uri("/compare")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(formData))
+                .retrieve()
+                .bodyToMono(String.class)
+                .block());
+
+        log.info("FastAPI 대본 비교 응답: {}", responseBody);
+
+        // 응답 파싱
+        return objectMapper.readValue(responseBody, new TypeReference<>() {});
+    }
+
     /**
      * FastAPI 서버 연결 실패 시 사용할 목 대본 비교 결과
      */
@@ -212,6 +356,7 @@ public class FastApiService {
         mockResult.put("strengths_comparison", "두 대본 모두 도입, 전개, 결론이 명확하게 구성되어 있으며, 논리적 흐름이 잘 유지되고 있습니다. 언어 표현도 전문적이고 명확하여 청중이 이해하기 쉽습니다.");
         mockResult.put("improvement_suggestions", "발표의 설득력을 높이기 위해 사례나 데이터 추가를 고려할 수 있으며, 청중의 반응을 유도하는 질문을 포함하면 더욱 효과적일 것입니다. 또한, 발표의 자연스러움을 위해 연습을 통해 발음과 억양을 개선할 필요가 있습니다.");
         mockResult.put("overall_feedback", "두 대본 모두 잘 작성되었으나, 약간의 개선을 통해 더욱 효과적인 발표가 될 수 있습니다. 청중을 고려한 전달 방식과 자연스러운 흐름을 강조하는 것이 중요합니다.");
+        mockResult.put(MOCK_RESULT_KEY, true);
 
         log.info("목 대본 비교 결과 생성 완료");
         return mockResult;
@@ -220,20 +365,15 @@ public class FastApiService {
     /**
      * 영상 분석 결과에서 실제 영상 길이 추출
      */
-    public Integer extractDurationFromAnalysis(Map<String, Object> analysisResult) {
+    public Integer extractDurationFromAnalysis(FastApiAnalysisResult analysisResult) {
         if (analysisResult == null) {
             return null;
         }
 
-        Object duration = analysisResult.get("duration_seconds");
-        if (duration instanceof Integer) {
-            return (Integer) duration;
-        } else if (duration instanceof Number) {
-            return ((Number) duration).intValue();
+        if (analysisResult.durationSeconds() == null) {
+            log.warn("분석 결과에서 duration_seconds를 찾을 수 없습니다");
         }
-
-        log.warn("분석 결과에서 duration_seconds를 찾을 수 없습니다: {}", analysisResult.keySet());
-        return null;
+        return analysisResult.durationSeconds();
     }
 
     /**
@@ -0,0 +1,66 @@
+package com.example.ddorang.presentation.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 작업별 예비 피드백 (Redis, 모든 노드 공유)
+ *
+ * 분석하는 노드(워커)가 전사 텍스트를 받는 대로 쓰고, 상태 조회를 받는 API 노드가 읽는다.
+ * 분석 결과가 저장되거나 작업이 실패/취소되면 지우고, 지우지 못한 값은 TTL로 정리된다.
+ */
+@Service
+@Slf4j
+public class PreliminaryFeedbackStore {
+
+    static final String KEY_PREFIX = "analysis:preliminary:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public PreliminaryFeedbackStore(RedisTemplate<String, String> redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${analysis.preliminary-feedback.ttl:30m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    public void save(UUID jobId, Map<String, Object> feedback) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + jobId, objectMapper.writeValueAsString(feedback), ttl);
+        } catch (Exception e) {
+            log.warn("예비 피드백 저장 실패: {} - {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 예비 피드백 (없거나 Redis 장애 시 null)
+     */
+    public Map<String, Object> find(UUID jobId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+            return cached != null ? objectMapper.readValue(cached, new TypeReference<Map<String, Object>>() {}) : null;
+        } catch (Exception e) {
+            log.warn("예비 피드백 조회 실패: {} - {}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void evict(UUID jobId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + jobId);
+        } catch (Exception e) {
+            log.warn("예비 피드백 제거 실패: {} - {}", jobId, e.getMessage());
+        }
+    }
+}
@@ -5,10 +5,10 @@ import com.example.ddorang.presentation.entity.PresentationComparison;
 import com.example.ddorang.presentation.entity.Topic;
 import com.example.ddorang.presentation.repository.*;
 import com.example.ddorang.presentation.entity.VideoAnalysisJob;
+import com.example.ddorang.presentation.event.JobStatusChangedEvent;
 import com.example.ddorang.common.service.FileStorageService;
 import com.example.ddorang.presentation.service.FastApiService;
 import com.example.ddorang.presentation.service.VoiceAnalysisService;
-import com.example.ddorang.presentation.service.FastApiPollingService;
 import com.example.ddorang.presentation.service.VideoAnalysisService;
 import com.example.ddorang.team.entity.Team;
 import com.example.ddorang.team.entity.TeamMember;
@@ -18,13 +18,16 @@ import com.example.ddorang.auth.entity.User;
 import com.example.ddorang.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -44,11 +47,13 @@ public class PresentationService {
     private final FileStorageService fileStorageService;
     private final FastApiService fastApiService;
     private final VoiceAnalysisService voiceAnalysisService;
-    private final FastApiPollingService fastApiPollingService;
+    private final VideoAnalysisDispatcher videoAnalysisDispatcher;
     private final VideoAnalysisService videoAnalysisService;
+    private final VideoAnalysisJobClaimService videoAnalysisJobClaimService;
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 특정 토픽의 프레젠테이션 목록 조회
     public List<Presentation> getPresentationsByTopicId(UUID topicId) {
@@ -216,15 +221,16 @@ public class PresentationService {
                 // 비동기 분석 작업 생성
                 VideoAnalysisJob job = createVideoAnalysisJob(
                     savedPresentation,
+                    savedPresentation.getVideoUrl(),
                     videoFile.getOriginalFilename(),
                     videoFile.getSize()
-                );
+                ).job();
                 
                 // DB에 초기 상태 저장
                 videoAnalysisService.initializeJob(job);
                 
-                // FastAPI 폴링 시작 (백그라운드)
-                fastApiPollingService.startVideoAnalysis(job);
+                // 분석 대기열에 등록 (예상 비용이 작은 작업부터 FastAPI로 전송)
+                videoAnalysisDispatcher.submit(job);
                 
                 log.info("자동 분석 작업이 시작되었습니다 - 작업 ID: {}", job.getId());
             } catch (Exception e) {
@@ -272,54 +278,85 @@ public class PresentationService {
         Presentation presentation = getPresentationById(presentationId);
         
         if (videoFile != null && !videoFile.isEmpty()) {
-            try {
-                // 기존 파일 삭제 (필요시)
-                if (presentation.getVideoUrl() != null) {
-                    try {
-                        String oldVideoUrl = presentation.getVideoUrl();
-                        log.info("기존 비디오 파일 삭제 시도: {}", oldVideoUrl);
-                        
-                        String oldFilePath = extractFilePathFromUrl(oldVideoUrl);
-                        if (oldFilePath != null) {
-                            boolean deleted = fileStorageService.deleteFile(oldFilePath);
-                            if (deleted) {
-                                log.info("기존 비디오 파일 삭제 완료: {}", oldFilePath);
-                            } else {
-                                log.warn("기존 비디오 파일 삭제 실패 (파일이 존재하지 않을 수 있음): {}", oldFilePath);
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.error("기존 비디오 파일 삭제 중 오류 발생: {}", e.getMessage(), e);
-                        // 기존 파일 삭제 실패해도 새 파일 업로드는 계속 진행
-                    }
-                }
-                
-                // 새 파일 저장
-                String userId = presentation.getTopic().getUser() != null ? 
-                    presentation.getTopic().getUser().getUserId().toString() : "anonymous";
-                Long projectId = Long.valueOf(Math.abs(presentation.getTopic().getId().hashCode()));
-                
-                FileStorageService.FileInfo fileInfo = fileStorageService.storeVideoFile(videoFile, userId, projectId);
-                // relativePath에서 videos/ 부분을 제거하고 URL 생성
-                String cleanPath = fileInfo.relativePath;
-                if (cleanPath.startsWith("videos/")) {
-                    cleanPath = cleanPath.substring("videos/".length());
-                }
-                String videoUrl = "/api/files/videos/" + cleanPath;
-                
-                presentation.setVideoUrl(videoUrl);
-                
-                log.info("비디오 파일 업데이트 완료: {}", videoUrl);
-                log.info("원본 relativePath: {}", fileInfo.relativePath);
-                log.info("정리된 경로: {}", cleanPath);
-            } catch (Exception e) {
-                log.error("비디오 파일 업데이트 실패: {}", e.getMessage());
-                throw new RuntimeException("비디오 파일 업데이트에 실패했습니다: " + e.getMessage());
-            }
+            // 기존 파일 삭제 (필요시)
+            deleteVideoFile(presentation.getVideoUrl());
+
+            presentation.setVideoUrl(storeVideo(presentation, videoFile));
         }
         
         return presentationRepository.save(presentation);
     }
+
+    // 분석용 영상 저장 - 발표 영상은 그대로 두고 새 경로(업로드마다 고유 파일명)에 저장한 URL 반환
+    // 분석 작업을 만든 요청만 useVideoUpload로 발표 영상을 바꾸고, 이미 진행 중인 작업이 있으면 discardVideoUpload로 지움
+    public String storeVideoUpload(UUID presentationId, MultipartFile videoFile) {
+        log.info("프레젠테이션 {} 분석용 비디오 파일 저장", presentationId);
+        return storeVideo(getPresentationById(presentationId), videoFile);
+    }
+
+    // 저장해 둔 분석용 영상을 발표 영상으로 (기존 파일 삭제)
+    @Transactional
+    public Presentation useVideoUpload(UUID presentationId, String videoUrl) {
+        Presentation presentation = getPresentationById(presentationId);
+        if (!videoUrl.equals(presentation.getVideoUrl())) {
+            deleteVideoFile(presentation.getVideoUrl());
+            presentation.setVideoUrl(videoUrl);
+        }
+        log.info("비디오 파일 업데이트 완료: {}", videoUrl);
+        return presentationRepository.save(presentation);
+    }
+
+    // 분석 작업을 만들지 못한 업로드 정리
+    public void discardVideoUpload(String videoUrl) {
+        log.info("사용하지 않는 분석용 비디오 파일 삭제: {}", videoUrl);
+        deleteVideoFile(videoUrl);
+    }
+
+    private String storeVideo(Presentation presentation, MultipartFile videoFile) {
+        try {
+            String userId = presentation.getTopic().getUser() != null ? 
+                presentation.getTopic().getUser().getUserId().toString() : "anonymous";
+            Long projectId = Long.valueOf(Math.abs(presentation.getTopic().getId().hashCode()));
+            
+            FileStorageService.FileInfo fileInfo = fileStorageService.storeVideoFile(videoFile, userId, projectId);
+            // relativePath에서 videos/ 부분을 제거하고 URL 생성
+            String cleanPath = fileInfo.relativePath;
+            if (cleanPath.startsWith("videos/")) {
+                cleanPath = cleanPath.substring("videos/".length());
+            }
+            String videoUrl = "/api/files/videos/" + cleanPath;
+            
+            log.info("비디오 파일 저장 완료: {}", videoUrl);
+            log.info("원본 relativePath: {}", fileInfo.relativePath);
+            log.info("정리된 경로: {}", cleanPath);
+            return videoUrl;
+        } catch (Exception e) {
+            log.error("비디오 파일 업데이트 실패: {}", e.getMessage());
+            throw new RuntimeException("비디오 파일 업데이트에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    // 비디오 파일 삭제 - 실패해도 호출한 작업은 계속 진행
+    private void deleteVideoFile(String videoUrl) {
+        if (videoUrl == null) {
+            return;
+        }
+        try {
+            log.info("기존 비디오 파일 삭제 시도: {}", videoUrl);
+            
+            String filePath = extractFilePathFromUrl(videoUrl);
+            if (filePath != null) {
+                boolean deleted = fileStorageService.deleteFile(filePath);
+                if (deleted) {
+                    log.info("기존 비디오 파일 삭제 완료: {}", filePath);
+                } else {
+                    log.warn("기존 비디오 파일 삭제 실패 (파일이 존재하지 않을 수 있음): {}", filePath);
+                }
+            }
+        } catch (Exception e) {
+            log.error("기존 비디오 파일 삭제 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
     
     // 프레젠테이션 삭제
     @Transactional
@@ -354,6 +391,8 @@ public class PresentationService {
         if (!analysisJobs.isEmpty()) {
             videoAnalysisJobRepository.deleteAll(analysisJobs);
             log.info("VideoAnalysisJob 삭제 완료: {} ({}개 삭제)", presentationId, analysisJobs.size());
+            // 커밋 후 상태 캐시에서 제거됨
+            eventPublisher.publishEvent(new JobStatusChangedEvent(null, presentationId));
         }
         
         // 5. 관련된 PresentationComparison 데이터 삭제
@@ -633,30 +672,18 @@ public class PresentationService {
     }
 
     // 비동기 영상 분석 관련 메서드들
-    @Transactional
-    public VideoAnalysisJob createVideoAnalysisJob(Presentation presentation, String originalFilename, Long fileSize) {
+    // 발표당 진행 중인 작업은 하나 - 이미 있으면 새로 만들지 않고 그 작업을 반환 (created=false)
+    // 유니크 제약 위반이 호출자 트랜잭션을 롤백시키지 않도록 트랜잭션 밖에서 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VideoAnalysisJobClaimService.Claim createVideoAnalysisJob(Presentation presentation, String videoUrl,
+                                                                     String originalFilename, Long fileSize) {
         log.info("비동기 영상 분석 작업 생성 - 프레젠테이션: {}", presentation.getId());
+        return videoAnalysisJobClaimService.claim(presentation, videoUrl, originalFilename, fileSize);
+    }
 
-        // 이미 진행 중인 작업이 있는지 확인
-        videoAnalysisJobRepository.findActiveJobByPresentationId(presentation.getId())
-            .ifPresent(existingJob -> {
-                log.warn("진행 중인 분석 작업 존재: {}", existingJob.getId());
-                throw new RuntimeException("이미 진행 중인 영상 분석 작업이 있습니다. 기존 작업: " + existingJob.getId());
-            });
-
-        // VideoAnalysisJob 생성
-        VideoAnalysisJob job = VideoAnalysisJob.builder()
-            .presentation(presentation)
-            .videoPath(presentation.getVideoUrl())
-            .originalFilename(originalFilename)
-            .fileSize(fileSize)
-            .build();
-
-        // DB에 저장
-        VideoAnalysisJob savedJob = videoAnalysisJobRepository.save(job);
-        log.info("영상 분석 작업 생성 완료 - ID: {}", savedJob.getId());
-
-        return savedJob;
+    // 진행 중인 분석 작업 조회
+    public Optional<VideoAnalysisJob> findActiveVideoAnalysisJob(UUID presentationId) {
+        return videoAnalysisJobRepository.findActiveJobByPresentationId(presentationId);
     }
 
     // 사용자의 모든 영상 분석 작업 조회
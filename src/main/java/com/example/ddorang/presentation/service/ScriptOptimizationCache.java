@@ -0,0 +1,152 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.util.ScriptTexts;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 대본 최적화 결과 캐시
+ *
+ * 1차: 인스턴스 내 LRU (크기 제한), 2차: Redis (인스턴스 간 공유)
+ * 키는 정규화한 대본 + 목표 시간 + 현재 길이 + 모델 버전의 SHA-256 해시이며,
+ * 같은 키로 동시에 들어온 요청은 FastApiRequestCoalescer를 통해 하나의 FastAPI 호출 결과를 함께 기다린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScriptOptimizationCache {
+
+    private static final String KEY_PREFIX = "scriptOptimization:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final FastApiRequestCoalescer fastApiRequestCoalescer;
+
+    // LLM 모델/프롬프트가 바뀌면 올려서 기존 캐시를 무효화
+    @Value("${fastapi.optimize-script.model-version:v1}")
+    private String modelVersion;
+
+    @Value("${fastapi.optimize-script.cache.local-max-entries:500}")
+    private int localMaxEntries;
+
+    @Value("${fastapi.optimize-script.cache.ttl-hours:24}")
+    private long ttlHours;
+
+    // 접근 순서 기준 LRU (synchronized로 보호)
+    private final LinkedHashMap<String, LocalEntry> localCache = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 로컬 캐시 만료 판단용 현재 시각 (ms, 테스트에서 교체)
+    private LongSupplier clock = System::currentTimeMillis;
+
+    private record LocalEntry(Map<String, Object> value, long expiresAtMillis) {
+        boolean isExpired(long nowMillis) {
+            return nowMillis > expiresAtMillis;
+        }
+    }
+
+    /**
+     * 캐시에서 조회하고 없으면 loader로 FastAPI를 호출해 저장
+     * loader가 실패하면 예외를 그대로 던지며 아무것도 캐시하지 않는다.
+     */
+    public Map<String, Object> get(String script, Integer goalTimeSeconds, Integer currentDurationSeconds,
+                                   Callable<Map<String, Object>> loader) throws Exception {
+        String key = cacheKey(script, goalTimeSeconds, currentDurationSeconds);
+
+        Map<String, Object> cached = getLocal(key);
+        if (cached != null) {
+            log.info("대본 최적화 캐시 적중 (로컬): {}", key);
+            return new LinkedHashMap<>(cached);
+        }
+
+        Map<String, Object> value = fastApiRequestCoalescer.execute("optimize-script", key, () -> {
+            // 직전에 끝난 호출이 로컬 캐시를 채웠을 수 있으므로 다시 확인
+            Map<String, Object> loaded = getLocal(key);
+            if (loaded == null) {
+                loaded = getRemote(key);
+                if (loaded != null) {
+                    log.info("대본 최적화 캐시 적중 (Redis): {}", key);
+                } else {
+                    loaded = loader.call();
+                    putRemote(key, loaded);
+                }
+                putLocal(key, loaded);
+            }
+            return loaded;
+        });
+        return new LinkedHashMap<>(value);
+    }
+
+    /**
+     * 캐시 키 생성 - 줄바꿈/공백 차이만 있는 대본은 같은 키가 된다
+     */
+    String cacheKey(String script, Integer goalTimeSeconds, Integer currentDurationSeconds) {
+        String material = modelVersion + "\n" + goalTimeSeconds + "\n" + currentDurationSeconds + "\n" + ScriptTexts.normalize(script);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(material.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    // === 로컬 캐시 ===
+
+    private synchronized Map<String, Object> getLocal(String key) {
+        LocalEntry entry = localCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.getAsLong())) {
+            localCache.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private synchronized void putLocal(String key, Map<String, Object> value) {
+        localCache.put(key, new LocalEntry(value, clock.getAsLong() + TimeUnit.HOURS.toMillis(ttlHours)));
+        while (localCache.size() > localMaxEntries) {
+            String eldest = localCache.keySet().iterator().next();
+            localCache.remove(eldest);
+        }
+    }
+
+    // === Redis 캐시 (장애 시 캐시 없이 동작) ===
+
+    private Map<String, Object> getRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (json == null) {
+                return null;
+            }
+            return objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            log.warn("대본 최적화 캐시 조회 실패 (Redis): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String key, Map<String, Object> value) {
+        try {
+            redisTemplate.opsForValue()
+                .set(KEY_PREFIX + key, objectMapper.writeValueAsString(value), ttlHours, TimeUnit.HOURS);
+        } catch (Exception e) {
+            log.warn("대본 최적화 캐시 저장 실패 (Redis): {}", e.getMessage());
+        }
+    }
+}
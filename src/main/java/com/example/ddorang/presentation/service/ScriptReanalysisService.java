@@ -0,0 +1,132 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.util.ScriptTexts;
+import com.example.ddorang.presentation.dto.SttResultResponse;
+import com.example.ddorang.presentation.entity.Presentation;
+import com.example.ddorang.presentation.entity.SttResult;
+import com.example.ddorang.presentation.entity.VoiceAnalysis;
+import com.example.ddorang.presentation.repository.PresentationFeedbackRepository;
+import com.example.ddorang.presentation.repository.PresentationRepository;
+import com.example.ddorang.presentation.repository.SttResultRepository;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import com.example.ddorang.presentation.repository.VoiceAnalysisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대본만 수정됐을 때의 재분석
+ *
+ * 영상에서 나온 결과(STT 전사, 음성 분석)는 대본과 무관하므로 저장된 것을 그대로 쓰고,
+ * 대본에 의존하는 부분(대본 최적화, 대본-발화 일치도, 빠뜨린 문장)만 다시 계산한다.
+ * 영상 업로드/STT가 없으므로 수 분이 아니라 수 초 안에 끝난다.
+ * 예상 질문은 FastAPI 전체 분석에서만 만들어지므로 다시 영상 분석을 해야 바뀐다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScriptReanalysisService {
+
+    private final PresentationRepository presentationRepository;
+    private final SttResultRepository sttResultRepository;
+    private final VoiceAnalysisRepository voiceAnalysisRepository;
+    private final VideoAnalysisJobRepository videoAnalysisJobRepository;
+    private final PresentationFeedbackRepository presentationFeedbackRepository;
+    private final TranscriptTextAnalyzer transcriptTextAnalyzer;
+    private final FastApiService fastApiService;
+
+    /**
+     * @param reused          대본이 바뀌지 않아 저장된 결과를 그대로 반환했으면 true
+     * @param missedSentences 대본에는 있지만 발화에서 빠진 문장
+     */
+    public record Result(SttResultResponse sttResult, List<String> missedSentences, boolean reused) {
+    }
+
+    /**
+     * 현재 대본으로 대본 의존 결과만 다시 계산
+     * (대본 최적화는 LLM 호출이라 오래 걸릴 수 있어 트랜잭션 밖에서 실행)
+     */
+    public Result reanalyze(UUID presentationId) {
+        Presentation presentation = presentationRepository.findById(presentationId)
+            .orElseThrow(() -> new RuntimeException("프레젠테이션을 찾을 수 없습니다: " + presentationId));
+        SttResult sttResult = sttResultRepository.findByPresentationId(presentationId)
+            .orElseThrow(() -> new IllegalStateException("영상 분석 결과가 없습니다. 먼저 영상 분석을 진행해주세요."));
+
+        if (videoAnalysisJobRepository.findActiveJobByPresentationId(presentationId).isPresent()) {
+            throw new IllegalStateException("영상 분석이 진행 중입니다. 분석이 끝난 뒤 다시 시도해주세요.");
+        }
+
+        String script = presentation.getScript();
+        String transcription = sttResult.getTranscription();
+        String hash = ScriptTexts.hash(script);
+
+        if (hash.equals(sttResult.getSourceScriptHash()) && sttResult.getScriptAdherenceScore() != null) {
+            log.info("대본 변경 없음 - 저장된 결과 반환: {}", presentationId);
+            return new Result(toResponse(sttResult, presentation), ScriptTexts.missedSentences(script, transcription), true);
+        }
+
+        long startedAt = System.currentTimeMillis();
+
+        Integer goalTimeSeconds = presentation.getGoalTime() != null ? presentation.getGoalTime() * 60 : null;
+        Integer currentDurationSeconds = voiceAnalysisRepository.findByPresentationId(presentationId)
+            .map(voiceAnalysis -> estimateDurationSeconds(voiceAnalysis, transcription))
+            .orElse(null);
+
+        Map<String, Object> optimized = fastApiService.optimizeScript(script, goalTimeSeconds, currentDurationSeconds);
+        if (optimized.containsKey(FastApiService.MOCK_RESULT_KEY)) {
+            // 목 데이터로 기존 최적화 대본을 덮어쓰지 않음 (해시도 그대로 두어 다음에 다시 시도)
+            log.warn("대본 최적화 실패 - 일치도만 갱신: {}", presentationId);
+        } else {
+            Object optimizedScript = optimized.get("optimized_script");
+            if (optimizedScript != null) {
+                sttResult.setAdjustedScript(optimizedScript.toString());
+            }
+            sttResult.setSourceScriptHash(hash);
+        }
+        sttResult.setScriptAdherenceScore(ScriptTexts.adherence(script, transcription));
+
+        SttResult saved = sttResultRepository.save(sttResult);
+        refreshMissedSentences(presentationId, script, transcription);
+        log.info("대본 재분석 완료: {} ({}ms, 일치도 {})", presentationId,
+            System.currentTimeMillis() - startedAt, saved.getScriptAdherenceScore());
+
+        return new Result(toResponse(saved, presentation), ScriptTexts.missedSentences(script, transcription), false);
+    }
+
+    // 트랜잭션 밖이므로 지연 로딩 없이 이미 조회한 프레젠테이션으로 응답 구성
+    private SttResultResponse toResponse(SttResult sttResult, Presentation presentation) {
+        return SttResultResponse.builder()
+            .id(sttResult.getId())
+            .presentationId(presentation.getId())
+            .presentationTitle(presentation.getTitle())
+            .transcription(sttResult.getTranscription())
+            .pronunciationScore(sttResult.getPronunciationScore())
+            .adjustedScript(sttResult.getAdjustedScript())
+            .correctedScript(sttResult.getCorrectedScript())
+            .scriptAdherenceScore(sttResult.getScriptAdherenceScore())
+            .scriptOutdated(sttResult.isOutdatedFor(presentation.getScript()))
+            .build();
+    }
+
+    // 피드백의 빠뜨린 문장을 현재 대본 기준으로 갱신 (피드백이 없으면 영상 분석 저장 때 채워짐)
+    private void refreshMissedSentences(UUID presentationId, String script, String transcription) {
+        presentationFeedbackRepository.findByPresentationId(presentationId).ifPresent(feedback -> {
+            feedback.setMissedSentences(transcriptTextAnalyzer.missedSentencesJson(script, transcription));
+            presentationFeedbackRepository.save(feedback);
+        });
+    }
+
+    // 저장된 WPM과 전사 단어 수로 발표 길이 추정 (영상 길이는 따로 저장하지 않음)
+    private Integer estimateDurationSeconds(VoiceAnalysis voiceAnalysis, String transcription) {
+        Float wpm = voiceAnalysis.getWpmAvg();
+        int words = ScriptTexts.tokenize(transcription).size();
+        if (wpm == null || wpm <= 0 || words == 0) {
+            return null;
+        }
+        return Math.round(words / wpm * 60);
+    }
+}
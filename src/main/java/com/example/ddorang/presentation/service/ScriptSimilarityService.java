@@ -0,0 +1,309 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.util.ScriptTexts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대본 유사도 로컬 판정
+ *
+ * 1. 문자 3-gram MinHash로 유사도를 빠르게 추정 (대본 길이와 무관하게 서명 비교는 해시 개수만큼)
+ * 2. 추정치가 기준 근처 이상인 쌍만 단어 단위 diff(Myers)로 정확한 유사도와 바뀐 부분을 계산
+ * 3. 정확한 유사도도 기준 이상이면 LLM 비교 없이 차이점만으로 비교 결과를 만든다
+ *
+ * diff는 허용 편집 거리를 넘는 순간 중단하므로 서로 다른 대본에 드는 비용은 작다.
+ */
+@Component
+@Slf4j
+public class ScriptSimilarityService {
+
+    private static final int SHINGLE_SIZE = 3;
+    // 문자 3-gram 자카드는 단어 유사도보다 낮게 나오는 편이라 1차 필터는 여유를 둠
+    private static final double MIN_HASH_MARGIN = 0.1;
+    // 요약에 보여줄 바뀐 구간 수 / 구간 길이
+    private static final int MAX_CHANGES_IN_SUMMARY = 5;
+    private static final int MAX_CHANGE_LENGTH = 40;
+
+    private final boolean enabled;
+    private final double threshold;
+    private final long[] hashSeeds;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    public ScriptSimilarityService(@Value("${comparison.local.enabled:true}") boolean enabled,
+                                   @Value("${comparison.local.similarity-threshold:0.9}") double threshold,
+                                   @Value("${comparison.local.min-hash-count:128}") int minHashCount) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        // 인스턴스 간 같은 서명이 나오도록 고정 시드 사용
+        SplittableRandom random = new SplittableRandom(0x5EED_D0_4A_06L);
+        this.hashSeeds = new long[minHashCount];
+        for (int i = 0; i < minHashCount; i++) {
+            hashSeeds[i] = random.nextLong();
+        }
+        log.info("대본 로컬 비교 설정 - 사용: {}, 유사도 기준: {}, 해시 개수: {}", enabled, threshold, minHashCount);
+    }
+
+    /**
+     * 로컬 비교 통계
+     *
+     * @param checks 로컬 판정을 시도한 횟수
+     * @param hits   기준 이상이라 FastAPI 호출을 생략한 횟수
+     */
+    public record Stats(double threshold, long checks, long hits, double hitRate) {
+    }
+
+    /**
+     * 단어 diff 결과
+     *
+     * @param similarity 2 × 공통 단어 수 / 전체 단어 수
+     * @param removed    첫 번째 대본에만 있는 구간
+     * @param added      두 번째 대본에만 있는 구간
+     */
+    public record TokenDiff(double similarity, List<String> removed, List<String> added) {
+    }
+
+    /**
+     * 두 대본이 기준 이상으로 비슷하면 FastAPI /compare와 같은 형식의 비교 결과를 반환
+     */
+    public Optional<Map<String, Object>> compareLocally(String script1, String script2) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        checks.increment();
+
+        double estimated = estimateSimilarity(script1, script2);
+        if (estimated < threshold - MIN_HASH_MARGIN) {
+            log.debug("대본 유사도 추정치 {} - 기준 {} 미만, FastAPI 비교", estimated, threshold);
+            return Optional.empty();
+        }
+
+        TokenDiff diff = diff(ScriptTexts.tokenize(script1), ScriptTexts.tokenize(script2), threshold);
+        if (diff == null) {
+            log.debug("단어 diff가 허용 범위를 넘음 (추정치 {}) - FastAPI 비교", estimated);
+            return Optional.empty();
+        }
+
+        hits.increment();
+        log.info("대본이 거의 같아 로컬에서 비교 - 유사도 {} (추정 {})", diff.similarity(), estimated);
+        return Optional.of(summarize(diff));
+    }
+
+    public Stats getStats() {
+        long checkCount = checks.sum();
+        long hitCount = hits.sum();
+        return new Stats(threshold, checkCount, hitCount, checkCount == 0 ? 0 : (double) hitCount / checkCount);
+    }
+
+    /**
+     * 스케줄러: 매 1시간마다 로컬 비교 통계 기록 (기준 조정 근거)
+     */
+    @Scheduled(fixedRate = 3600000)
+    public void logStats() {
+        Stats stats = getStats();
+        if (stats.checks() == 0) {
+            return;
+        }
+        log.info("대본 로컬 비교: 기준 {}, 적중률 {}% (적중 {}, 시도 {})",
+            stats.threshold(), Math.round(stats.hitRate() * 100), stats.hits(), stats.checks());
+    }
+
+    // === MinHash ===
+
+    /**
+     * 문자 3-gram 집합의 자카드 유사도 MinHash 추정치 (0~1)
+     */
+    public double estimateSimilarity(String script1, String script2) {
+        long[] signature1 = signature(String.join(" ", ScriptTexts.tokenize(script1)));
+        long[] signature2 = signature(String.join(" ", ScriptTexts.tokenize(script2)));
+        if (signature1 == null || signature2 == null) {
+            return signature1 == signature2 ? 1.0 : 0.0;
+        }
+
+        int same = 0;
+        for (int i = 0; i < signature1.length; i++) {
+            if (signature1[i] == signature2[i]) {
+                same++;
+            }
+        }
+        return (double) same / signature1.length;
+    }
+
+    // 빈 텍스트면 null
+    private long[] signature(String text) {
+        if (text.isEmpty()) {
+            return null;
+        }
+        long[] mins = new long[hashSeeds.length];
+        Arrays.fill(mins, Long.MAX_VALUE);
+
+        int last = Math.max(1, text.length() - SHINGLE_SIZE + 1);
+        for (int start = 0; start < last; start++) {
+            int end = Math.min(text.length(), start + SHINGLE_SIZE);
+            long shingle = 0;
+            for (int i = start; i < end; i++) {
+                shingle = shingle * 31 + text.charAt(i);
+            }
+            for (int i = 0; i < hashSeeds.length; i++) {
+                long hash = mix(shingle ^ hashSeeds[i]);
+                if (hash < mins[i]) {
+                    mins[i] = hash;
+                }
+            }
+        }
+        return mins;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // === 단어 diff ===
+
+    /**
+     * Myers diff로 단어 단위 차이 계산
+     * 유사도가 minSimilarity 미만이 되는 편집 거리에 도달하면 중단하고 null 반환
+     */
+    static TokenDiff diff(List<String> a, List<String> b, double minSimilarity) {
+        int n = a.size();
+        int m = b.size();
+        if (n + m == 0) {
+            return new TokenDiff(1.0, List.of(), List.of());
+        }
+        int maxEdits = (int) Math.floor((n + m) * (1 - minSimilarity));
+        int offset = maxEdits + 1;
+
+        int[] v = new int[2 * offset + 1];
+        List<int[]> trace = new ArrayList<>();
+        int edits = -1;
+
+        search:
+        for (int d = 0; d <= maxEdits; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                    ? v[offset + k + 1]
+                    : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    edits = d;
+                    break search;
+                }
+            }
+        }
+        if (edits < 0) {
+            return null;
+        }
+
+        // 역추적해서 삭제/추가된 단어 표시
+        boolean[] removedFlags = new boolean[n];
+        boolean[] addedFlags = new boolean[m];
+        int x = n;
+        int y = m;
+        for (int d = edits; d > 0; d--) {
+            int[] previous = trace.get(d);
+            int k = x - y;
+            int previousK = (k == -d || (k != d && previous[offset + k - 1] < previous[offset + k + 1])) ? k + 1 : k - 1;
+            int previousX = previous[offset + previousK];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+            }
+            if (previousK == k + 1) {
+                addedFlags[previousY] = true;
+            } else {
+                removedFlags[previousX] = true;
+            }
+            x = previousX;
+            y = previousY;
+        }
+
+        double similarity = (double) (n + m - edits) / (n + m);
+        return new TokenDiff(similarity, runs(a, removedFlags), runs(b, addedFlags));
+    }
+
+    // 연속으로 바뀐 단어를 한 구간으로 묶음
+    private static List<String> runs(List<String> tokens, boolean[] changed) {
+        List<String> runs = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i <= tokens.size(); i++) {
+            if (i < tokens.size() && changed[i]) {
+                if (!current.isEmpty()) {
+                    current.append(' ');
+                }
+                current.append(tokens.get(i));
+            } else if (!current.isEmpty()) {
+                runs.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        return runs;
+    }
+
+    // === 비교 결과 ===
+
+    private Map<String, Object> summarize(TokenDiff diff) {
+        String percent = String.format("%.1f", diff.similarity() * 100);
+        boolean identical = diff.removed().isEmpty() && diff.added().isEmpty();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("strengths_comparison", identical
+            ? "두 대본의 내용이 같아 구성, 논리 흐름, 표현상의 강점을 그대로 공유합니다."
+            : "두 대본은 단어 기준 " + percent + "% 일치하여 구성과 논리 흐름이 같고, 일부 표현만 다릅니다.");
+        result.put("improvement_suggestions", identical
+            ? "대본 측면의 차이는 없습니다. 말하기 속도, 음성 강도, 피치 등 전달 지표의 차이에 집중해 비교해보세요."
+            : describeChanges(diff));
+        result.put("overall_feedback", "대본이 사실상 같아 AI 비교 대신 바뀐 부분만 정리했습니다 (유사도 " + percent + "%). "
+            + "두 발표의 차이는 대본보다 전달 방식에서 비롯된 것으로 볼 수 있습니다.");
+        result.put("local_similarity", Math.round(diff.similarity() * 1000) / 1000.0);
+        return result;
+    }
+
+    private String describeChanges(TokenDiff diff) {
+        StringBuilder text = new StringBuilder("두 번째 대본에서 바뀐 부분만 검토하면 됩니다.");
+        if (!diff.removed().isEmpty()) {
+            text.append(" 빠진 표현: ").append(quote(diff.removed())).append('.');
+        }
+        if (!diff.added().isEmpty()) {
+            text.append(" 추가된 표현: ").append(quote(diff.added())).append('.');
+        }
+        return text.toString();
+    }
+
+    private String quote(List<String> changes) {
+        List<String> quoted = new ArrayList<>();
+        for (String change : changes.subList(0, Math.min(changes.size(), MAX_CHANGES_IN_SUMMARY))) {
+            String shown = change.length() > MAX_CHANGE_LENGTH ? change.substring(0, MAX_CHANGE_LENGTH) + "…" : change;
+            quoted.add("'" + shown + "'");
+        }
+        String joined = String.join(", ", quoted);
+        if (changes.size() > MAX_CHANGES_IN_SUMMARY) {
+            joined += " 외 " + (changes.size() - MAX_CHANGES_IN_SUMMARY) + "곳";
+        }
+        return joined;
+    }
+}
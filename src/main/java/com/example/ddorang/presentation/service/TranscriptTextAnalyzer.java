@@ -0,0 +1,182 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.util.ScriptTexts;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 전사 텍스트로 자주 쓴 단어/습관어(필러)를 바로 계산
+ *
+ * 전사만 있으면 밀리초 단위로 끝나는 계산이라 FastAPI 결과를 기다리지 않고 채울 수 있다.
+ * - 어절 끝의 조사를 떼어 "데이터가", "데이터를"을 같은 단어로 센다
+ * - 습관어는 설정한 목록과 어절이 그대로 일치할 때만 센다 ("그", "이제" 등)
+ * - 상위 K개는 크기 K의 최소 힙으로 골라 전체 정렬을 피한다
+ */
+@Component
+@Slf4j
+public class TranscriptTextAnalyzer {
+
+    // 긴 조사부터 검사해야 "에서"가 "서"만 떼이지 않음
+    private static final List<String> PARTICLES = List.of(
+        "에서는", "으로는", "에게서", "이라고", "에서", "으로", "에게", "한테", "까지", "부터", "처럼", "보다",
+        "라고", "이나", "에는", "은", "는", "이", "가", "을", "를", "에", "의", "도", "만", "로", "와", "과");
+
+    // 빈도 상위에 항상 오르지만 피드백 가치가 없는 단어
+    private static final Set<String> STOP_WORDS = Set.of(
+        "있습니다", "합니다", "입니다", "됩니다", "했습니다", "있는", "하는", "되는", "그리고", "하고",
+        "대해", "통해", "위해", "이것", "그것", "저것", "여기", "거기", "우리", "저희");
+
+    private final ObjectMapper objectMapper;
+    private final Set<String> fillerWords;
+    private final int topK;
+
+    public TranscriptTextAnalyzer(ObjectMapper objectMapper,
+                                  @Value("${analysis.text.filler-words:음,어,아,에,그,저,이제,뭐,약간,그러니까,그래서,사실,좀,막,진짜,그냥,일단}")
+                                  List<String> fillerWords,
+                                  @Value("${analysis.text.top-k:10}") int topK) {
+        this.objectMapper = objectMapper;
+        this.fillerWords = Set.copyOf(fillerWords.stream().map(String::trim).filter(w -> !w.isEmpty()).toList());
+        this.topK = topK;
+    }
+
+    public record WordCount(String word, int count) {
+    }
+
+    /**
+     * @param frequentWords 습관어/불용어를 뺀 자주 쓴 단어 (많이 쓴 순)
+     * @param fillerWords   습관어별 사용 횟수 (많이 쓴 순)
+     * @param fillerCount   습관어 총 사용 횟수
+     * @param totalWords    전체 어절 수
+     */
+    public record Analysis(List<WordCount> frequentWords, List<WordCount> fillerWords,
+                           int fillerCount, int totalWords) {
+
+        public double fillerRatio() {
+            return totalWords == 0 ? 0 : (double) fillerCount / totalWords;
+        }
+    }
+
+    public Analysis analyze(String transcription) {
+        Map<String, int[]> wordCounts = new HashMap<>();
+        Map<String, int[]> fillerCounts = new HashMap<>();
+        int totalWords = 0;
+        int fillerCount = 0;
+
+        if (transcription != null && !transcription.isBlank()) {
+            String text = Normalizer.normalize(transcription, Normalizer.Form.NFC).toLowerCase();
+            int length = text.length();
+            int start = -1;
+
+            // 정규식 split 대신 직접 어절을 잘라 긴 전사에서도 할당을 줄임
+            for (int i = 0; i <= length; i++) {
+                boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+                if (wordChar && start < 0) {
+                    start = i;
+                } else if (!wordChar && start >= 0) {
+                    String token = text.substring(start, i);
+                    start = -1;
+                    totalWords++;
+
+                    if (fillerWords.contains(token)) {
+                        fillerCount++;
+                        fillerCounts.computeIfAbsent(token, k -> new int[1])[0]++;
+                        continue;
+                    }
+                    String word = stripParticle(token);
+                    if (word.length() >= 2 && !STOP_WORDS.contains(word) && !fillerWords.contains(word)) {
+                        wordCounts.computeIfAbsent(word, k -> new int[1])[0]++;
+                    }
+                }
+            }
+        }
+
+        return new Analysis(top(wordCounts, topK), top(fillerCounts, fillerCounts.size()), fillerCount, totalWords);
+    }
+
+    /**
+     * PresentationFeedback.frequentWords 형식 (FastAPI와 같은 단어 문자열 배열)
+     */
+    public String frequentWordsJson(Analysis analysis) {
+        return toJson(analysis.frequentWords().stream().map(WordCount::word).toList());
+    }
+
+    /**
+     * PresentationFeedback.fillerWords 형식 ([{"word": ..., "count": n}])
+     */
+    public String fillerWordsJson(Analysis analysis) {
+        ArrayNode array = objectMapper.createArrayNode();
+        for (WordCount filler : analysis.fillerWords()) {
+            array.addObject().put("word", filler.word()).put("count", filler.count());
+        }
+        return array.toString();
+    }
+
+    /**
+     * PresentationFeedback.missedSentences 형식 (대본에서 발화에 빠진 문장 배열)
+     */
+    public String missedSentencesJson(String script, String transcription) {
+        return toJson(ScriptTexts.missedSentences(script, transcription));
+    }
+
+    // 한글 어절 끝의 조사 제거 (남는 부분이 두 글자 이상일 때만)
+    static String stripParticle(String token) {
+        if (token.length() < 3 || !isHangul(token.charAt(token.length() - 1))) {
+            return token;
+        }
+        for (String particle : PARTICLES) {
+            if (token.endsWith(particle) && token.length() - particle.length() >= 2) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return token;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    // 크기 k 최소 힙으로 상위 k개 선택 후 많이 쓴 순(같으면 가나다순)으로 정렬
+    private static List<WordCount> top(Map<String, int[]> counts, int k) {
+        if (k <= 0 || counts.isEmpty()) {
+            return List.of();
+        }
+        Comparator<WordCount> ranking = Comparator.comparingInt(WordCount::count)
+            .thenComparing(WordCount::word, Comparator.reverseOrder());
+
+        PriorityQueue<WordCount> heap = new PriorityQueue<>(k + 1, ranking);
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            WordCount candidate = new WordCount(entry.getKey(), entry.getValue()[0]);
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (ranking.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<WordCount> result = new ArrayList<>(heap);
+        result.sort(ranking.reversed());
+        return result;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("텍스트 분석 결과 직렬화 실패", e);
+        }
+    }
+}
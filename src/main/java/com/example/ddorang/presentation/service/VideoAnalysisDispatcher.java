@@ -0,0 +1,301 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.presentation.entity.VideoAnalysisJob;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * 영상 분석 작업 디스패처
+ * FIFO 대신 예상 처리 비용(파일 크기 기반)이 작은 작업부터 FastAPI로 보내고(SJF),
+ * 대기 시간에 비례해 우선순위를 올려(aging) 긴 영상이 무한정 밀리지 않도록 한다.
+ *
+ * 다른 노드가 넘기거나(종료) 점유가 만료된(비정상 종료) 작업은 주기적으로 점유해 이어서 처리한다.
+ *
+ * API 노드를 분석 워커(analysis-worker)와 나눠 배포할 때는 API 노드에서 analysis.worker.enabled=false -
+ * 등록된 작업은 점유만 풀어 두고, 워커가 같은 DB에서 점유해 업로드/폴링/결과 저장을 맡는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoAnalysisDispatcher {
+
+    private final FastApiPollingService fastApiPollingService;
+    private final VideoAnalysisJobRepository videoAnalysisJobRepository;
+    private final AnalysisCancellationRegistry analysisCancellationRegistry;
+    private final VideoAnalysisLeaseService videoAnalysisLeaseService;
+    private final VideoAnalysisService videoAnalysisService;
+    private final VideoAnalysisStageService videoAnalysisStageService;
+
+    // 동시에 FastAPI로 보낼 최대 작업 수
+    @Value("${analysis.dispatch.max-concurrent:3}")
+    private int maxConcurrent;
+
+    // 파일 크기 → 예상 분석 시간 환산 기준 (초당 처리 바이트)
+    @Value("${analysis.dispatch.bytes-per-second:1048576}")
+    private long bytesPerSecond;
+
+    // 대기 1초당 줄어드는 예상 비용(초)
+    @Value("${analysis.dispatch.aging-factor:1.0}")
+    private double agingFactor;
+
+    // 파일 크기를 알 수 없을 때 사용할 예상 분석 시간(초)
+    @Value("${analysis.dispatch.default-cost-seconds:300}")
+    private double defaultCostSeconds;
+
+    // 이 노드에서 분석을 실행할지 (false면 작업을 워커에 넘기기만 함)
+    @Value("${analysis.worker.enabled:true}")
+    private boolean workerEnabled;
+
+    private final PriorityQueue<QueuedJob> queue =
+        new PriorityQueue<>(Comparator.comparingDouble(QueuedJob::priorityKey));
+
+    private int running = 0;
+
+    // 노드 종료 중 - 새 작업을 시작하지 않음
+    private boolean draining = false;
+
+    // 대기열에 들어간 작업 정보
+    private record QueuedJob(VideoAnalysisJob job, double estimatedSeconds, double priorityKey) {
+    }
+
+    /**
+     * 분석 작업을 대기열에 넣고 여유 슬롯이 있으면 바로 시작
+     */
+    public void submit(VideoAnalysisJob job) {
+        if (!workerEnabled) {
+            // 분석 워커가 점유해 가도록 점유만 해제
+            releaseQuietly(job.getId());
+            log.info("분석 작업을 워커로 넘김: {}", job.getId());
+            return;
+        }
+
+        double estimatedSeconds = estimateCostSeconds(job);
+        double enqueuedAtSeconds = System.currentTimeMillis() / 1000.0;
+
+        synchronized (this) {
+            if (draining) {
+                // 종료 중인 노드는 받지 않고 점유를 풀어 다른 노드가 가져가게 함
+                log.info("노드 종료 중 - 분석 작업을 다른 노드로 넘김: {}", job.getId());
+                releaseQuietly(job.getId());
+                return;
+            }
+            queue.add(new QueuedJob(job, estimatedSeconds,
+                priorityKey(estimatedSeconds, enqueuedAtSeconds, agingFactor)));
+            log.info("분석 작업 대기열 등록: {} (예상 {}초, 대기 {}개, 실행 중 {}개)",
+                job.getId(), Math.round(estimatedSeconds), queue.size(), running);
+        }
+
+        videoAnalysisStageService.queued(job.getId());
+        dispatchNext();
+    }
+
+    /**
+     * 시작 시 점유가 풀려 있는 작업(이전 노드가 남긴 작업)을 바로 이어받음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingJobs() {
+        adoptOrphanedJobs();
+    }
+
+    /**
+     * 점유가 없거나 만료된 진행 중 작업을 점유해 대기열에 등록
+     * - 업로드까지 끝난 작업(PROCESSING + FastAPI job_id)은 폴링만 이어서
+     * - 그 외에는 대기 상태로 되돌려 처음부터 다시 분석
+     * 점유는 조건부 UPDATE라 여러 노드가 동시에 돌아도 작업마다 한 노드만 가져간다.
+     */
+    @Scheduled(fixedDelayString = "${analysis.lease.scan-interval-ms:30000}",
+               initialDelayString = "${analysis.lease.scan-interval-ms:30000}")
+    public void adoptOrphanedJobs() {
+        synchronized (this) {
+            if (draining || !workerEnabled) {
+                return;
+            }
+        }
+        try {
+            List<UUID> orphanedJobIds = videoAnalysisLeaseService.findOrphanedJobIds();
+            if (orphanedJobIds.isEmpty()) {
+                return;
+            }
+
+            int adopted = 0;
+            for (UUID jobId : orphanedJobIds) {
+                if (!videoAnalysisLeaseService.claim(jobId)) {
+                    continue; // 다른 노드가 먼저 가져감
+                }
+                // 연관 엔티티를 함께 로딩하기 위해 다시 조회
+                VideoAnalysisJob job = videoAnalysisJobRepository.findById(jobId).orElse(null);
+                if (job == null) {
+                    continue;
+                }
+                if (job.getStatus() == JobStatus.PROCESSING && job.getFastApiJobId() == null) {
+                    // 업로드 도중 멈춘 작업 - 처음부터 다시
+                    videoAnalysisService.updateJobStatus(jobId, "pending", "분석을 다시 준비하고 있습니다...");
+                    job.setStatus(JobStatus.PENDING);
+                }
+                submit(job);
+                adopted++;
+            }
+            log.info("점유가 풀린 분석 작업 이어받기: {}개 (후보 {}개)", adopted, orphanedJobIds.size());
+        } catch (Exception e) {
+            log.error("분석 작업 이어받기 실패", e);
+        }
+    }
+
+    /**
+     * 다른 노드(API 노드의 취소 요청 등)에서 끝난 작업을 이 노드에서도 멈춤
+     * 취소는 요청을 받은 노드의 메모리에서만 전달되므로, 실행 중인 작업의 DB 상태를 주기적으로 확인한다.
+     */
+    @Scheduled(fixedDelayString = "${analysis.worker.cancel-check-interval-ms:5000}")
+    public void stopJobsFinishedElsewhere() {
+        List<UUID> jobIds = new ArrayList<>(fastApiPollingService.getUnsettledJobIds());
+        synchronized (this) {
+            queue.forEach(queued -> jobIds.add(queued.job().getId()));
+        }
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        try {
+            for (UUID jobId : videoAnalysisJobRepository.findFinishedJobIds(jobIds)) {
+                log.info("다른 노드에서 끝난 작업 중단: {}", jobId);
+                cancel(jobId);
+            }
+        } catch (Exception e) {
+            log.error("종료된 작업 확인 실패", e);
+        }
+    }
+
+    /**
+     * 노드 종료 시작 - 새 작업을 시작하지 않고, 대기열에서 시작하지 못한 작업의 점유를 풀어 넘김
+     *
+     * @return 넘긴 대기 작업 ID
+     */
+    public List<UUID> stopDispatching() {
+        List<UUID> queuedJobIds = new ArrayList<>();
+        synchronized (this) {
+            draining = true;
+            while (!queue.isEmpty()) {
+                queuedJobIds.add(queue.poll().job().getId());
+            }
+        }
+        queuedJobIds.forEach(this::releaseQuietly);
+        return queuedJobIds;
+    }
+
+    private void releaseQuietly(UUID jobId) {
+        try {
+            videoAnalysisLeaseService.release(jobId);
+        } catch (Exception e) {
+            log.warn("분석 작업 점유 해제 실패 - 만료 후 다른 노드가 이어받음: {} ({})", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 취소 - 대기 중이면 대기열에서 빼고, 실행 중이면 취소 신호를 보낸다
+     * (업로드/폴링 스레드가 바로 멈추고 FastAPI 취소 요청과 임시 파일 정리가 이어짐)
+     *
+     * @return 대기열에서 제거했거나 실행 중인 작업에 신호를 보냈으면 true
+     */
+    public boolean cancel(UUID jobId) {
+        boolean dequeued;
+        synchronized (this) {
+            dequeued = queue.removeIf(queued -> jobId.equals(queued.job().getId()));
+        }
+        if (dequeued) {
+            log.info("분석 작업 대기열에서 제거: {}", jobId);
+        }
+
+        boolean signalled = analysisCancellationRegistry.cancel(jobId);
+        return dequeued || signalled;
+    }
+
+    // 현재 대기열 크기
+    public synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    // 현재 실행 중인 작업 수
+    public synchronized int getRunningCount() {
+        return running;
+    }
+
+    // 슬롯이 비는 만큼 우선순위가 가장 높은 작업을 꺼내 시작
+    private void dispatchNext() {
+        List<QueuedJob> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            while (!draining && running < maxConcurrent && !queue.isEmpty()) {
+                toStart.add(queue.poll());
+                running++;
+            }
+        }
+
+        // 락 밖에서 시작 (스레드 풀이 가득 차면 호출 스레드에서 실행될 수 있음)
+        for (QueuedJob queued : toStart) {
+            start(queued);
+        }
+    }
+
+    private void start(QueuedJob queued) {
+        UUID jobId = queued.job().getId();
+        log.info("분석 작업 디스패치: {} (예상 {}초)", jobId, Math.round(queued.estimatedSeconds()));
+        videoAnalysisStageService.started(jobId);
+
+        try {
+            fastApiPollingService.startVideoAnalysis(queued.job())
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.error("분석 작업 실행 중 오류: {}", jobId, error);
+                    }
+                    onFinished();
+                });
+        } catch (Exception e) {
+            log.error("분석 작업 디스패치 실패: {}", jobId, e);
+            onFinished();
+        }
+    }
+
+    private void onFinished() {
+        synchronized (this) {
+            running--;
+        }
+        dispatchNext();
+    }
+
+    // 예상 분석 비용(초) - 분석 시간은 영상 길이(≈ 파일 크기)에 거의 비례
+    private double estimateCostSeconds(VideoAnalysisJob job) {
+        // 다른 노드가 업로드까지 마친 작업은 폴링만 남음
+        if (job.getStatus() == JobStatus.PROCESSING && job.getFastApiJobId() != null) {
+            return 0;
+        }
+        Long fileSize = job.getFileSize();
+        if (fileSize == null || fileSize <= 0 || bytesPerSecond <= 0) {
+            return defaultCostSeconds;
+        }
+        return (double) fileSize / bytesPerSecond;
+    }
+
+    /**
+     * 우선순위 키 (작을수록 먼저 실행)
+     *
+     * 실효 비용 = 예상 비용 - agingFactor × 대기 시간
+     *          = 예상 비용 - agingFactor × (now - 등록 시각)
+     * 두 작업의 실효 비용 차이는 now와 무관하므로
+     * (예상 비용 + agingFactor × 등록 시각)을 고정 키로 쓰면 힙 재정렬 없이 aging을 반영할 수 있다.
+     */
+    static double priorityKey(double estimatedSeconds, double enqueuedAtSeconds, double agingFactor) {
+        return estimatedSeconds + agingFactor * enqueuedAtSeconds;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.entity.Presentation;
+import com.example.ddorang.presentation.entity.VideoAnalysisJob;
+import com.example.ddorang.presentation.event.JobStatusChangedEvent;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 발표당 진행 중인 영상 분석 작업을 하나로 보장
+ *
+ * 1. 진행 중인 작업이 있으면 그 작업을 반환
+ * 2. Redis SET NX로 같은 발표의 동시 생성 요청을 한 요청만 통과시킴 (Redis 장애 시 건너뜀)
+ * 3. DB의 active_presentation_id 유니크 제약이 최종 판정 - 위반하면 먼저 생성된 작업을 반환
+ *
+ * 제약 위반이 트랜잭션을 롤백 전용으로 만들지 않도록 트랜잭션 밖에서 호출해야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoAnalysisJobClaimService {
+
+    private static final String KEY_PREFIX = "videoAnalysisClaim:";
+
+    private final VideoAnalysisJobRepository videoAnalysisJobRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final VideoAnalysisLeaseService videoAnalysisLeaseService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 다른 요청이 작업을 만드는 중일 때 그 작업이 보일 때까지 기다리는 최대 시간
+    @Value("${analysis.claim.wait-millis:3000}")
+    private long claimWaitMillis;
+
+    /**
+     * @param job     새로 만든 작업 또는 이미 진행 중이던 작업
+     * @param created 새로 만들었으면 true (이때만 분석을 시작해야 함)
+     */
+    public record Claim(VideoAnalysisJob job, boolean created) {
+    }
+
+    public Claim claim(Presentation presentation, String videoPath, String originalFilename, Long fileSize) {
+        UUID presentationId = presentation.getId();
+
+        Optional<VideoAnalysisJob> active = videoAnalysisJobRepository.findActiveJobByPresentationId(presentationId);
+        if (active.isPresent()) {
+            log.info("진행 중인 분석 작업 재사용: {} (프레젠테이션: {})", active.get().getId(), presentationId);
+            return new Claim(active.get(), false);
+        }
+
+        String key = KEY_PREFIX + presentationId;
+        Boolean acquired = tryAcquire(key);
+        if (Boolean.FALSE.equals(acquired)) {
+            // 다른 요청이 생성 중 - 그 작업을 돌려줌
+            return new Claim(awaitActiveJob(presentationId), false);
+        }
+
+        try {
+            VideoAnalysisJob job = VideoAnalysisJob.builder()
+                .presentation(presentation)
+                .videoPath(videoPath)
+                .originalFilename(originalFilename)
+                .fileSize(fileSize)
+                // 만든 노드가 점유 - 이 노드가 멈추면 점유가 만료되어 다른 노드가 이어받음
+                .leaseOwner(videoAnalysisLeaseService.getNodeId())
+                .leaseExpiresAt(videoAnalysisLeaseService.newLeaseExpiry())
+                .build();
+
+            VideoAnalysisJob savedJob = videoAnalysisJobRepository.saveAndFlush(job);
+            log.info("영상 분석 작업 생성 완료 - ID: {}", savedJob.getId());
+            eventPublisher.publishEvent(new JobStatusChangedEvent(savedJob.getId(), presentationId));
+            return new Claim(savedJob, true);
+
+        } catch (DataIntegrityViolationException e) {
+            log.info("동시에 생성된 분석 작업 존재 - 기존 작업 반환 (프레젠테이션: {})", presentationId);
+            return new Claim(awaitActiveJob(presentationId), false);
+
+        } finally {
+            if (Boolean.TRUE.equals(acquired)) {
+                release(key);
+            }
+        }
+    }
+
+    // SET NX (Redis 장애 시 null - DB 제약만으로 진행)
+    private Boolean tryAcquire(String key) {
+        try {
+            return redisTemplate.opsForValue()
+                .setIfAbsent(key, "1", Duration.ofMillis(Math.max(claimWaitMillis, 1000)));
+        } catch (Exception e) {
+            log.warn("분석 작업 선점 실패 (Redis) - DB 제약으로만 중복 방지: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("분석 작업 선점 해제 실패 (Redis, TTL로 만료됨): {}", e.getMessage());
+        }
+    }
+
+    // 먼저 들어온 요청의 작업이 커밋되어 보일 때까지 잠시 대기
+    private VideoAnalysisJob awaitActiveJob(UUID presentationId) {
+        long deadline = System.currentTimeMillis() + claimWaitMillis;
+        while (true) {
+            Optional<VideoAnalysisJob> active = videoAnalysisJobRepository.findActiveJobByPresentationId(presentationId);
+            if (active.isPresent()) {
+                return active.get();
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("이미 진행 중인 영상 분석 작업이 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("분석 작업 조회 중 중단되었습니다", e);
+            }
+        }
+    }
+}
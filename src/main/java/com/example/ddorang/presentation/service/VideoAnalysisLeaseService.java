@@ -0,0 +1,143 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.event.JobStatusChangedEvent;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 서버 노드 간 영상 분석 작업 점유(lease)
+ *
+ * 작업은 만든 노드가 점유하고 주기적으로 연장한다. 노드가 종료하며 점유를 풀거나,
+ * 비정상 종료로 연장이 끊겨 만료되면 다른 노드가 조건부 UPDATE로 점유해 이어서 처리한다.
+ * 점유 컬럼은 엔티티 저장에서 제외되어 있으므로 여기서만 바뀐다.
+ */
+@Service
+@Slf4j
+public class VideoAnalysisLeaseService {
+
+    private final VideoAnalysisJobRepository videoAnalysisJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final long leaseTtlMillis;
+
+    public VideoAnalysisLeaseService(VideoAnalysisJobRepository videoAnalysisJobRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${analysis.lease.node-id:}") String nodeId,
+                                     @Value("${analysis.lease.ttl-ms:120000}") long leaseTtlMillis) {
+        this.videoAnalysisJobRepository = videoAnalysisJobRepository;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.leaseTtlMillis = leaseTtlMillis;
+        log.info("분석 작업 점유 설정 - 노드: {}, 점유 유지 시간: {}ms", this.nodeId, leaseTtlMillis);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 지금 점유하면 만료될 시각
+    public LocalDateTime newLeaseExpiry() {
+        return LocalDateTime.now().plusNanos(leaseTtlMillis * 1_000_000);
+    }
+
+    /**
+     * 점유가 없거나 만료된 작업을 이 노드가 점유 - 다른 노드가 먼저 가져갔으면 false
+     */
+    @Transactional
+    public boolean claim(UUID jobId) {
+        return videoAnalysisJobRepository.claimLease(jobId, nodeId, newLeaseExpiry(), LocalDateTime.now()) == 1;
+    }
+
+    // 다른 노드가 이어받아야 할 작업 ID
+    @Transactional(readOnly = true)
+    public List<UUID> findOrphanedJobIds() {
+        return videoAnalysisJobRepository.findUnleasedActiveJobIds(LocalDateTime.now());
+    }
+
+    /**
+     * 폴링 중이던 작업을 넘김 - 이어받은 노드는 nextPollAt부터 같은 FastAPI 작업을 폴링한다
+     */
+    @Transactional
+    public boolean handOffPolling(UUID jobId, LocalDateTime nextPollAt) {
+        return videoAnalysisJobRepository.handOffPolling(jobId, nodeId, nextPollAt) == 1;
+    }
+
+    /**
+     * 업로드가 끝나지 않은 작업을 넘김 - 이어받은 노드가 처음부터 다시 업로드한다
+     */
+    @Transactional
+    public boolean requeue(UUID jobId) {
+        if (videoAnalysisJobRepository.requeue(jobId, nodeId, LocalDateTime.now()) != 1) {
+            return false;
+        }
+        eventPublisher.publishEvent(new JobStatusChangedEvent(jobId, null));
+        return true;
+    }
+
+    /**
+     * 진행 중인 작업을 완료 처리 - 그 사이 다른 노드에서 취소/실패 처리됐으면 false (결과 저장/알림을 하지 않아야 함)
+     */
+    @Transactional
+    public boolean complete(UUID jobId) {
+        if (videoAnalysisJobRepository.markCompleted(jobId, LocalDateTime.now()) != 1) {
+            return false;
+        }
+        eventPublisher.publishEvent(new JobStatusChangedEvent(jobId, null));
+        return true;
+    }
+
+    /**
+     * 진행 중인 작업을 실패 처리 - 그 사이 완료됐거나 이미 실패한 작업이면 false
+     */
+    @Transactional
+    public boolean fail(UUID jobId, String errorMessage) {
+        if (videoAnalysisJobRepository.markFailed(jobId, errorMessage, LocalDateTime.now()) != 1) {
+            return false;
+        }
+        eventPublisher.publishEvent(new JobStatusChangedEvent(jobId, null));
+        return true;
+    }
+
+    // 시작하지 않은 작업의 점유만 해제
+    @Transactional
+    public boolean release(UUID jobId) {
+        return videoAnalysisJobRepository.releaseLease(jobId, nodeId) == 1;
+    }
+
+    /**
+     * 이 노드가 가진 진행 중 작업의 점유 연장 (유지 시간보다 충분히 짧은 주기로)
+     */
+    @Scheduled(fixedDelayString = "${analysis.lease.renew-interval-ms:30000}")
+    @Transactional
+    public void renewLeases() {
+        try {
+            int renewed = videoAnalysisJobRepository.renewLeases(nodeId, newLeaseExpiry());
+            if (renewed > 0) {
+                log.debug("분석 작업 점유 연장: {}개", renewed);
+            }
+        } catch (Exception e) {
+            log.error("분석 작업 점유 연장 실패", e);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        // 같은 호스트에서 재시작한 인스턴스도 다른 노드로 구분
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -2,20 +2,20 @@ package com.example.ddorang.presentation.service;
 
 import com.example.ddorang.common.enums.JobStatus;
 import com.example.ddorang.common.service.NotificationService;
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
 import com.example.ddorang.presentation.entity.VideoAnalysisJob;
+import com.example.ddorang.presentation.event.JobStatusChangedEvent;
 import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
 import com.example.ddorang.presentation.service.VoiceAnalysisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -25,28 +25,16 @@ public class VideoAnalysisService {
     private final VideoAnalysisJobRepository videoAnalysisJobRepository;
     private final NotificationService notificationService;
     private final VoiceAnalysisService voiceAnalysisService;
+    private final TranscriptTextAnalyzer transcriptTextAnalyzer;
+    private final VideoAnalysisStageService videoAnalysisStageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VideoAnalysisLeaseService videoAnalysisLeaseService;
 
-    // 메모리에 결과 임시 저장 (TTL 캐시)
-    private final Map<UUID, CacheEntry> resultCache = new ConcurrentHashMap<>();
+    // 완료된 결과 (노드 메모리 → Redis → DB 보관본)
+    private final AnalysisResultStore analysisResultStore;
 
-    // 캐시 엔트리 클래스
-    private static class CacheEntry {
-        private final Map<String, Object> data;
-        private final LocalDateTime expireTime;
-
-        public CacheEntry(Map<String, Object> data) {
-            this.data = data;
-            this.expireTime = LocalDateTime.now().plusHours(24); // 24시간 후 만료
-        }
-
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expireTime);
-        }
-
-        public Map<String, Object> getData() {
-            return data;
-        }
-    }
+    // 분석이 끝나기 전 먼저 도착한 전사 텍스트로 만든 예비 피드백 (Redis, 결과가 저장되면 제거)
+    private final PreliminaryFeedbackStore preliminaryFeedbackStore;
 
     // 작업 초기 상태 설정
     public void initializeJob(VideoAnalysisJob job) {
@@ -77,6 +65,7 @@ public class VideoAnalysisService {
             }
 
             videoAnalysisJobRepository.save(job);
+            publishStatusChanged(job);
             log.debug("상태 업데이트: {} - {}", jobId, message);
 
         } catch (Exception e) {
@@ -84,23 +73,61 @@ public class VideoAnalysisService {
         }
     }
 
-    // 작업 완료 처리 - 이벤트 발행 (트랜잭션 없이 처리)
-    public void completeJob(UUID jobId, Map<String, Object> analysisResult) {
+    // FastAPI job_id와 담당 인스턴스 기록
+    @Transactional
+    public void assignFastApiJob(UUID jobId, String fastApiJobId, String fastApiInstance) {
         try {
-            log.info("작업 완료 처리 시작: {}", jobId);
+            VideoAnalysisJob job = videoAnalysisJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 작업: " + jobId));
+
+            job.setFastApiJobId(fastApiJobId);
+            job.setFastApiInstance(fastApiInstance);
+            videoAnalysisJobRepository.save(job);
+            log.debug("FastAPI 작업 배정 기록: {} → {} ({})", jobId, fastApiJobId, fastApiInstance);
+
+        } catch (Exception e) {
+            log.error("FastAPI 작업 배정 기록 실패: {}", jobId, e);
+        }
+    }
 
-            // 분석 결과를 메모리 캐시에 저장 (24시간 보관)
-            resultCache.put(jobId, new CacheEntry(analysisResult));
+    /**
+     * 지금까지 받은 전사 텍스트로 예비 피드백(자주 쓴 단어, 습관어) 갱신
+     * 상태 조회 응답에 함께 실려 전체 분석 결과가 저장되기 전에 먼저 보여줄 수 있다.
+     * (구간 분석은 구간 전사가 도착할 때마다, 단일 분석은 결과를 받자마자 호출)
+     */
+    public void updatePreliminaryFeedback(UUID jobId, String transcriptionSoFar) {
+        TranscriptTextAnalyzer.Analysis analysis = transcriptTextAnalyzer.analyze(transcriptionSoFar);
+
+        Map<String, Object> feedback = new HashMap<>();
+        feedback.put("frequentWords", analysis.frequentWords().stream()
+            .map(TranscriptTextAnalyzer.WordCount::word).toList());
+        feedback.put("fillerWords", analysis.fillerWords());
+        feedback.put("fillerCount", analysis.fillerCount());
+        feedback.put("totalWords", analysis.totalWords());
+        preliminaryFeedbackStore.save(jobId, feedback);
+        log.debug("예비 피드백 갱신: {} (어절 {}개)", jobId, analysis.totalWords());
+    }
 
-            // 만료된 캐시 엔트리 정리
-            cleanupExpiredCache();
+    // 작업 완료 처리 - 이벤트 발행 (트랜잭션 없이 처리)
+    public void completeJob(UUID jobId, FastApiAnalysisResult analysisResult) {
+        try {
+            log.info("작업 완료 처리 시작: {}", jobId);
 
-            // 상태를 'COMPLETED'로 업데이트
             VideoAnalysisJob job = videoAnalysisJobRepository.findById(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 작업: " + jobId));
 
-            job.setStatus(JobStatus.COMPLETED);
-            videoAnalysisJobRepository.save(job);
+            // 결과를 저장소에 먼저 저장한 뒤 완료로 표시
+            // (COMPLETED를 본 노드가 분석 테이블의 이전 결과를 새 작업 결과로 캐시하지 않도록)
+            analysisResultStore.save(jobId, job.getPresentation().getId(), analysisResult);
+
+            // 진행 중일 때만 'COMPLETED'로 업데이트 (조건부 UPDATE)
+            // 다른 노드에서 취소/실패 처리된 작업이면 저장한 결과를 지우고 알림 없이 종료
+            if (!videoAnalysisLeaseService.complete(jobId)) {
+                log.info("이미 끝난 작업 - 완료 처리 건너뜀: {}", jobId);
+                analysisResultStore.evict(jobId);
+                preliminaryFeedbackStore.evict(jobId);
+                return;
+            }
             
             // 트랜잭션 커밋 전에 정보 추출 (Lazy Loading)
             UUID userId = job.getPresentation().getTopic().getUser().getUserId();
@@ -110,6 +137,9 @@ public class VideoAnalysisService {
             // 분석 결과를 DB에 저장 (VoiceAnalysis, SttResult, PresentationFeedback)
             voiceAnalysisService.saveAnalysisResults(presentationId, analysisResult);
             log.info("분석 결과 DB 저장 완료: {}", presentationId);
+            videoAnalysisStageService.persisted(jobId);
+            // 전체 피드백이 저장됐으므로 예비 피드백은 더 보여주지 않음
+            preliminaryFeedbackStore.evict(jobId);
 
             // 알림 발송 (트랜잭션이 없으므로 이벤트 대신 직접 호출)
             log.info("🔔 알림 발송 시작 - 사용자: {}, 발표: {}", userId, presentationTitle);
@@ -118,6 +148,7 @@ public class VideoAnalysisService {
                     userId, presentationTitle, presentationId
                 );
                 log.info("✅ 알림 발송 완료 - 사용자: {}", userId);
+                videoAnalysisStageService.notified(jobId);
             } catch (Exception notificationError) {
                 log.error("❌ 알림 발송 실패: {}", notificationError.getMessage(), notificationError);
             }
@@ -137,6 +168,7 @@ public class VideoAnalysisService {
     
     // 트랜잭션 없이 작업 실패 처리
     public void markJobAsFailedWithoutTransaction(UUID jobId, String errorMessage) {
+        preliminaryFeedbackStore.evict(jobId);
         try {
             log.error("작업 실패 처리: {} - {}", jobId, errorMessage);
 
@@ -145,6 +177,7 @@ public class VideoAnalysisService {
 
             job.markAsFailed(errorMessage);
             videoAnalysisJobRepository.save(job);
+            publishStatusChanged(job);
 
             log.info("작업 실패 처리 완료: {}", jobId);
 
@@ -156,6 +189,7 @@ public class VideoAnalysisService {
     // 작업 실패 처리 - 이벤트 발행
     @Transactional
     public void markJobAsFailed(UUID jobId, String errorMessage) {
+        preliminaryFeedbackStore.evict(jobId);
         try {
             log.error("작업 실패 처리: {} - {}", jobId, errorMessage);
 
@@ -164,12 +198,28 @@ public class VideoAnalysisService {
 
             job.markAsFailed(errorMessage);
             videoAnalysisJobRepository.save(job);
+            publishStatusChanged(job);
 
         } catch (Exception e) {
             log.error("실패 처리 중 추가 오류: {}", jobId, e);
         }
     }
 
+    // 사용자 취소 - 대기/처리 중일 때만 실패로 바꾸고 (조건부 UPDATE) 예비 피드백과 결과 캐시를 지움
+    // 그 사이 완료된 작업이면 false (결과와 알림을 그대로 둠)
+    public boolean cancelJob(UUID jobId) {
+        if (!videoAnalysisLeaseService.fail(jobId, "사용자에 의해 취소됨")) {
+            return false;
+        }
+        evictJobResult(jobId);
+        return true;
+    }
+
+    // 작업이 속한 발표 ID (없는 작업이면 null)
+    public UUID getJobPresentationId(UUID jobId) {
+        return videoAnalysisJobRepository.findPresentationIdById(jobId).orElse(null);
+    }
+
     // 상태 조회 (사용자 폴링용)
     public Map<String, Object> getJobStatus(UUID jobId) {
         try {
@@ -185,6 +235,11 @@ public class VideoAnalysisService {
             status.put("message", getStatusMessage(job));
             status.put("createdAt", job.getCreatedAt().toString());
 
+            Map<String, Object> preliminary = preliminaryFeedbackStore.find(jobId);
+            if (preliminary != null && job.getStatus() != JobStatus.FAILED) {
+                status.put("preliminaryFeedback", preliminary);
+            }
+
             return status;
 
         } catch (Exception e) {
@@ -193,72 +248,35 @@ public class VideoAnalysisService {
         }
     }
 
-    // 결과 조회
-    public Map<String, Object> getJobResult(UUID jobId) {
-        try {
-            CacheEntry entry = resultCache.get(jobId);
-
-            if (entry == null) {
-                return null;
-            }
-
-            // 만료된 캐시 확인
-            if (entry.isExpired()) {
-                resultCache.remove(jobId);
-                log.debug("만료된 캐시 제거: {}", jobId);
-                return null;
-            }
-
-            return entry.getData();
-        } catch (Exception e) {
-            log.error("결과 조회 실패: {}", jobId, e);
-            return null;
-        }
+    // 결과 캐시 제거 (취소된 작업)
+    public void evictJobResult(UUID jobId) {
+        preliminaryFeedbackStore.evict(jobId);
+        analysisResultStore.evict(jobId);
+        log.debug("작업 결과 캐시 제거: {}", jobId);
     }
 
-    // 만료된 캐시 엔트리 정리
-    private void cleanupExpiredCache() {
-        resultCache.entrySet().removeIf(entry -> {
-            if (entry.getValue().isExpired()) {
-                log.debug("만료된 캐시 엔트리 제거: {}", entry.getKey());
-                return true;
-            }
-            return false;
-        });
+    // 예비 피드백 조회 (어느 노드에서 분석 중인 작업이든 조회 가능, 없으면 null)
+    public Map<String, Object> getPreliminaryFeedback(UUID jobId) {
+        return preliminaryFeedbackStore.find(jobId);
     }
 
-    /**
-     * 스케줄러: 매 1시간마다 만료된 캐시 자동 정리
-     *
-     * fixedRate: 1시간 = 3,600,000ms
-     * 작업 시작 후 1시간마다 실행 (작업 실행 시간 무관)
-     */
-    @Scheduled(fixedRate = 3600000)
-    public void scheduledCacheCleanup() {
+    // 결과 조회 (어느 노드에서 완료된 작업이든 조회 가능)
+    public FastApiAnalysisResult getJobResult(UUID jobId) {
         try {
-            int beforeSize = resultCache.size();
-
-            if (beforeSize == 0) {
-                return; // 캐시가 비어있으면 로그 안 남김
-            }
-
-            cleanupExpiredCache();
-            int afterSize = resultCache.size();
-            int removedCount = beforeSize - afterSize;
-
-            if (removedCount > 0) {
-                log.info("스케줄 캐시 정리 완료: {}개 제거 ({}개 → {}개 남음)",
-                    removedCount, beforeSize, afterSize);
-            } else {
-                log.debug("스케줄 캐시 정리: 만료된 항목 없음 ({}개 유지)", beforeSize);
-            }
+            return analysisResultStore.find(jobId);
         } catch (Exception e) {
-            log.error("스케줄 캐시 정리 실패", e);
+            log.error("결과 조회 실패: {}", jobId, e);
+            return null;
         }
     }
 
     // === Private 헬퍼 메서드들 ===
 
+    // 상태 캐시 갱신용 (트랜잭션 안이면 커밋 후 처리됨)
+    private void publishStatusChanged(VideoAnalysisJob job) {
+        eventPublisher.publishEvent(new JobStatusChangedEvent(job.getId(), job.getPresentation().getId()));
+    }
+
     // 상태별 메세지 생성
     private String getStatusMessage(VideoAnalysisJob job) {
         return switch (job.getStatus()) {
@@ -0,0 +1,98 @@
+package com.example.ddorang.presentation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * 노드 종료(재배포) 시 진행 중인 영상 분석을 다른 노드로 넘김
+ *
+ * 1. 새 작업 디스패치 중단, 대기열의 작업은 점유만 풀어 넘김
+ * 2. 청크 업로드 중인 작업은 제한 시간까지 업로드가 끝나길 기다림 (반쯤 보낸 업로드를 버리지 않도록)
+ * 3. 교대 신호 - 폴링 중인 작업은 다음 폴링 시각을 남기고 점유를 풀어 다른 노드가 같은 FastAPI 작업을 이어서 폴링,
+ *    끝나지 않은 업로드/구간 분석은 대기 상태로 돌려 다른 노드가 다시 분석
+ *
+ * 웹 서버보다 먼저 멈추도록 가장 높은 단계에서 실행된다 (종료 중 들어온 요청의 작업도 다른 노드로 넘어감).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VideoAnalysisShutdownCoordinator implements SmartLifecycle {
+
+    private final VideoAnalysisDispatcher videoAnalysisDispatcher;
+    private final FastApiPollingService fastApiPollingService;
+
+    // 업로드 중인 작업이 끝나길 기다리는 최대 시간
+    @Value("${analysis.shutdown.upload-drain-ms:30000}")
+    private long uploadDrainMillis;
+
+    // 교대 신호 후 폴링 스레드가 멈추길 기다리는 최대 시간
+    @Value("${analysis.shutdown.handoff-wait-ms:3000}")
+    private long handoffWaitMillis;
+
+    private volatile boolean running = false;
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long startedAt = System.currentTimeMillis();
+
+        List<UUID> queued = videoAnalysisDispatcher.stopDispatching();
+        log.info("노드 종료 - 분석 디스패치 중단 (대기 작업 {}개 넘김, 실행 중 {}개)",
+            queued.size(), fastApiPollingService.getRunningCount());
+
+        if (!awaitZero(fastApiPollingService::getUploadingCount, uploadDrainMillis)) {
+            log.warn("업로드가 {}ms 안에 끝나지 않음 - 남은 {}개는 다른 노드가 다시 업로드",
+                uploadDrainMillis, fastApiPollingService.getUploadingCount());
+        }
+
+        fastApiPollingService.requestHandoff();
+        awaitZero(fastApiPollingService::getRunningCount, handoffWaitMillis);
+
+        // 제한 시간 안에 멈추지 않은 작업(HTTP 응답 대기 등)은 여기서 넘김
+        int remaining = fastApiPollingService.handOffRemaining();
+        log.info("노드 종료 준비 완료 ({}ms) - 스레드가 멈추지 않아 대신 넘긴 작업 {}개",
+            System.currentTimeMillis() - startedAt, remaining);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    // 값이 0이 될 때까지 대기 (제한 시간 안에 0이 되면 true)
+    private boolean awaitZero(IntSupplier count, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (count.getAsInt() > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
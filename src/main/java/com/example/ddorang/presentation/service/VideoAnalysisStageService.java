@@ -0,0 +1,157 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.VideoAnalysisStageMetrics;
+import com.example.ddorang.presentation.dto.VideoAnalysisStageTimes;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 영상 분석 단계별 시각 기록과 기간별 소요 시간 집계
+ *
+ * 단계: 대기열 등록 → 실행 시작 → 업로드 시작/완료(바이트, 청크 수) → 첫 폴링 → FastAPI 완료 → 결과 저장 → 알림
+ * 기록은 단계마다 한 컬럼만 바꾸는 UPDATE라 폴링/구간 스레드가 동시에 기록해도 서로 덮어쓰지 않는다.
+ * 지표 기록 실패는 분석을 멈추지 않도록 로그만 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoAnalysisStageService {
+
+    private final VideoAnalysisJobRepository videoAnalysisJobRepository;
+
+    /**
+     * 집계 단계 - 앞 단계 시각부터 이 단계 시각까지
+     */
+    public enum Stage {
+        QUEUE("queue", t -> VideoAnalysisStageTimes.millisBetween(t.queuedAt(), t.startedAt())),
+        UPLOAD("upload", t -> VideoAnalysisStageTimes.millisBetween(t.uploadStartedAt(), t.uploadFinishedAt())),
+        FIRST_POLL("firstPoll", t -> VideoAnalysisStageTimes.millisBetween(t.uploadFinishedAt(), t.firstPolledAt())),
+        UPSTREAM("upstream", t -> VideoAnalysisStageTimes.millisBetween(t.uploadFinishedAt(), t.upstreamCompletedAt())),
+        PERSIST("persist", t -> VideoAnalysisStageTimes.millisBetween(t.upstreamCompletedAt(), t.persistedAt())),
+        NOTIFY("notify", t -> VideoAnalysisStageTimes.millisBetween(t.persistedAt(), t.notifiedAt())),
+        // 요청부터 알림까지 (재시도/노드 교대로 다시 대기한 시간 포함)
+        TOTAL("total", t -> VideoAnalysisStageTimes.millisBetween(t.createdAt(), t.notifiedAt()));
+
+        private final String key;
+        private final Function<VideoAnalysisStageTimes, Long> duration;
+
+        Stage(String key, Function<VideoAnalysisStageTimes, Long> duration) {
+            this.key = key;
+            this.duration = duration;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Long durationMillis(VideoAnalysisStageTimes times) {
+            return duration.apply(times);
+        }
+    }
+
+    // === 단계 기록 ===
+
+    @Transactional
+    public void queued(UUID jobId) {
+        record(jobId, "queued", at -> videoAnalysisJobRepository.recordQueuedAt(jobId, at));
+    }
+
+    @Transactional
+    public void started(UUID jobId) {
+        record(jobId, "started", at -> videoAnalysisJobRepository.recordStartedAt(jobId, at));
+    }
+
+    @Transactional
+    public void uploadStarted(UUID jobId) {
+        record(jobId, "uploadStarted", at -> videoAnalysisJobRepository.recordUploadStartedAt(jobId, at));
+    }
+
+    @Transactional
+    public void uploadFinished(UUID jobId, long bytes, int chunkCount) {
+        record(jobId, "uploadFinished",
+            at -> videoAnalysisJobRepository.recordUploadFinished(jobId, at, bytes, chunkCount));
+    }
+
+    // 처음 한 번만 기록됨
+    @Transactional
+    public void firstPolled(UUID jobId) {
+        record(jobId, "firstPolled", at -> videoAnalysisJobRepository.recordFirstPolledAt(jobId, at));
+    }
+
+    @Transactional
+    public void upstreamCompleted(UUID jobId) {
+        record(jobId, "upstreamCompleted", at -> videoAnalysisJobRepository.recordUpstreamCompletedAt(jobId, at));
+    }
+
+    @Transactional
+    public void persisted(UUID jobId) {
+        record(jobId, "persisted", at -> videoAnalysisJobRepository.recordPersistedAt(jobId, at));
+    }
+
+    @Transactional
+    public void notified(UUID jobId) {
+        record(jobId, "notified", at -> videoAnalysisJobRepository.recordNotifiedAt(jobId, at));
+    }
+
+    private void record(UUID jobId, String stage, Function<LocalDateTime, Integer> update) {
+        try {
+            update.apply(LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("분석 단계 기록 실패 (무시됨): {} - {} ({})", jobId, stage, e.getMessage());
+        }
+    }
+
+    // === 집계 ===
+
+    /**
+     * 최근 window 동안 생성된 작업의 단계별 소요 시간 p50/p95/p99
+     */
+    @Transactional(readOnly = true)
+    public VideoAnalysisStageMetrics summarize(Duration window) {
+        LocalDateTime until = LocalDateTime.now();
+        LocalDateTime since = until.minus(window);
+        List<VideoAnalysisStageTimes> times = videoAnalysisJobRepository.findStageTimesSince(since);
+        return new VideoAnalysisStageMetrics(since, until, times.size(), percentilesByStage(times));
+    }
+
+    static Map<String, VideoAnalysisStageMetrics.StagePercentiles> percentilesByStage(
+            List<VideoAnalysisStageTimes> times) {
+        Map<String, VideoAnalysisStageMetrics.StagePercentiles> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            long[] sorted = times.stream()
+                .map(stage::durationMillis)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+            stages.put(stage.getKey(), percentiles(sorted));
+        }
+        return stages;
+    }
+
+    static VideoAnalysisStageMetrics.StagePercentiles percentiles(long[] sorted) {
+        if (sorted.length == 0) {
+            return new VideoAnalysisStageMetrics.StagePercentiles(0, null, null, null, null);
+        }
+        return new VideoAnalysisStageMetrics.StagePercentiles(sorted.length,
+            percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), sorted[sorted.length - 1]);
+    }
+
+    // 최근접 순위 백분위 - 정렬된 값 중 p% 이상을 덮는 가장 작은 값 (보간 없이 실제 관측값)
+    static long percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+}
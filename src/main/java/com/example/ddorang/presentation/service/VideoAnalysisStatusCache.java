@@ -0,0 +1,154 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.presentation.dto.VideoAnalysisJobStatus;
+import com.example.ddorang.presentation.event.JobStatusChangedEvent;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 발표별 최신 영상 분석 작업 상태 캐시 (Redis, 모든 노드 공유)
+ *
+ * 클라이언트가 몇 초마다 폴링하는 상태 조회가 DB를 거치지 않도록, 작업 상태가 바뀔 때마다
+ * (JobStatusChangedEvent, 커밋 후) 최신 상태를 DB에서 한 번 읽어 덮어쓴다.
+ * 이벤트 처리나 조회 쪽 채우기가 동시에 일어나 늦게 도착한 쓰기가 이미 캐시된 값보다 오래된 상태면 버린다
+ * (수정 시각을 버전으로 함께 저장하고 Lua 스크립트로 비교 후 저장 - 완료 뒤에 처리 중이 덮어써 굳지 않도록).
+ * Redis 장애 시에는 DB 조회로 대신한다.
+ */
+@Service
+@Slf4j
+public class VideoAnalysisStatusCache {
+
+    static final String KEY_PREFIX = "analysis:status:";
+    static final String VERSION_KEY_PREFIX = "analysis:status-version:";
+
+    // KEYS[1] 상태, KEYS[2] 버전 / ARGV[1] 상태 JSON, ARGV[2] 버전, ARGV[3] TTL(ms)
+    // 캐시된 버전보다 오래된 값이면 쓰지 않고 0
+    private static final RedisScript<Long> WRITE_IF_NEWER = new DefaultRedisScript<>(
+        "local current = redis.call('GET', KEYS[2]) " +
+        "if current and tonumber(current) > tonumber(ARGV[2]) then return 0 end " +
+        "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) " +
+        "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+        "return 1",
+        Long.class);
+
+    private final VideoAnalysisJobRepository videoAnalysisJobRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public VideoAnalysisStatusCache(VideoAnalysisJobRepository videoAnalysisJobRepository,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${analysis.status-cache.ttl:30m}") Duration ttl) {
+        this.videoAnalysisJobRepository = videoAnalysisJobRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 발표의 최신 작업 상태 (작업이 없으면 null)
+     */
+    public VideoAnalysisJobStatus getLatest(UUID presentationId) {
+        String cached = read(presentationId);
+        if (cached != null) {
+            try {
+                return objectMapper.readValue(cached, VideoAnalysisJobStatus.class);
+            } catch (Exception e) {
+                log.warn("상태 캐시 값 읽기 실패 - DB에서 조회: {} - {}", presentationId, e.getMessage());
+            }
+        }
+
+        VideoAnalysisJobStatus latest = load(presentationId);
+        if (latest != null) {
+            write(presentationId, latest);
+        }
+        return latest;
+    }
+
+    // 작업 상태가 바뀌면 (트랜잭션이 있으면 커밋 후) 최신 상태로 덮어씀 (캐시된 값보다 오래된 상태는 버림)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobStatusChanged(JobStatusChangedEvent event) {
+        try {
+            UUID presentationId = event.getPresentationId() != null
+                ? event.getPresentationId()
+                : videoAnalysisJobRepository.findPresentationIdById(event.getJobId()).orElse(null);
+            if (presentationId == null) {
+                return;
+            }
+
+            VideoAnalysisJobStatus latest = load(presentationId);
+            if (latest == null) {
+                evict(presentationId);
+            } else {
+                write(presentationId, latest);
+            }
+        } catch (Exception e) {
+            // 갱신하지 못한 값은 TTL이 지나면 DB에서 다시 읽음
+            log.warn("상태 캐시 갱신 실패: {} - {}", event.getJobId(), e.getMessage());
+        }
+    }
+
+    // 발표 삭제 시
+    public void evict(UUID presentationId) {
+        try {
+            redisTemplate.delete(List.of(KEY_PREFIX + presentationId, VERSION_KEY_PREFIX + presentationId));
+        } catch (Exception e) {
+            log.warn("상태 캐시 제거 실패: {} - {}", presentationId, e.getMessage());
+        }
+    }
+
+    private VideoAnalysisJobStatus load(UUID presentationId) {
+        VideoAnalysisJobStatus latest = videoAnalysisJobRepository.findLatestStatus(presentationId).orElse(null);
+        if (latest != null && latest.status() == JobStatus.FAILED) {
+            return latest.withErrorMessage(
+                videoAnalysisJobRepository.findErrorMessageById(latest.jobId()).orElse(null));
+        }
+        return latest;
+    }
+
+    private String read(UUID presentationId) {
+        try {
+            return redisTemplate.opsForValue().get(KEY_PREFIX + presentationId);
+        } catch (Exception e) {
+            log.warn("상태 캐시 조회 실패 - DB에서 조회: {} - {}", presentationId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(UUID presentationId, VideoAnalysisJobStatus status) {
+        try {
+            Long written = redisTemplate.execute(WRITE_IF_NEWER,
+                List.of(KEY_PREFIX + presentationId, VERSION_KEY_PREFIX + presentationId),
+                objectMapper.writeValueAsString(status), String.valueOf(version(status)), String.valueOf(ttl.toMillis()));
+            if (written != null && written == 0) {
+                log.debug("오래된 상태라 캐시하지 않음: {} ({})", presentationId, status.status());
+            }
+        } catch (Exception e) {
+            log.warn("상태 캐시 저장 실패: {} - {}", presentationId, e.getMessage());
+        }
+    }
+
+    // 최신 작업의 수정 시각 (μs) - 새 작업은 이전 작업이 끝난 뒤에 만들어지므로 작업이 바뀌어도 커짐
+    static long version(VideoAnalysisJobStatus status) {
+        LocalDateTime updatedAt = status.updatedAt() != null ? status.updatedAt() : status.createdAt();
+        if (updatedAt == null) {
+            return 0;
+        }
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+    }
+}
@@ -3,12 +3,12 @@ package com.example.ddorang.presentation.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.*;
@@ -31,40 +31,78 @@ public class VideoChunkService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-
-    @Value("${fastapi.base-url:http://localhost:8000}")
-    private String fastApiUrl;
+    private final FastApiRequestCoalescer fastApiRequestCoalescer;
+    private final FastApiEndpointPool fastApiEndpointPool;
 
     /**
      * 비디오 파일을 청크로 분할하고 FastAPI로 업로드
+     * 모든 청크는 풀에서 고른 한 인스턴스로 보내며, 발급된 job_id는 그 인스턴스에 고정된다
+     * (FastApiEndpointPool.instanceFor로 조회)
      *
      * @param videoFile 업로드할 비디오 파일
      * @param metadata FastAPI에 전송할 메타데이터 (target_time 등)
      * @return FastAPI job_id
      */
     public String uploadVideoInChunks(File videoFile, Map<String, Object> metadata) {
+        return uploadVideoInChunks(videoFile, metadata, AnalysisCancellationRegistry.NONE);
+    }
+
+    /**
+     * 취소 토큰을 확인하며 업로드 - 취소되면 다음 청크를 보내기 전에 AnalysisCancelledException
+     */
+    public String uploadVideoInChunks(File videoFile, Map<String, Object> metadata,
+                                      AnalysisCancellationRegistry.CancellationToken cancellationToken) {
+        // 같은 파일/메타데이터로 동시에 들어온 업로드는 하나만 수행하고 job_id를 공유
+        String fingerprint = FastApiRequestCoalescer.fingerprint(
+            videoFile.getAbsolutePath(), videoFile.length(), videoFile.lastModified(), metadata);
+
+        try {
+            return fastApiRequestCoalescer.execute("chunk-upload", fingerprint,
+                () -> splitAndUpload(videoFile, metadata, cancellationToken));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("청크 업로드 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    private String splitAndUpload(File videoFile, Map<String, Object> metadata,
+                                  AnalysisCancellationRegistry.CancellationToken cancellationToken) {
         log.debug("DEBUG: VideoChunkService.uploadVideoInChunks() 메서드 진입");
         log.info("📦 청크 업로드 시작: {} ({}MB)",
             videoFile.getName(),
             videoFile.length() / (1024 * 1024));
-        log.debug("DEBUG: fastApiUrl: {}", fastApiUrl);
         log.debug("DEBUG: metadata: {}", metadata);
 
         List<File> chunks = new ArrayList<>();
 
-        try {
+        try (FastApiEndpointPool.Lease lease = fastApiEndpointPool.acquire()) {
+            log.debug("DEBUG: FastAPI 인스턴스: {}", lease.baseUrl());
+
             // 1. 파일을 청크로 분할
-            chunks = splitIntoChunks(videoFile);
+            // 분할 도중 취소/실패해도 이미 만든 청크는 finally에서 정리되도록 같은 목록에 추가
+            chunks = splitIntoChunks(videoFile, chunks, cancellationToken);
             log.info("✂️ 파일 분할 완료: {} → {}개 청크", videoFile.getName(), chunks.size());
 
             // 2. 청크를 FastAPI로 업로드
             String originalFilename = extractFilenameWithoutExtension(videoFile.getName());
-            String fastApiJobId = uploadChunks(chunks, originalFilename, metadata);
+            String fastApiJobId;
+            try {
+                fastApiJobId = uploadChunks(chunks, originalFilename, metadata, lease.baseUrl(), cancellationToken);
+            } catch (ResourceAccessException e) {
+                lease.markFailed();
+                throw e;
+            }
 
-            log.info("청크 업로드 완료: job_id={}", fastApiJobId);
+            // 3. 결과 폴링이 같은 인스턴스로 가도록 고정
+            fastApiEndpointPool.bindJob(fastApiJobId, lease.baseUrl());
+            log.info("청크 업로드 완료: job_id={}, instance={}", fastApiJobId, lease.baseUrl());
 
             return fastApiJobId;
 
+        } catch (AnalysisCancellationRegistry.AnalysisCancelledException e) {
+            log.info("청크 업로드 취소: {}", videoFile.getName());
+            throw e;
         } catch (IOException e) {
             log.error("파일 분할 실패: {}", videoFile.getName(), e);
             throw new RuntimeException("비디오 파일 분할 중 오류 발생: " + e.getMessage(), e);
@@ -72,20 +110,26 @@ public class VideoChunkService {
             log.error("청크 업로드 실패: {}", videoFile.getName(), e);
             throw new RuntimeException("청크 업로드 중 오류 발생: " + e.getMessage(), e);
         } finally {
-            // 3. 임시 청크 파일 정리 (성공/실패 관계없이 반드시 실행)
+            // 4. 임시 청크 파일 정리 (성공/실패 관계없이 반드시 실행)
             cleanupChunks(chunks);
         }
     }
 
+    // 파일 크기별 업로드 청크 수
+    public static int chunkCount(long fileSize) {
+        return (int) Math.ceil((double) fileSize / CHUNK_SIZE);
+    }
+
     /**
      * 비디오 파일을 50MB 청크로 분할
      * 메모리 효율을 위해 스트림 방식으로 읽기
      */
-    private List<File> splitIntoChunks(File videoFile) throws IOException {
-        List<File> chunks = new ArrayList<>();
+    private List<File> splitIntoChunks(File videoFile, List<File> chunks,
+                                       AnalysisCancellationRegistry.CancellationToken cancellationToken)
+            throws IOException {
 
         long fileSize = videoFile.length();
-        int totalChunks = (int) Math.ceil((double) fileSize / CHUNK_SIZE);
+        int totalChunks = chunkCount(fileSize);
 
         log.debug("파일 크기: {}MB, 예상 청크 수: {}", fileSize / (1024 * 1024), totalChunks);
 
@@ -99,6 +143,8 @@ public class VideoChunkService {
             int chunkIndex = 0;
 
             while (true) {
+                cancellationToken.throwIfCancelled();
+
                 // CHUNK_SIZE만큼 읽기 (마지막 청크는 작을 수 있음)
                 int bytesRead = 0;
                 int totalBytesRead = 0;
@@ -146,15 +192,17 @@ public class VideoChunkService {
     }
 
     /**
-     * 청크를 FastAPI /analysis 엔드포인트로 순차 업로드
+     * 청크를 FastAPI /analysis 엔드포인트로 순차 업로드 (모두 같은 인스턴스로)
      */
-    private String uploadChunks(List<File> chunks, String originalFilename, Map<String, Object> metadata)
+    private String uploadChunks(List<File> chunks, String originalFilename, Map<String, Object> metadata,
+                                String baseUrl, AnalysisCancellationRegistry.CancellationToken cancellationToken)
             throws Exception {
 
         int totalChunks = chunks.size();
         String fastApiJobId = null;
 
         for (int i = 0; i < totalChunks; i++) {
+            cancellationToken.throwIfCancelled();
             File chunk = chunks.get(i);
 
             log.info("청크 업로드 중: {}/{} ({}MB)",
@@ -177,7 +225,7 @@ public class VideoChunkService {
 
             // FastAPI 호출
             ResponseEntity<Map> response = restTemplate.exchange(
-                fastApiUrl + "/analysis",
+                baseUrl + "/analysis",
                 HttpMethod.POST,
                 requestEntity,
                 Map.class
@@ -0,0 +1,127 @@
+package com.example.ddorang.presentation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * ffmpeg로 긴 영상을 시간 구간별로 분할
+ *
+ * 재인코딩 없이(-c copy) segment muxer로 자르므로 경계는 키프레임에 맞춰지고,
+ * 실제 구간 길이와 시작 위치는 ffprobe로 다시 측정한다.
+ */
+@Component
+@Slf4j
+public class VideoSegmentSplitter {
+
+    @Value("${analysis.sharding.ffmpeg-path:ffmpeg}")
+    private String ffmpegPath;
+
+    @Value("${analysis.sharding.ffprobe-path:ffprobe}")
+    private String ffprobePath;
+
+    @Value("${analysis.sharding.process-timeout-seconds:300}")
+    private long processTimeoutSeconds;
+
+    /**
+     * 분할된 구간
+     *
+     * @param offsetSeconds   원본 영상 기준 시작 위치
+     * @param durationSeconds 구간 길이
+     */
+    public record Segment(File file, double offsetSeconds, double durationSeconds) {
+    }
+
+    /**
+     * 영상 길이(초) 측정
+     */
+    public double probeDurationSeconds(File video) throws IOException, InterruptedException {
+        String output = run(List.of(ffprobePath, "-v", "error",
+            "-show_entries", "format=duration",
+            "-of", "default=noprint_wrappers=1:nokey=1",
+            video.getAbsolutePath()));
+        try {
+            return Double.parseDouble(output.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("ffprobe 영상 길이 파싱 실패: " + output.trim());
+        }
+    }
+
+    /**
+     * segmentSeconds 단위로 분할 - 결과 파일은 outputDir에 생성되며 정리는 호출자 책임
+     */
+    public List<Segment> split(File video, int segmentSeconds, Path outputDir) throws IOException, InterruptedException {
+        String extension = extensionOf(video.getName());
+        String pattern = outputDir.resolve("segment_%03d" + extension).toString();
+
+        run(List.of(ffmpegPath, "-v", "error", "-y",
+            "-i", video.getAbsolutePath(),
+            "-map", "0",
+            "-c", "copy",
+            "-f", "segment",
+            "-segment_time", String.valueOf(segmentSeconds),
+            "-reset_timestamps", "1",
+            pattern));
+
+        List<File> files;
+        try (Stream<Path> paths = Files.list(outputDir)) {
+            files = paths.filter(p -> p.getFileName().toString().startsWith("segment_"))
+                .sorted()
+                .map(Path::toFile)
+                .toList();
+        }
+        if (files.isEmpty()) {
+            throw new IOException("ffmpeg 분할 결과가 없습니다: " + video.getName());
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        double offset = 0;
+        for (File file : files) {
+            double duration = probeDurationSeconds(file);
+            segments.add(new Segment(file, offset, duration));
+            offset += duration;
+        }
+
+        log.info("영상 분할 완료: {} → {}개 구간 ({}초 단위)", video.getName(), segments.size(), segmentSeconds);
+        return segments;
+    }
+
+    private String run(List<String> command) throws IOException, InterruptedException {
+        // 출력은 임시 파일로 받아 프로세스가 멈춰도 시간 초과로 끊을 수 있게 함
+        Path outputFile = Files.createTempFile("ffmpeg-", ".log");
+        try {
+            Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(outputFile.toFile())
+                .start();
+
+            if (!process.waitFor(processTimeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException(command.get(0) + " 실행 시간 초과");
+            }
+
+            String output = Files.readString(outputFile, StandardCharsets.UTF_8);
+            if (process.exitValue() != 0) {
+                throw new IOException(command.get(0) + " 실행 실패 (exit " + process.exitValue() + "): " + output.trim());
+            }
+            return output;
+        } finally {
+            Files.deleteIfExists(outputFile);
+        }
+    }
+
+    private String extensionOf(String filename) {
+        int lastDotIndex = filename.lastIndexOf('.');
+        return lastDotIndex > 0 ? filename.substring(lastDotIndex).toLowerCase() : ".mp4";
+    }
+}
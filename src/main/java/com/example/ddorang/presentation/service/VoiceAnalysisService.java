@@ -1,5 +1,6 @@
 package com.example.ddorang.presentation.service;
 
+import com.example.ddorang.common.util.ScriptTexts;
 import com.example.ddorang.presentation.entity.Presentation;
 import com.example.ddorang.presentation.entity.VoiceAnalysis;
 import com.example.ddorang.presentation.entity.SttResult;
@@ -11,15 +12,14 @@ import com.example.ddorang.presentation.repository.PresentationFeedbackRepositor
 import com.example.ddorang.presentation.dto.VoiceAnalysisResponse;
 import com.example.ddorang.presentation.dto.SttResultResponse;
 import com.example.ddorang.presentation.dto.PresentationFeedbackResponse;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.presentation.dto.AnalysisResultVersions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,13 +34,14 @@ public class VoiceAnalysisService {
     private final SttResultRepository sttResultRepository;
     private final PresentationRepository presentationRepository;
     private final PresentationFeedbackRepository presentationFeedbackRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TranscriptTextAnalyzer transcriptTextAnalyzer;
 
     /**
-     * FastAPI 응답 데이터를 받아 VoiceAnalysis, SttResult, PresentationFeedback 저장
+     * FastAPI 분석 결과를 받아 VoiceAnalysis, SttResult, PresentationFeedback 저장
+     * (result 래퍼 처리와 anxiety_grade 보정은 FastApiResultParser에서 파싱 시 처리됨)
      */
     @Transactional
-    public void saveAnalysisResults(UUID presentationId, Map<String, Object> fastApiResponse) {
+    public void saveAnalysisResults(UUID presentationId, FastApiAnalysisResult analysisResult) {
 
         try {
         Presentation presentation = presentationRepository.findById(presentationId)
@@ -48,39 +49,11 @@ public class VoiceAnalysisService {
 
             log.info("프레젠테이션 조회 성공: {}", presentation.getTitle());
 
-            // FastAPI 응답 구조 확인 및 처리
-            Map<String, Object> analysisResult;
-            
-            // result 객체가 있는 경우 (새로운 구조)
-            if (fastApiResponse.containsKey("result")) {
-                analysisResult = (Map<String, Object>) fastApiResponse.get("result");
-            } 
-            // result 객체가 없는 경우 (기존 구조 - 직접 분석 결과)
-            else {
-                analysisResult = fastApiResponse;
-            }
-            
-            if (analysisResult == null || analysisResult.isEmpty()) {
-                log.error("분석 결과 데이터가 비어있습니다: {}", fastApiResponse);
+            if (analysisResult == null) {
+                log.error("분석 결과 데이터가 비어있습니다: {}", presentationId);
                 throw new RuntimeException("분석 결과 데이터가 올바르지 않습니다.");
             }
 
-            // anxiety_analysis 확인 (문자열이면 등급, Map이면 내부에서 grade 추출)
-            Object anxietyAnalysisObj = analysisResult.get("anxiety_analysis");
-            if (anxietyAnalysisObj != null && !analysisResult.containsKey("anxiety_grade")) {
-                if (anxietyAnalysisObj instanceof Map) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> anxietyAnalysis = (Map<String, Object>) anxietyAnalysisObj;
-                    if (anxietyAnalysis.containsKey("grade")) {
-                        analysisResult.put("anxiety_grade", anxietyAnalysis.get("grade"));
-                    }
-                } else if (anxietyAnalysisObj instanceof String) {
-                    analysisResult.put("anxiety_grade", anxietyAnalysisObj);
-                } else {
-                    analysisResult.put("anxiety_grade", anxietyAnalysisObj.toString());
-                }
-            }
-
             // 실제 DB에 분석 결과 저장
             saveVoiceAnalysis(presentation, analysisResult);
             saveSttResult(presentation, analysisResult);
@@ -93,7 +66,7 @@ public class VoiceAnalysisService {
         }
     }
 
-    private void saveVoiceAnalysis(Presentation presentation, Map<String, Object> response) {
+    private void saveVoiceAnalysis(Presentation presentation, FastApiAnalysisResult response) {
         try {
         // 기존 분석 결과가 있으면 삭제
         voiceAnalysisRepository.findByPresentationId(presentation.getId())
@@ -102,20 +75,20 @@ public class VoiceAnalysisService {
         VoiceAnalysis voiceAnalysis = VoiceAnalysis.builder()
                 .presentation(presentation)
                 // 음성 강도 분석
-                .intensityGrade(getStringValue(response, "intensity_grade"))
-                .intensityDb(getFloatValue(response, "intensity_db"))
-                .intensityText(getStringValue(response, "intensity_text"))
+                .intensityGrade(response.intensityGrade())
+                .intensityDb(response.intensityDb())
+                .intensityText(response.intensityText())
                 // 피치 분석
-                .pitchGrade(getStringValue(response, "pitch_grade"))
-                .pitchAvg(getFloatValue(response, "pitch_avg"))
-                .pitchText(getStringValue(response, "pitch_text"))
+                .pitchGrade(response.pitchGrade())
+                .pitchAvg(response.pitchAvg())
+                .pitchText(response.pitchText())
                 // WPM 분석
-                .wpmGrade(getStringValue(response, "wpm_grade"))
-                .wpmAvg(getFloatValue(response, "wpm_avg"))
-                .wpmComment(getStringValue(response, "wpm_comment"))
+                .wpmGrade(response.wpmGrade())
+                .wpmAvg(response.wpmAvg())
+                .wpmComment(response.wpmComment())
                 // 불안 분석 (FastAPI에서 받은 값 그대로 사용)
-                .anxietyGrade(getStringValue(response, "anxiety_grade"))
-                .anxietyRatio(getFloatValue(response, "anxiety_ratio"))
+                .anxietyGrade(response.anxietyGrade())
+                .anxietyRatio(response.anxietyRatio())
                 .build();
 
         voiceAnalysisRepository.save(voiceAnalysis);
@@ -127,7 +100,7 @@ public class VoiceAnalysisService {
         }
     }
 
-    private void saveSttResult(Presentation presentation, Map<String, Object> response) {
+    private void saveSttResult(Presentation presentation, FastApiAnalysisResult response) {
         try {
             log.info("SttResult 저장 시작 - 프레젠테이션: {}", presentation.getId());
             
@@ -139,10 +112,12 @@ public class VoiceAnalysisService {
 
         SttResult sttResult = SttResult.builder()
                 .presentation(presentation)
-                .transcription(getStringValue(response, "transcription"))
-                .pronunciationScore(getFloatValue(response, "pronunciation_score"))
-                    .adjustedScript(getStringValue(response, "adjusted_script")) // FastAPI에서 제공하지 않을 수 있음
-                    .correctedScript(getStringValue(response, "corrected_transcription")) // corrected_transcription으로 변경
+                .transcription(response.transcription())
+                .pronunciationScore(response.pronunciationScore())
+                    .adjustedScript(response.adjustedScript()) // FastAPI에서 제공하지 않을 수 있음
+                    .correctedScript(response.correctedTranscription()) // corrected_transcription으로 변경
+                    .scriptAdherenceScore(ScriptTexts.adherence(presentation.getScript(), response.transcription()))
+                    .sourceScriptHash(ScriptTexts.hash(presentation.getScript()))
                 .build();
 
             log.info("SttResult 객체 생성 완료");
@@ -155,7 +130,7 @@ public class VoiceAnalysisService {
         }
     }
 
-    private void savePresentationFeedback(Presentation presentation, Map<String, Object> response) {
+    private void savePresentationFeedback(Presentation presentation, FastApiAnalysisResult response) {
         try {
             log.info("PresentationFeedback 저장 시작 - 프레젠테이션: {}", presentation.getId());
             
@@ -165,19 +140,29 @@ public class VoiceAnalysisService {
 
             log.info("기존 PresentationFeedback 삭제 완료");
 
-            // feedback 객체 추출
-            @SuppressWarnings("unchecked")
-            Map<String, Object> feedback = (Map<String, Object>) response.get("feedback");
+            // feedback 객체 (각 항목은 파싱 시 원본 JSON 문자열로 보관됨)
+            FastApiAnalysisResult.Feedback feedback = response.feedback();
+
+            // 자주 쓴 단어/습관어는 전사 텍스트로 직접 계산 (전사가 없으면 FastAPI 값 사용)
+            String transcription = response.transcription();
+            TranscriptTextAnalyzer.Analysis textAnalysis = transcriptTextAnalyzer.analyze(transcription);
+            boolean hasTranscription = transcription != null && !transcription.isBlank();
+            String fillerWords = transcriptTextAnalyzer.fillerWordsJson(textAnalysis);
+            String missedSentences = transcriptTextAnalyzer.missedSentencesJson(presentation.getScript(), transcription);
             
             if (feedback != null) {
-                log.info("feedback 객체 발견: {}", feedback.keySet());
+                log.info("feedback 객체 발견");
                 
                 PresentationFeedback presentationFeedback = PresentationFeedback.builder()
                         .presentation(presentation)
-                        .frequentWords(convertToJsonString(feedback.get("frequent_words")))
-                        .awkwardSentences(convertToJsonString(feedback.get("awkward_sentences")))
-                        .difficultyIssues(convertToJsonString(feedback.get("difficulty_issues")))
-                        .predictedQuestions(convertToJsonString(response.get("predicted_questions")))
+                        .frequentWords(hasTranscription
+                                ? transcriptTextAnalyzer.frequentWordsJson(textAnalysis)
+                                : feedback.frequentWordsJson())
+                        .fillerWords(fillerWords)
+                        .awkwardSentences(feedback.awkwardSentencesJson())
+                        .difficultyIssues(feedback.difficultyIssuesJson())
+                        .predictedQuestions(response.predictedQuestionsJson())
+                        .missedSentences(missedSentences)
                         .build();
 
                 log.info("PresentationFeedback 객체 생성 완료");
@@ -190,10 +175,12 @@ public class VoiceAnalysisService {
                 // 기본 피드백 생성
                 PresentationFeedback presentationFeedback = PresentationFeedback.builder()
                         .presentation(presentation)
-                        .frequentWords("[]")
+                        .frequentWords(transcriptTextAnalyzer.frequentWordsJson(textAnalysis))
+                        .fillerWords(fillerWords)
                         .awkwardSentences("[]")
                         .difficultyIssues("[]")
-                        .predictedQuestions(convertToJsonString(response.get("predicted_questions")))
+                        .predictedQuestions(response.predictedQuestionsJson())
+                        .missedSentences(missedSentences)
                         .build();
 
                 presentationFeedbackRepository.save(presentationFeedback);
@@ -214,6 +201,13 @@ public class VoiceAnalysisService {
                 .orElse(null);
     }
 
+    /**
+     * 분석 결과 행별 버전 (ETag 계산용, 발표가 없으면 null)
+     */
+    public AnalysisResultVersions getAnalysisResultVersions(UUID presentationId) {
+        return presentationRepository.findAnalysisResultVersions(presentationId).orElse(null);
+    }
+
     /**
      * 프레젠테이션의 STT 결과 조회
      */
@@ -268,50 +262,4 @@ public class VoiceAnalysisService {
                sttResultRepository.existsByPresentationId(presentationId) ||
                presentationFeedbackRepository.existsByPresentationId(presentationId);
     }
-
-    // 유틸리티 메서드들
-    private String getStringValue(Map<String, Object> response, String key) {
-        Object value = response.get(key);
-        return value != null ? value.toString() : null;
-    }
-
-    private Float getFloatValue(Map<String, Object> response, String key) {
-        Object value = response.get(key);
-        if (value == null) return null;
-        
-        try {
-            if (value instanceof Number) {
-                return ((Number) value).floatValue();
-            }
-            return Float.parseFloat(value.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Float 변환 실패: {} = {}", key, value);
-            return null;
-        }
-    }
-
-    private Double getDoubleValue(Map<String, Object> response, String key) {
-        Object value = response.get(key);
-        if (value == null) return 0.0;
-        
-        try {
-            if (value instanceof Number) {
-                return ((Number) value).doubleValue();
-            }
-            return Double.parseDouble(value.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Double 변환 실패: {} = {}", key, value);
-            return 0.0;
-        }
-    }
-
-    private String convertToJsonString(Object obj) {
-        if (obj == null) return null;
-        try {
-            return objectMapper.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            log.error("JSON 변환 실패: {}", e.getMessage());
-            return null;
-        }
-    }
-} 
\ No newline at end of file
+}
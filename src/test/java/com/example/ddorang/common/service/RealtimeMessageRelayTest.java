@@ -0,0 +1,65 @@
+package com.example.ddorang.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class RealtimeMessageRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    private final UUID userId = UUID.randomUUID();
+    private final Map<String, Object> payload = Map.of("type", "ANALYSIS_COMPLETE", "title", "발표");
+
+    private RealtimeMessageRelay relay(SimpMessagingTemplate template) {
+        ObjectProvider<SimpMessagingTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(template);
+        return new RealtimeMessageRelay(provider, redisTemplate, objectMapper);
+    }
+
+    @Test
+    void nodeWithBrokerSendsDirectly() {
+        relay(messagingTemplate).sendToUser(userId, "/queue/notifications", payload);
+
+        verify(messagingTemplate).convertAndSendToUser(userId.toString(), "/queue/notifications", payload);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void workerPublishesAndApiNodeForwardsToSubscriber() {
+        relay(null).sendToUser(userId, "/queue/notifications", payload);
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RealtimeMessageRelay.CHANNEL),
+            published.capture());
+
+        relay(messagingTemplate).deliver(published.getValue());
+
+        verify(messagingTemplate).convertAndSendToUser(userId.toString(), "/queue/notifications", payload);
+    }
+
+    @Test
+    void nodeWithoutBrokerIgnoresRelayedMessage() {
+        relay(null).deliver("{\"userId\":\"" + userId + "\",\"destination\":\"/queue/notifications\",\"payload\":{}}");
+
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+}
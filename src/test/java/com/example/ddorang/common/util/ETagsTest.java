@@ -0,0 +1,71 @@
+package com.example.ddorang.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    private final UUID id = UUID.randomUUID();
+    private final LocalDateTime updatedAt = LocalDateTime.of(2025, 5, 1, 10, 0);
+
+    @Test
+    void weakETagChangesWithAnyVersionPart() {
+        String etag = ETags.weak("voice", id, updatedAt);
+
+        assertThat(etag).startsWith("W/\"").endsWith("\"");
+        assertThat(ETags.weak("voice", id, updatedAt)).isEqualTo(etag);
+        assertThat(ETags.weak("voice", id, updatedAt.plusNanos(1000))).isNotEqualTo(etag);
+        assertThat(ETags.weak("voice", UUID.randomUUID(), updatedAt)).isNotEqualTo(etag);
+        assertThat(ETags.weak("voice", id, null)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void matchingIfNoneMatchSkipsTheBody() {
+        String etag = ETags.weak("voice", id, updatedAt);
+        AtomicInteger bodyLoads = new AtomicInteger();
+
+        ResponseEntity<String> first = ETags.conditional(request(null), etag, () -> "body" + bodyLoads.incrementAndGet());
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody()).isEqualTo("body1");
+        assertThat(first.getHeaders().getCacheControl()).contains("no-cache");
+
+        ResponseEntity<String> second = ETags.conditional(request(etag), etag, () -> "body" + bodyLoads.incrementAndGet());
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(bodyLoads).hasValue(1);
+    }
+
+    @Test
+    void staleIfNoneMatchReturnsTheNewBody() {
+        ResponseEntity<String> response = ETags.conditional(
+            request(ETags.weak("voice", id, updatedAt.minusMinutes(1))), ETags.weak("voice", id, updatedAt), () -> "new");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("new");
+    }
+
+    @Test
+    void missingBodyIsNotFound() {
+        ResponseEntity<String> response = ETags.conditional(request(null), ETags.weak("voice", null, null), () -> null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/video-analysis/voice-analysis/" + id);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.ddorang.presentation.controller;
+
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.common.service.AuthorizationService;
+import com.example.ddorang.presentation.dto.AnalysisResultVersions;
+import com.example.ddorang.presentation.dto.SttResultResponse;
+import com.example.ddorang.presentation.dto.VideoAnalysisJobStatus;
+import com.example.ddorang.presentation.service.AnalysisCancellationRegistry;
+import com.example.ddorang.presentation.service.FastApiService;
+import com.example.ddorang.presentation.service.PresentationService;
+import com.example.ddorang.presentation.service.ScriptReanalysisService;
+import com.example.ddorang.presentation.service.VideoAnalysisService;
+import com.example.ddorang.presentation.service.VideoAnalysisStageService;
+import com.example.ddorang.presentation.service.VideoAnalysisStatusCache;
+import com.example.ddorang.presentation.service.VoiceAnalysisService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class VideoAnalysisControllerConditionalTest {
+
+    private final VoiceAnalysisService voiceAnalysisService = mock(VoiceAnalysisService.class);
+    private final VideoAnalysisService videoAnalysisService = mock(VideoAnalysisService.class);
+    private final VideoAnalysisStatusCache videoAnalysisStatusCache = mock(VideoAnalysisStatusCache.class);
+    private final AuthorizationService authorizationService = mock(AuthorizationService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new VideoAnalysisController(
+            mock(FastApiService.class), voiceAnalysisService, authorizationService,
+            mock(PresentationService.class), mock(ScriptReanalysisService.class), videoAnalysisService,
+            mock(AnalysisCancellationRegistry.class), mock(VideoAnalysisStageService.class),
+            videoAnalysisStatusCache))
+        .build();
+
+    private final UUID presentationId = UUID.randomUUID();
+    private final UUID sttResultId = UUID.randomUUID();
+    private final LocalDateTime analyzedAt = LocalDateTime.of(2025, 5, 1, 10, 0);
+
+    @Test
+    void scriptEditTurnsNotModifiedIntoFreshBody() throws Exception {
+        String url = "/api/video-analysis/stt-result/" + presentationId;
+        when(voiceAnalysisService.getAnalysisResultVersions(presentationId)).thenReturn(versions(analyzedAt));
+        when(voiceAnalysisService.getSttResult(presentationId)).thenReturn(sttResult(false));
+
+        MvcResult first = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        assertThat(etag).startsWith("W/\"");
+
+        // 바뀐 것이 없으면 본문 없이 304
+        mockMvc.perform(get(url).header("If-None-Match", etag)).andExpect(status().isNotModified());
+        verify(voiceAnalysisService, times(1)).getSttResult(presentationId);
+
+        // 대본 수정 - 분석 결과 행은 그대로지만 발표 수정 시각이 바뀜
+        when(voiceAnalysisService.getAnalysisResultVersions(presentationId))
+            .thenReturn(versions(analyzedAt.plusHours(1)));
+        when(voiceAnalysisService.getSttResult(presentationId)).thenReturn(sttResult(true));
+
+        mockMvc.perform(get(url).header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.scriptOutdated").value(true));
+    }
+
+    @Test
+    void statusShowsPreliminaryFeedbackWrittenByAnotherNode() throws Exception {
+        String url = "/api/video-analysis/" + presentationId + "/status";
+        UUID jobId = UUID.randomUUID();
+        when(videoAnalysisStatusCache.getLatest(presentationId))
+            .thenReturn(new VideoAnalysisJobStatus(jobId, JobStatus.PROCESSING, analyzedAt, analyzedAt));
+        when(authorizationService.hasVideoAnalysisPermission(presentationId)).thenReturn(true);
+        when(videoAnalysisService.getPreliminaryFeedback(jobId)).thenReturn(null);
+
+        MvcResult first = mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.preliminaryFeedback").doesNotExist())
+            .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        // 워커가 전사를 받아 예비 피드백을 올리면 작업 상태가 그대로여도 새 본문
+        when(videoAnalysisService.getPreliminaryFeedback(jobId))
+            .thenReturn(Map.of("frequentWords", List.of("캐시"), "fillerCount", 2));
+
+        mockMvc.perform(get(url).header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.preliminaryFeedback.frequentWords[0]").value("캐시"))
+            .andExpect(jsonPath("$.preliminaryFeedback.fillerCount").value(2));
+    }
+
+    @Test
+    void statusHidesPreliminaryFeedbackFromOtherUsers() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(videoAnalysisStatusCache.getLatest(presentationId))
+            .thenReturn(new VideoAnalysisJobStatus(jobId, JobStatus.PROCESSING, analyzedAt, analyzedAt));
+        when(authorizationService.hasVideoAnalysisPermission(presentationId)).thenReturn(false);
+        when(videoAnalysisService.getPreliminaryFeedback(jobId))
+            .thenReturn(Map.of("frequentWords", List.of("캐시"), "fillerCount", 2));
+
+        // 상태는 그대로 보여주지만 전사 내용은 빼고 응답
+        mockMvc.perform(get("/api/video-analysis/" + presentationId + "/status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("processing"))
+            .andExpect(jsonPath("$.preliminaryFeedback").doesNotExist());
+        verify(videoAnalysisService, never()).getPreliminaryFeedback(jobId);
+    }
+
+    private AnalysisResultVersions versions(LocalDateTime presentationUpdatedAt) {
+        return new AnalysisResultVersions(presentationUpdatedAt, null, null, sttResultId, analyzedAt, null, null);
+    }
+
+    private SttResultResponse sttResult(boolean scriptOutdated) {
+        return SttResultResponse.builder()
+            .id(sttResultId)
+            .presentationId(presentationId)
+            .transcription("안녕하세요")
+            .scriptOutdated(scriptOutdated)
+            .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ddorang.presentation.controller;
+
+import com.example.ddorang.common.service.AuthorizationService;
+import com.example.ddorang.presentation.service.AnalysisCancellationRegistry;
+import com.example.ddorang.presentation.service.FastApiService;
+import com.example.ddorang.presentation.service.PresentationService;
+import com.example.ddorang.presentation.service.ScriptReanalysisService;
+import com.example.ddorang.presentation.service.VideoAnalysisService;
+import com.example.ddorang.presentation.service.VideoAnalysisStageService;
+import com.example.ddorang.presentation.service.VideoAnalysisStatusCache;
+import com.example.ddorang.presentation.service.VoiceAnalysisService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@SpringJUnitConfig
+class VideoAnalysisControllerSecurityTest {
+
+    @Configuration
+    @EnableMethodSecurity(prePostEnabled = true)
+    static class Config {
+
+        @Bean
+        VideoAnalysisController videoAnalysisController() {
+            return new VideoAnalysisController(mock(FastApiService.class), mock(VoiceAnalysisService.class),
+                mock(AuthorizationService.class), mock(PresentationService.class),
+                mock(ScriptReanalysisService.class), mock(VideoAnalysisService.class),
+                mock(AnalysisCancellationRegistry.class), mock(VideoAnalysisStageService.class),
+                mock(VideoAnalysisStatusCache.class));
+        }
+    }
+
+    @Autowired
+    private VideoAnalysisController controller;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void stageMetricsAreHiddenFromRegularUsers() {
+        assertThatThrownBy(() -> controller.getStageMetrics(24)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    void adminsCanReadStageMetrics() {
+        assertThat(controller.getStageMetrics(24).getStatusCode().is2xxSuccessful()).isTrue();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.entity.AnalysisResultArchive;
+import com.example.ddorang.presentation.repository.AnalysisResultArchiveRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalysisResultArchiveServiceTest {
+
+    private final AnalysisResultArchiveRepository repository = mock(AnalysisResultArchiveRepository.class);
+    private final AnalysisResultArchiveService service = new AnalysisResultArchiveService(repository);
+
+    @Test
+    void archivedBytesAreStoredAsIsAndLoadedBack() {
+        UUID jobId = UUID.randomUUID();
+        UUID presentationId = UUID.randomUUID();
+        byte[] bytes = {1, 2, 3, 4};
+
+        service.archive(jobId, presentationId, new AnalysisResultCodec.Encoded(bytes, 400));
+
+        ArgumentCaptor<AnalysisResultArchive> saved = ArgumentCaptor.forClass(AnalysisResultArchive.class);
+        verify(repository).save(saved.capture());
+        AnalysisResultArchive archive = saved.getValue();
+        assertThat(archive.getJobId()).isEqualTo(jobId);
+        assertThat(archive.getPresentationId()).isEqualTo(presentationId);
+        assertThat(archive.getRawSize()).isEqualTo(400);
+
+        when(repository.findById(jobId)).thenReturn(Optional.of(archive));
+        assertThat(service.loadEncoded(jobId)).contains(bytes);
+    }
+
+    @Test
+    void resultIsOnlyArchivedOncePerJob() {
+        UUID jobId = UUID.randomUUID();
+        when(repository.existsById(jobId)).thenReturn(true);
+
+        service.archive(jobId, UUID.randomUUID(), new AnalysisResultCodec.Encoded(new byte[]{1}, 1));
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void missingArchiveLoadsNothing() {
+        when(repository.findById(any())).thenReturn(Optional.empty());
+
+        assertThat(service.loadEncoded(UUID.randomUUID())).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisResultCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private AnalysisResultCache cache(long maxBytes) {
+        return new AnalysisResultCache(maxBytes, Duration.ofHours(24), Duration.ofHours(1),
+            nanos::get, Runnable::run, Scheduler.disabledScheduler());
+    }
+
+    @Test
+    void newResultsExpireAfterTtlAndRehydratedOnesSooner() {
+        AnalysisResultCache cache = cache(Long.MAX_VALUE);
+        UUID fresh = UUID.randomUUID();
+        UUID rehydrated = UUID.randomUUID();
+        cache.put(fresh, result(100));
+        cache.putRehydrated(rehydrated, result(100));
+
+        advance(Duration.ofMinutes(61));
+        assertThat(cache.get(fresh)).isNotNull();
+        assertThat(cache.get(rehydrated)).isNull();
+
+        // 조회해도 만료 시각은 늘어나지 않음
+        advance(Duration.ofHours(23));
+        assertThat(cache.get(fresh)).isNull();
+    }
+
+    @Test
+    void totalWeightStaysUnderTheByteBound() {
+        FastApiAnalysisResult result = result(50_000);
+        int weight = AnalysisResultCache.weigh(result);
+        AnalysisResultCache cache = cache(weight * 3L);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put(UUID.randomUUID(), result);
+        }
+        cache.cleanUp();
+
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+        assertThat(cache.weightedBytes()).isLessThanOrEqualTo(weight * 3L);
+        assertThat(cache.stats().evictionCount()).isGreaterThanOrEqualTo(7);
+    }
+
+    @Test
+    void weightGrowsWithTranscriptLength() {
+        assertThat(AnalysisResultCache.weigh(result(10_000)))
+            .isGreaterThan(20_000)
+            .isGreaterThan(AnalysisResultCache.weigh(result(100)));
+    }
+
+    @Test
+    void hitsAndMissesAreRecorded() {
+        AnalysisResultCache cache = cache(Long.MAX_VALUE);
+        UUID jobId = UUID.randomUUID();
+        cache.put(jobId, result(10));
+
+        cache.get(jobId);
+        cache.get(UUID.randomUUID());
+        cache.evict(jobId);
+        cache.get(jobId);
+
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static FastApiAnalysisResult result(int transcriptChars) {
+        return FastApiAnalysisResult.builder()
+            .intensityGrade("보통")
+            .transcription("가".repeat(transcriptChars))
+            .build();
+    }
+}
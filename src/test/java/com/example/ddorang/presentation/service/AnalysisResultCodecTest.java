@@ -0,0 +1,43 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisResultCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FastApiResultParser parser = new FastApiResultParser(objectMapper, 32 * 1024 * 1024);
+    private final AnalysisResultCodec codec = new AnalysisResultCodec(objectMapper, parser, 6);
+
+    @Test
+    void encodedResultIsCompressedAndDecodesToTheSameResult() throws Exception {
+        FastApiAnalysisResult result = parse("{"
+            + "\"intensity_grade\":\"보통\",\"intensity_db\":65.5,\"pitch_grade\":\"좋음\",\"wpm_avg\":120.0,"
+            + "\"anxiety_grade\":\"낮음\",\"anxiety_analysis\":{\"ratio\":0.2,\"segments\":[1,2,3]},"
+            + "\"transcription\":\"" + "안녕하세요 오늘은 캐시 구조를 설명하겠습니다. ".repeat(400) + "\","
+            + "\"duration_seconds\":300,"
+            + "\"feedback\":{\"frequent_words\":[\"캐시\",\"구조\"],\"new_section\":{\"score\":3}},"
+            + "\"predicted_questions\":[{\"question\":\"왜 캐시인가요?\"}],"
+            + "\"future_field\":{\"added\":true}}");
+
+        AnalysisResultCodec.Encoded encoded = codec.encode(result);
+
+        assertThat(encoded.rawSize()).isEqualTo(objectMapper.writeValueAsBytes(result).length);
+        assertThat(encoded.bytes().length).isLessThan(encoded.rawSize() / 10);
+
+        FastApiAnalysisResult decoded = codec.decode(encoded.bytes());
+        assertThat(decoded).isEqualTo(result);
+        assertThat(decoded.extras()).containsKey("future_field");
+        assertThat(decoded.feedback().extras()).containsKey("new_section");
+    }
+
+    private FastApiAnalysisResult parse(String json) throws Exception {
+        return parser.parseAnalysis(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
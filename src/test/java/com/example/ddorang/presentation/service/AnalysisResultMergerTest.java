@@ -0,0 +1,116 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.support.FastApiStubServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AnalysisResultMergerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AnalysisResultMerger merger = new AnalysisResultMerger(objectMapper);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void metricsAreDurationWeightedAndGradesFollowMergedValues() throws Exception {
+        FastApiAnalysisResult slow = segment(100f, 60f, "느림", "첫 구간", "[{\"word\":\"음\",\"count\":3}]");
+        FastApiAnalysisResult fast = segment(160f, 70f, "빠름", "둘째 구간",
+            "[{\"word\":\"그래서\",\"count\":2},{\"word\":\"음\",\"count\":4}]");
+
+        FastApiAnalysisResult merged = merger.merge(List.of(
+            new AnalysisResultMerger.SegmentResult(fast, 60, 120),
+            new AnalysisResultMerger.SegmentResult(slow, 0, 60)));
+
+        // (100 × 60 + 160 × 120) / 180 = 140
+        assertThat(merged.wpmAvg()).isCloseTo(140f, within(0.001f));
+        assertThat(merged.intensityDb()).isCloseTo(66.667f, within(0.001f));
+        assertThat(merged.wpmGrade()).isEqualTo("빠름");
+        assertThat(merged.durationSeconds()).isEqualTo(180);
+        assertThat(merged.transcription()).isEqualTo("첫 구간 둘째 구간");
+
+        JsonNode frequentWords = objectMapper.readTree(merged.feedback().frequentWordsJson());
+        assertThat(frequentWords.get(0).get("word").asText()).isEqualTo("음");
+        assertThat(frequentWords.get(0).get("count").asLong()).isEqualTo(7);
+        assertThat(frequentWords.get(1).get("count").asLong()).isEqualTo(2);
+
+        JsonNode segments = objectMapper.readTree(merged.extras().get("segments"));
+        assertThat(segments).hasSize(2);
+        assertThat(segments.get(1).get("offset_seconds").asDouble()).isEqualTo(60.0);
+        assertThat(segments.get(1).get("transcription").asText()).isEqualTo("둘째 구간");
+    }
+
+    @Test
+    void segmentsWithDifferentMetricsFromStubAreMergedByDuration() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder()
+                .transcriptSentences(20)
+                .metrics("segment_0", new FastApiStubServer.Metrics(100, "느림", 60, 140, 0.2))
+                .metrics("segment_1", new FastApiStubServer.Metrics(140, "보통", 70, 160, 0.6))
+                .metrics("segment_2", new FastApiStubServer.Metrics(180, "빠름", 64, 130, 0.4))
+                .start()) {
+            FastApiResultParser parser = new FastApiResultParser(objectMapper, 32 * 1024 * 1024);
+            FastApiEndpointPool pool = new FastApiEndpointPool(List.of(stub.baseUrl()), "/docs", 1000);
+            VideoChunkService chunkService =
+                new VideoChunkService(new RestTemplate(), objectMapper, new FastApiRequestCoalescer(), pool);
+
+            double[] durations = {100, 150, 50};
+            List<AnalysisResultMerger.SegmentResult> segments = new ArrayList<>();
+            double offset = 0;
+            for (int i = 0; i < durations.length; i++) {
+                FastApiAnalysisResult result = analyze(stub, chunkService, parser, "segment_" + i + ".mp4");
+                segments.add(new AnalysisResultMerger.SegmentResult(result, offset, durations[i]));
+                offset += durations[i];
+            }
+            assertThat(segments.get(2).result().wpmAvg()).isEqualTo(180f);
+
+            FastApiAnalysisResult merged = merger.merge(segments);
+
+            // (100 × 100 + 140 × 150 + 180 × 50) / 300 = 133.3 - 등급은 가장 가까운 구간(140)을 따름
+            assertThat(merged.wpmAvg()).isCloseTo(133.333f, within(0.001f));
+            assertThat(merged.wpmGrade()).isEqualTo("보통");
+            assertThat(merged.intensityDb()).isCloseTo(65.667f, within(0.001f));
+            assertThat(merged.pitchAvg()).isCloseTo(148.333f, within(0.001f));
+            assertThat(merged.anxietyRatio()).isCloseTo(0.4333f, within(0.001f));
+            assertThat(merged.durationSeconds()).isEqualTo(300);
+            assertThat(merged.transcription()).isEqualTo(String.join(" ",
+                segments.stream().map(s -> s.result().transcription().trim()).toList()));
+        }
+    }
+
+    private FastApiAnalysisResult analyze(FastApiStubServer stub, VideoChunkService chunkService,
+                                          FastApiResultParser parser, String filename) throws Exception {
+        Path video = tempDir.resolve(filename);
+        Files.write(video, new byte[16 * 1024]);
+        String jobId = chunkService.uploadVideoInChunks(video.toFile(), Map.of("target_time", "5:00"));
+
+        byte[] body = new RestTemplate().getForObject(stub.baseUrl() + "/result/" + jobId, byte[].class);
+        return parser.parseJobResult(new ByteArrayInputStream(body)).result();
+    }
+
+    private FastApiAnalysisResult segment(float wpm, float intensity, String wpmGrade, String transcription,
+                                          String frequentWordsJson) {
+        return FastApiAnalysisResult.builder()
+            .wpmAvg(wpm)
+            .wpmGrade(wpmGrade)
+            .intensityDb(intensity)
+            .transcription(transcription)
+            .feedback(FastApiAnalysisResult.Feedback.builder()
+                .frequentWordsJson(frequentWordsJson)
+                .build())
+            .build();
+    }
+}
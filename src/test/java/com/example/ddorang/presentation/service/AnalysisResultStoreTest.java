@@ -0,0 +1,125 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.presentation.dto.PersistedAnalysisResult;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalysisResultStoreTest {
+
+    private static final Duration REDIS_TTL = Duration.ofHours(24);
+    private static final Duration REHYDRATED_REDIS_TTL = Duration.ofHours(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AnalysisResultCodec codec =
+        new AnalysisResultCodec(objectMapper, new FastApiResultParser(objectMapper, 32 * 1024 * 1024), 6);
+    private final AnalysisResultCache nearCache =
+        new AnalysisResultCache(1 << 20, Duration.ofHours(1), Duration.ofMinutes(10));
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, byte[]> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, byte[]> valueOperations = mock(ValueOperations.class);
+    private final AnalysisResultArchiveService archiveService = mock(AnalysisResultArchiveService.class);
+    private final VideoAnalysisJobRepository jobRepository = mock(VideoAnalysisJobRepository.class);
+    private final AnalysisResultStore store = new AnalysisResultStore(
+        nearCache, redisTemplate, codec, archiveService, jobRepository, REDIS_TTL, REHYDRATED_REDIS_TTL);
+
+    private final FastApiAnalysisResult result = FastApiAnalysisResult.builder()
+        .intensityGrade("보통")
+        .transcription("안녕하세요 오늘은 공유 캐시를 설명하겠습니다")
+        .build();
+
+    AnalysisResultStoreTest() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void savedResultIsWrittenToRedisAndArchiveWithTheSameBytes() {
+        UUID jobId = UUID.randomUUID();
+        UUID presentationId = UUID.randomUUID();
+
+        store.save(jobId, presentationId, result);
+
+        byte[] expected = codec.encode(result).bytes();
+        verify(valueOperations).set(eq(AnalysisResultStore.KEY_PREFIX + jobId), eq(expected), eq(REDIS_TTL));
+        ArgumentCaptor<AnalysisResultCodec.Encoded> archived = ArgumentCaptor.forClass(AnalysisResultCodec.Encoded.class);
+        verify(archiveService).archive(eq(jobId), eq(presentationId), archived.capture());
+        assertThat(archived.getValue().bytes()).isEqualTo(expected);
+        assertThat(nearCache.get(jobId)).isEqualTo(result);
+    }
+
+    @Test
+    void resultCompletedOnAnotherNodeIsServedFromRedis() {
+        UUID jobId = UUID.randomUUID();
+        when(valueOperations.get(AnalysisResultStore.KEY_PREFIX + jobId)).thenReturn(codec.encode(result).bytes());
+
+        assertThat(store.find(jobId)).isEqualTo(result);
+        assertThat(nearCache.get(jobId)).isEqualTo(result);
+        verify(archiveService, never()).loadEncoded(any());
+    }
+
+    @Test
+    void archivedResultIsPutBackIntoRedisWithShorterTtl() {
+        UUID jobId = UUID.randomUUID();
+        byte[] archived = codec.encode(result).bytes();
+        when(archiveService.loadEncoded(jobId)).thenReturn(Optional.of(archived));
+
+        assertThat(store.find(jobId)).isEqualTo(result);
+        verify(valueOperations).set(AnalysisResultStore.KEY_PREFIX + jobId, archived, REHYDRATED_REDIS_TTL);
+    }
+
+    @Test
+    void redisOutageFallsBackToArchive() {
+        UUID jobId = UUID.randomUUID();
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        when(archiveService.loadEncoded(jobId)).thenReturn(Optional.of(codec.encode(result).bytes()));
+
+        assertThat(store.find(jobId)).isEqualTo(result);
+    }
+
+    @Test
+    void resultWithoutArchiveIsRebuiltFromPersistedTables() {
+        UUID jobId = UUID.randomUUID();
+        when(archiveService.loadEncoded(jobId)).thenReturn(Optional.empty());
+        when(jobRepository.findPersistedResult(jobId)).thenReturn(Optional.of(new PersistedAnalysisResult(
+            "보통", 65.5f, "적당한 크기", "좋음", 180f, null, "빠름", 150f, null, "낮음", 0.2f,
+            "안녕하세요", 0.9f, null, "안녕하세요.",
+            "[\"안녕하세요\"]", "[]", null, "[{\"question\":\"왜요?\"}]")));
+
+        FastApiAnalysisResult rebuilt = store.find(jobId);
+
+        assertThat(rebuilt.intensityDb()).isEqualTo(65.5f);
+        assertThat(rebuilt.correctedTranscription()).isEqualTo("안녕하세요.");
+        assertThat(rebuilt.feedback().frequentWordsJson()).isEqualTo("[\"안녕하세요\"]");
+        assertThat(rebuilt.predictedQuestionsJson()).isEqualTo("[{\"question\":\"왜요?\"}]");
+        assertThat(nearCache.get(jobId)).isEqualTo(rebuilt);
+        verify(valueOperations).set(AnalysisResultStore.KEY_PREFIX + jobId,
+            codec.encode(rebuilt).bytes(), REHYDRATED_REDIS_TTL);
+    }
+
+    @Test
+    void missingEverywhereReturnsNull() {
+        when(archiveService.loadEncoded(any())).thenReturn(Optional.empty());
+        when(jobRepository.findPersistedResult(any())).thenReturn(Optional.empty());
+
+        assertThat(store.find(UUID.randomUUID())).isNull();
+    }
+}
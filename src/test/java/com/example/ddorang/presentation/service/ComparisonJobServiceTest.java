@@ -0,0 +1,118 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.auth.repository.UserRepository;
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.common.repository.NotificationRepository;
+import com.example.ddorang.common.service.NotificationService;
+import com.example.ddorang.common.service.RealtimeMessageRelay;
+import com.example.ddorang.mail.service.EmailService;
+import com.example.ddorang.presentation.dto.ComparisonResponseDto;
+import com.example.ddorang.presentation.entity.PresentationComparisonJob;
+import com.example.ddorang.presentation.repository.PresentationComparisonJobRepository;
+import com.example.ddorang.team.repository.TeamMemberRepository;
+import com.example.ddorang.team.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ComparisonJobServiceTest {
+
+    private final PresentationComparisonJobRepository repository = mock(PresentationComparisonJobRepository.class);
+    private final ComparisonService comparisonService = mock(ComparisonService.class);
+    private final RealtimeMessageRelay relay = mock(RealtimeMessageRelay.class);
+    private final NotificationService notificationService = new NotificationService(mock(NotificationRepository.class),
+        mock(TeamMemberRepository.class), mock(TeamRepository.class), mock(UserRepository.class), relay,
+        mock(EmailService.class));
+    private final ComparisonJobService service =
+        new ComparisonJobService(repository, comparisonService, notificationService);
+
+    private final UUID userId = UUID.randomUUID();
+    private final PresentationComparisonJob job = PresentationComparisonJob.builder()
+        .id(UUID.randomUUID())
+        .userId(userId)
+        .presentationId1(UUID.randomUUID())
+        .presentationId2(UUID.randomUUID())
+        .build();
+
+    // 저장될 때마다 작업 행의 상태/진행률 기록 (같은 엔티티를 계속 고쳐 저장하므로 값으로 남김)
+    private final List<String> savedRows = new ArrayList<>();
+
+    ComparisonJobServiceTest() {
+        when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(repository.save(any(PresentationComparisonJob.class))).thenAnswer(inv -> {
+            PresentationComparisonJob saved = inv.getArgument(0);
+            savedRows.add(saved.getStatus() + ":" + saved.getProgress());
+            return saved;
+        });
+    }
+
+    @Test
+    void progressReachesJobRowAndRelay() {
+        UUID comparisonId = UUID.randomUUID();
+        when(comparisonService.comparePresentations(eq(userId), eq(job.getPresentationId1()),
+                eq(job.getPresentationId2()), any()))
+            .thenAnswer(inv -> {
+                ComparisonService.ComparisonProgressListener listener = inv.getArgument(3);
+                listener.onProgress(40, "분석 결과를 비교하고 있습니다...");
+                listener.onProgress(80, "비교 결과를 저장하고 있습니다...");
+                return ComparisonResponseDto.builder().id(comparisonId).build();
+            });
+
+        service.runJob(job.getId());
+
+        assertThat(savedRows).containsExactly("PROCESSING:0", "PROCESSING:40", "PROCESSING:80", "COMPLETED:100");
+        List<Map<String, Object>> updates = relayedUpdates();
+        assertThat(updates).extracting(update -> update.get("progress")).containsExactly(0, 40, 80, 100);
+        assertThat(updates.get(3))
+            .containsEntry("status", "completed")
+            .containsEntry("comparisonId", comparisonId.toString());
+    }
+
+    @Test
+    void failedComparisonMarksJobFailed() {
+        when(comparisonService.comparePresentations(any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("분석 결과가 없는 발표입니다"));
+
+        service.runJob(job.getId());
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("분석 결과가 없는 발표입니다");
+        assertThat(savedRows).last().isEqualTo("FAILED:0");
+        assertThat(relayedUpdates()).last().satisfies(update -> {
+            assertThat(update).containsEntry("status", "failed");
+            assertThat(update).containsEntry("errorMessage", "분석 결과가 없는 발표입니다");
+        });
+    }
+
+    @Test
+    void jobStatusIsOnlyVisibleToItsOwner() {
+        UUID otherUserId = UUID.randomUUID();
+        when(repository.findByIdAndUserId(job.getId(), userId)).thenReturn(Optional.of(job));
+        when(repository.findByIdAndUserId(job.getId(), otherUserId)).thenReturn(Optional.empty());
+
+        assertThat(service.getJobStatus(userId, job.getId())).containsEntry("jobId", job.getId().toString());
+        assertThat(service.getJobStatus(otherUserId, job.getId())).isNull();
+        verify(repository, never()).findById(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> relayedUpdates() {
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(relay, atLeastOnce()).sendToUser(eq(userId), eq("/queue/comparisons"), payloads.capture());
+        return payloads.getAllValues().stream().map(payload -> (Map<String, Object>) payload).toList();
+    }
+}
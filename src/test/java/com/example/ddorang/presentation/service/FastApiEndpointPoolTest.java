@@ -0,0 +1,101 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.support.FastApiStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastApiEndpointPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void routesToLeastOutstandingEndpoint() {
+        FastApiEndpointPool pool = new FastApiEndpointPool(
+            List.of("http://a:8000", "http://b:8000/", "http://c:8000"), "/docs", 100);
+
+        // b는 분석 작업 2개, a는 진행 중 요청 1개 → c가 가장 한가함
+        pool.bindJob("job-1", "http://b:8000");
+        pool.bindJob("job-2", "http://b:8000");
+        try (FastApiEndpointPool.Lease a = pool.acquire()) {
+            assertThat(a.baseUrl()).isEqualTo("http://a:8000");
+            try (FastApiEndpointPool.Lease c = pool.acquire()) {
+                assertThat(c.baseUrl()).isEqualTo("http://c:8000");
+            }
+        }
+
+        pool.unbindJob("job-1");
+        pool.unbindJob("job-1");
+        assertThat(pool.getStatus())
+            .extracting(FastApiEndpointPool.EndpointStatus::assignedJobs)
+            .containsExactly(0, 1, 0);
+        assertThat(pool.instanceFor("job-2")).isEqualTo("http://b:8000");
+        assertThat(pool.instanceFor("job-1")).isNull();
+    }
+
+    @Test
+    void failedEndpointIsSkippedUntilHealthCheckPasses() throws Exception {
+        try (FastApiStubServer healthy = FastApiStubServer.builder().start()) {
+            String down = "http://127.0.0.1:1";
+            FastApiEndpointPool pool = new FastApiEndpointPool(List.of(down, healthy.baseUrl()), "/docs", 500);
+
+            // 부하가 같으면 앞에서부터 고르므로 첫 요청은 down으로 감
+            assertThatThrownBy(() -> pool.execute(baseUrl ->
+                new RestTemplate().getForObject(baseUrl + "/docs", String.class)))
+                .isInstanceOf(ResourceAccessException.class);
+
+            for (int i = 0; i < 4; i++) {
+                try (FastApiEndpointPool.Lease lease = pool.acquire()) {
+                    assertThat(lease.baseUrl()).isEqualTo(healthy.baseUrl());
+                }
+            }
+
+            pool.checkHealth();
+            assertThat(pool.getStatus())
+                .extracting(FastApiEndpointPool.EndpointStatus::healthy)
+                .containsExactly(false, true);
+            assertThat(healthy.requestCount("/docs")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void uploadedJobsAreSpreadAndPinnedToTheirInstance() throws Exception {
+        try (FastApiStubServer first = FastApiStubServer.builder().start();
+             FastApiStubServer second = FastApiStubServer.builder().start()) {
+            FastApiEndpointPool pool = new FastApiEndpointPool(
+                List.of(first.baseUrl(), second.baseUrl()), "/docs", 500);
+            VideoChunkService chunkService = new VideoChunkService(
+                new RestTemplate(), new ObjectMapper(), new FastApiRequestCoalescer(), pool);
+
+            String jobA = chunkService.uploadVideoInChunks(video("a.mp4"), Map.of("target_time", "5:00"));
+            String jobB = chunkService.uploadVideoInChunks(video("b.mp4"), Map.of("target_time", "5:00"));
+
+            // 첫 작업이 아직 끝나지 않았으므로 두 번째 작업은 다른 인스턴스로 감
+            assertThat(pool.instanceFor(jobA)).isNotEqualTo(pool.instanceFor(jobB));
+            assertThat(first.requestCount("/analysis")).isEqualTo(1);
+            assertThat(second.requestCount("/analysis")).isEqualTo(1);
+
+            // 작업을 맡은 인스턴스에서만 결과를 찾을 수 있음
+            Map<?, ?> result = new RestTemplate().getForObject(pool.instanceFor(jobA) + "/result/" + jobA, Map.class);
+            assertThat(result.get("status")).isEqualTo("completed");
+        }
+    }
+
+    private File video(String name) throws Exception {
+        Path video = tempDir.resolve(name);
+        Files.write(video, new byte[32 * 1024]);
+        return video.toFile();
+    }
+}
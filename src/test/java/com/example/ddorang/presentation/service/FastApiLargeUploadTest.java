@@ -0,0 +1,110 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.support.FastApiStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대용량 영상 업로드가 메모리에 쌓이지 않고 FastAPI로 흘러가는지 확인
+ *
+ * 힙을 업로드 크기보다 훨씬 작게 잡아야 의미가 있으므로 기본 test 태스크에서는 제외하고
+ * ./gradlew largeUploadTest (힙 128MB)로 실행한다.
+ */
+@Tag("large-upload")
+class FastApiLargeUploadTest {
+
+    private static final long FILE_SIZE = 500L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void largeUploadIsStreamedWithBoundedHeap() throws Exception {
+        // 업로드 전체를 힙에 올리면 OOM이 나는 조건에서만 의미 있음
+        assertThat(Runtime.getRuntime().maxMemory()).isLessThan(FILE_SIZE / 2);
+
+        Path video = tempDir.resolve("large.mp4");
+        try (RandomAccessFile file = new RandomAccessFile(video.toFile(), "rw")) {
+            file.setLength(FILE_SIZE);
+        }
+
+        try (FastApiStubServer stub = FastApiStubServer.builder().start()) {
+            FastApiService fastApiService = new FastApiService(objectMapper,
+                new FastApiResultParser(objectMapper, 32 * 1024 * 1024), mock(ScriptOptimizationCache.class),
+                new FastApiRequestCoalescer(), new FastApiEndpointPool(List.of(stub.baseUrl()), "/docs", 1000),
+                new ScriptSimilarityService(true, 0.9, 128));
+
+            FastApiAnalysisResult syncResult = fastApiService.analyzeVideo(new PathMultipartFile(video), 5);
+            assertThat(syncResult.intensityText()).isEqualTo("stub");
+            assertThat(stub.receivedBytes()).isGreaterThan(FILE_SIZE);
+
+            FastApiAnalysisResult asyncResult = fastApiService.analyzeVideoAsync(new PathMultipartFile(video), 5)
+                .get(2, TimeUnit.MINUTES);
+            assertThat(asyncResult.intensityText()).isEqualTo("stub");
+            assertThat(stub.receivedBytes()).isGreaterThan(2 * FILE_SIZE);
+        }
+    }
+
+    // 디스크 파일을 그대로 읽는 MultipartFile (서블릿 컨테이너의 디스크 파트와 같은 방식)
+    private record PathMultipartFile(Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "videoFile";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return path.getFileName().toString();
+        }
+
+        @Override
+        public String getContentType() {
+            return "video/mp4";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return path.toFile().length();
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("업로드 전체를 메모리에 올리면 안 됨");
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.presentation.entity.Presentation;
+import com.example.ddorang.presentation.entity.VideoAnalysisJob;
+import com.example.ddorang.support.FastApiStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * FastApiStubServer를 상대로 한 FastAPI 연동 경로 테스트
+ * (청크 업로드 → 결과 폴링, 대본 비교의 동시 처리량/지연, 장애 시 대체 동작)
+ */
+class FastApiPipelineStubTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FastApiRequestCoalescer coalescer = new FastApiRequestCoalescer();
+    private final FastApiResultParser parser = new FastApiResultParser(objectMapper, 32 * 1024 * 1024);
+    private final AnalysisCancellationRegistry cancellationRegistry = new AnalysisCancellationRegistry();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void chunkUploadAndPollingCompleteJob() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder().transcriptSentences(200).start()) {
+            VideoAnalysisService videoAnalysisService = mock(VideoAnalysisService.class);
+            FastApiPollingService pollingService = pollingService(stub, videoAnalysisService);
+            VideoAnalysisJob job = job(createVideo(2 * 1024 * 1024));
+
+            pollingService.startVideoAnalysis(job).get(10, TimeUnit.SECONDS);
+
+            ArgumentCaptor<FastApiAnalysisResult> result = ArgumentCaptor.forClass(FastApiAnalysisResult.class);
+            verify(videoAnalysisService).completeJob(eq(job.getId()), result.capture());
+            verify(videoAnalysisService, never()).markJobAsFailed(any(), anyString());
+
+            assertThat(result.getValue().transcription()).isNotBlank();
+            assertThat(result.getValue().durationSeconds()).isEqualTo(600);
+            assertThat(stub.requestCount("/analysis")).isEqualTo(1);
+            assertThat(stub.requestCount("/result")).isEqualTo(1);
+            assertThat(stub.receivedBytes()).isGreaterThan(2 * 1024 * 1024);
+        }
+    }
+
+    @Test
+    void failedAnalysisMarksJobAsFailed() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder().jobFailureRate(1.0).start()) {
+            VideoAnalysisService videoAnalysisService = mock(VideoAnalysisService.class);
+            FastApiPollingService pollingService = pollingService(stub, videoAnalysisService);
+            VideoAnalysisJob job = job(createVideo(64 * 1024));
+
+            pollingService.startVideoAnalysis(job).get(10, TimeUnit.SECONDS);
+
+            verify(videoAnalysisService).markJobAsFailed(eq(job.getId()), anyString());
+            verify(videoAnalysisService, never()).completeJob(any(), any());
+        }
+    }
+
+    @Test
+    void cancellationStopsPollingAndCancelsUpstream() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder().processingTime(Duration.ofMinutes(5)).start()) {
+            VideoAnalysisService videoAnalysisService = mock(VideoAnalysisService.class);
+            FastApiPollingService pollingService = pollingService(stub, videoAnalysisService);
+            VideoAnalysisJob job = job(createVideo(64 * 1024));
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> analysis = executor.submit(() -> pollingService.startVideoAnalysis(job).join());
+                waitUntil(() -> stub.requestCount("/result") >= 1);
+
+                long cancelledAt = System.nanoTime();
+                assertThat(cancellationRegistry.cancel(job.getId())).isTrue();
+
+                // 5초 폴링 대기 중이어도 바로 끝나야 함
+                analysis.get(2, TimeUnit.SECONDS);
+                assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cancelledAt)).isLessThan(2000);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            waitUntil(() -> stub.requestCount("/cancel") == 1);
+            assertThat(stub.requestCount("/result")).isEqualTo(1);
+            assertThat(cancellationRegistry.isRunning(job.getId())).isFalse();
+            verify(videoAnalysisService, never()).completeJob(any(), any());
+            verify(videoAnalysisService, never()).markJobAsFailed(any(), anyString());
+        }
+    }
+
+    @Test
+    void shutdownHandsOffPollingAndAnotherNodeResumesWithoutReupload() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder().processingTime(Duration.ofSeconds(3)).start()) {
+            VideoAnalysisService nodeAService = mock(VideoAnalysisService.class);
+            VideoAnalysisLeaseService nodeALease = mock(VideoAnalysisLeaseService.class);
+            FastApiPollingService nodeA = pollingService(stub, nodeAService, nodeALease);
+            VideoAnalysisJob job = job(createVideo(64 * 1024));
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> analysis = executor.submit(() -> nodeA.startVideoAnalysis(job).join());
+                waitUntil(() -> stub.requestCount("/result") >= 1);
+
+                nodeA.requestHandoff();
+                // 5초 폴링 대기 중이어도 바로 멈춤
+                analysis.get(2, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            ArgumentCaptor<String> fastApiJobId = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> instance = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<LocalDateTime> nextPollAt = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(nodeAService).assignFastApiJob(eq(job.getId()), fastApiJobId.capture(), instance.capture());
+            verify(nodeALease).handOffPolling(eq(job.getId()), nextPollAt.capture());
+            verify(nodeALease, never()).requeue(any());
+            verify(nodeAService, never()).completeJob(any(), any());
+            verify(nodeAService, never()).markJobAsFailed(any(), anyString());
+            assertThat(nodeA.getRunningCount()).isZero();
+
+            // 다른 노드가 DB에 남은 상태로 이어서 폴링
+            job.setStatus(JobStatus.PROCESSING);
+            job.setFastApiJobId(fastApiJobId.getValue());
+            job.setFastApiInstance(instance.getValue());
+            job.setNextPollAt(nextPollAt.getValue());
+            VideoAnalysisService nodeBService = mock(VideoAnalysisService.class);
+            pollingService(stub, nodeBService).startVideoAnalysis(job).get(15, TimeUnit.SECONDS);
+
+            verify(nodeBService).completeJob(eq(job.getId()), any());
+            assertThat(stub.requestCount("/analysis")).isEqualTo(1);
+            assertThat(stub.requestCount("/cancel")).isZero();
+        }
+    }
+
+    @Test
+    void uploadStillRunningAtShutdownIsRequeuedOnce() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder().responseDelay(Duration.ofSeconds(1)).start()) {
+            VideoAnalysisService videoAnalysisService = mock(VideoAnalysisService.class);
+            VideoAnalysisLeaseService leaseService = mock(VideoAnalysisLeaseService.class);
+            FastApiPollingService pollingService = pollingService(stub, videoAnalysisService, leaseService);
+            VideoAnalysisJob job = job(createVideo(64 * 1024));
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> analysis = executor.submit(() -> pollingService.startVideoAnalysis(job).join());
+                waitUntil(() -> pollingService.getUploadingCount() == 1);
+
+                // 업로드 대기 시간이 지난 상황 - 교대 신호 후 멈추지 않은 작업을 대신 넘김
+                pollingService.requestHandoff();
+                assertThat(pollingService.handOffRemaining()).isEqualTo(1);
+
+                // 업로드가 뒤늦게 끝나도 FastAPI 작업을 기록하거나 폴링하지 않음
+                analysis.get(5, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            verify(leaseService, times(1)).requeue(job.getId());
+            verify(leaseService, never()).handOffPolling(any(), any());
+            verify(videoAnalysisService, never()).assignFastApiJob(any(), anyString(), anyString());
+            assertThat(stub.requestCount("/result")).isZero();
+        }
+    }
+
+    @Test
+    void concurrentComparisonsRunInParallel() throws Exception {
+        int requests = 32;
+        Duration processingTime = Duration.ofMillis(100);
+
+        try (FastApiStubServer stub = FastApiStubServer.builder().processingTime(processingTime).start()) {
+            FastApiService fastApiService = fastApiService(stub);
+            ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+            long started = System.nanoTime();
+            try {
+                List<Future<Map<String, Object>>> results = new ArrayList<>();
+                for (int i = 0; i < requests; i++) {
+                    String script = "대본 " + i;
+                    results.add(executor.submit(() -> fastApiService.compareOptimizedScripts(script, script + " 수정")));
+                }
+                for (Future<Map<String, Object>> result : results) {
+                    assertThat(result.get(10, TimeUnit.SECONDS)).doesNotContainKey(FastApiService.MOCK_RESULT_KEY);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            // 서로 다른 대본이므로 병합 없이 모두 FastAPI로 전달되고, 순차 처리보다 빨라야 함
+            assertThat(stub.requestCount("/compare")).isEqualTo(requests);
+            assertThat(elapsedMillis).isLessThan(processingTime.toMillis() * requests);
+        }
+    }
+
+    @Test
+    void comparisonFallsBackToMockWhenFastApiFails() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder().errorRate(1.0).start()) {
+            Map<String, Object> result = fastApiService(stub).compareOptimizedScripts("대본 A", "대본 B");
+
+            assertThat(result).containsKey(FastApiService.MOCK_RESULT_KEY);
+            assertThat(stub.requestCount("/compare")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void nearDuplicateComparisonSkipsFastApi() throws Exception {
+        String script = "안녕하세요. 오늘은 캐시 구조를 설명하겠습니다. 로컬 캐시와 분산 캐시의 차이를 살펴보고, "
+            + "만료 정책과 무효화 전략을 다룬 뒤 장애 사례로 마무리하겠습니다.";
+
+        try (FastApiStubServer stub = FastApiStubServer.builder().start()) {
+            Map<String, Object> result = fastApiService(stub)
+                .compareOptimizedScripts(script, script.replace("장애 사례로", "실제 장애 사례로"));
+
+            assertThat(result).doesNotContainKey(FastApiService.MOCK_RESULT_KEY);
+            assertThat(result.get("improvement_suggestions").toString()).contains("'실제'");
+            assertThat(stub.requestCount("/compare")).isZero();
+        }
+    }
+
+    @Test
+    void asyncAnalysisDoesNotBlockCallerAndSharesUpload() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder().responseDelay(Duration.ofMillis(500)).start()) {
+            FastApiService fastApiService = fastApiService(stub);
+            MockMultipartFile video = new MockMultipartFile("videoFile", "sync.mp4", "video/mp4", new byte[64 * 1024]);
+
+            long started = System.nanoTime();
+            CompletableFuture<FastApiAnalysisResult> first = fastApiService.analyzeVideoAsync(video, 5);
+            CompletableFuture<FastApiAnalysisResult> second = fastApiService.analyzeVideoAsync(video, 5);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            // 응답 지연 동안 호출 스레드는 바로 반환되어야 함
+            assertThat(elapsedMillis).isLessThan(500);
+            assertThat(first).isNotDone();
+
+            FastApiAnalysisResult result = first.get(5, TimeUnit.SECONDS);
+            assertThat(result.intensityText()).isEqualTo("stub");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(result);
+            assertThat(stub.requestCount("/analysis")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void asyncAnalysisFailsInsteadOfReturningMockWhenFastApiFails() throws Exception {
+        try (FastApiStubServer stub = FastApiStubServer.builder().errorRate(1.0).start()) {
+            MockMultipartFile video = new MockMultipartFile("videoFile", "fail.mp4", "video/mp4", new byte[1024]);
+
+            // 목 결과로 완료되면 작업이 COMPLETED로 저장되고 완료 알림이 나가므로 실패로 끝나야 함
+            assertThatThrownBy(() -> fastApiService(stub).analyzeVideoAsync(video, 5).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class);
+        }
+    }
+
+    @Test
+    void failedSegmentCancelsRemainingSegmentsWithoutWaitingForEarlierOnes() {
+        UUID jobId = UUID.randomUUID();
+        // 앞 구간은 취소될 때까지 끝나지 않음
+        CompletableFuture<String> earlier = new CompletableFuture<>();
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        IllegalStateException failure = new IllegalStateException("구간 분석 실패: segment-001.mp4 (error)");
+        failed.completeExceptionally(failure);
+
+        assertThatThrownBy(() -> FastApiPollingService.joinFailFast(List.of(earlier, failed),
+                () -> earlier.completeExceptionally(new AnalysisCancellationRegistry.AnalysisCancelledException(jobId))))
+            .isInstanceOf(CompletionException.class)
+            .hasCause(failure);
+    }
+
+    @Test
+    void segmentsJoinInOrderWhenAllSucceed() {
+        List<String> results = FastApiPollingService.joinFailFast(
+            List.of(CompletableFuture.completedFuture("a"), CompletableFuture.completedFuture("b")),
+            () -> { throw new AssertionError("실패한 구간 없음"); });
+
+        assertThat(results).containsExactly("a", "b");
+    }
+
+    private FastApiPollingService pollingService(FastApiStubServer stub, VideoAnalysisService videoAnalysisService) {
+        return pollingService(stub, videoAnalysisService, mock(VideoAnalysisLeaseService.class));
+    }
+
+    private FastApiPollingService pollingService(FastApiStubServer stub, VideoAnalysisService videoAnalysisService,
+                                                 VideoAnalysisLeaseService leaseService) {
+        RestTemplate restTemplate = new RestTemplate();
+        FastApiEndpointPool pool = pool(stub);
+        VideoChunkService chunkService = new VideoChunkService(restTemplate, objectMapper, coalescer, pool);
+        return new FastApiPollingService(videoAnalysisService, chunkService, restTemplate, parser, pool,
+            new VideoSegmentSplitter(), new AnalysisResultMerger(objectMapper), cancellationRegistry, leaseService,
+            mock(VideoAnalysisStageService.class));
+    }
+
+    private FastApiService fastApiService(FastApiStubServer stub) {
+        return new FastApiService(objectMapper, parser, mock(ScriptOptimizationCache.class), coalescer, pool(stub),
+            new ScriptSimilarityService(true, 0.9, 128));
+    }
+
+    private FastApiEndpointPool pool(FastApiStubServer stub) {
+        return new FastApiEndpointPool(List.of(stub.baseUrl()), "/docs", 1000);
+    }
+
+    private void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건이 5초 안에 충족되지 않았습니다");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private Path createVideo(int size) throws IOException {
+        Path video = tempDir.resolve("stub_" + UUID.randomUUID() + ".mp4");
+        Files.write(video, new byte[size]);
+        return video;
+    }
+
+    private VideoAnalysisJob job(Path video) {
+        Presentation presentation = Presentation.builder()
+            .id(UUID.randomUUID())
+            .title("스텁 발표")
+            .goalTime(5)
+            .build();
+
+        return VideoAnalysisJob.builder()
+            .id(UUID.randomUUID())
+            .presentation(presentation)
+            .videoPath(video.toAbsolutePath().toString())
+            .build();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.ddorang.presentation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastApiRequestCoalescerTest {
+
+    private static final int CALLERS = 16;
+
+    private final FastApiRequestCoalescer coalescer = new FastApiRequestCoalescer();
+
+    @Test
+    void concurrentCallsWithSameKeyShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            List<Future<Map<String, Object>>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> coalescer.execute("compare", "same-key", () -> {
+                    upstreamCalls.incrementAndGet();
+                    // 나머지 호출자가 모두 합류할 때까지 응답을 붙잡아 둠
+                    release.await(5, TimeUnit.SECONDS);
+                    return Map.<String, Object>of("overall_feedback", "ok");
+                })));
+            }
+
+            waitUntil(() -> coalescer.getStats().get("compare") != null
+                && coalescer.getStats().get("compare").hits() == CALLERS - 1);
+            release.countDown();
+
+            Map<String, Object> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Map<String, Object>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(coalescer.getStats().get("compare"))
+            .isEqualTo(new FastApiRequestCoalescer.Stats(CALLERS - 1, 1));
+        assertThat(coalescer.getInflightCount()).isZero();
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch allStarted = new CountDownLatch(CALLERS);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                String key = "key-" + i;
+                results.add(executor.submit(() -> coalescer.execute("optimize-script", key, () -> {
+                    upstreamCalls.incrementAndGet();
+                    allStarted.countDown();
+                    // 모든 키가 동시에 진행 중이어야 함
+                    allStarted.await(5, TimeUnit.SECONDS);
+                    return key;
+                })));
+            }
+
+            for (int i = 0; i < CALLERS; i++) {
+                assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("key-" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(upstreamCalls.get()).isEqualTo(CALLERS);
+        assertThat(coalescer.getStats().get("optimize-script"))
+            .isEqualTo(new FastApiRequestCoalescer.Stats(0, CALLERS));
+    }
+
+    @Test
+    void failureIsSharedAndKeyIsReleased() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.execute("analysis", "k", () -> {
+                release.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("FastAPI 오류");
+            }));
+            waitUntil(() -> coalescer.getInflightCount() == 1);
+
+            Future<Object> follower = executor.submit(() -> coalescer.execute("analysis", "k", () -> "호출되면 안 됨"));
+            waitUntil(() -> coalescer.getStats().get("analysis").hits() == 1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("FastAPI 오류");
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("FastAPI 오류");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 실패한 호출은 남지 않으므로 다음 호출은 새로 실행됨
+        assertThat(coalescer.<String>execute("analysis", "k", () -> "retry")).isEqualTo("retry");
+        assertThat(coalescer.getStats().get("analysis"))
+            .isEqualTo(new FastApiRequestCoalescer.Stats(1, 2));
+    }
+
+    @Test
+    void asyncCallsShareInflightCallWithSyncCallers() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            CompletableFuture<String> leader = coalescer.executeAsync("analysis", "video", () -> {
+                upstreamCalls.incrementAndGet();
+                return upstream;
+            });
+            CompletableFuture<String> follower = coalescer.executeAsync("analysis", "video", () -> {
+                upstreamCalls.incrementAndGet();
+                return CompletableFuture.completedFuture("호출되면 안 됨");
+            });
+            Future<String> syncFollower = executor.submit(() -> coalescer.execute("analysis", "video", () -> "호출되면 안 됨"));
+            waitUntil(() -> coalescer.getStats().get("analysis").hits() == 2);
+
+            // 호출자는 응답을 기다리지 않고 바로 future를 받음
+            assertThat(leader).isNotDone();
+            upstream.complete("result");
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(syncFollower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(coalescer.getInflightCount()).isZero();
+    }
+
+    @Test
+    void asyncFailureIsUnwrappedAndKeyIsReleased() {
+        CompletableFuture<String> failed = coalescer.executeAsync("analysis", "k",
+            () -> CompletableFuture.failedFuture(new IllegalStateException("FastAPI 오류")));
+
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("FastAPI 오류");
+        assertThat(coalescer.getInflightCount()).isZero();
+    }
+
+    @Test
+    void fingerprintDependsOnOrderAndValues() {
+        assertThat(FastApiRequestCoalescer.fingerprint("a", "b"))
+            .isEqualTo(FastApiRequestCoalescer.fingerprint("a", "b"))
+            .isNotEqualTo(FastApiRequestCoalescer.fingerprint("b", "a"))
+            .isNotEqualTo(FastApiRequestCoalescer.fingerprint("ab", ""));
+    }
+
+    private void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건이 5초 안에 충족되지 않았습니다");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.service.NotificationService;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PreliminaryFeedbackStoreTest {
+
+    private final Map<String, String> redis = new HashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID jobId = UUID.randomUUID();
+
+    @SuppressWarnings("unchecked")
+    private PreliminaryFeedbackStore nodeStore() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+            .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.delete(anyString())).thenAnswer(inv -> redis.remove(inv.<String>getArgument(0)) != null);
+        return new PreliminaryFeedbackStore(redisTemplate, objectMapper, Duration.ofMinutes(30));
+    }
+
+    private VideoAnalysisService workerService(PreliminaryFeedbackStore store) {
+        return new VideoAnalysisService(mock(VideoAnalysisJobRepository.class), mock(NotificationService.class),
+            mock(VoiceAnalysisService.class), new TranscriptTextAnalyzer(objectMapper, List.of("음", "어"), 3),
+            mock(VideoAnalysisStageService.class), event -> { }, mock(VideoAnalysisLeaseService.class),
+            mock(AnalysisResultStore.class), store);
+    }
+
+    @Test
+    void feedbackWrittenOnWorkerIsVisibleOnApiNode() {
+        VideoAnalysisService worker = workerService(nodeStore());
+        PreliminaryFeedbackStore apiNode = nodeStore();
+
+        worker.updatePreliminaryFeedback(jobId, "음 캐시는 빠릅니다 어 캐시는 작습니다");
+
+        Map<String, Object> feedback = apiNode.find(jobId);
+        assertThat(feedback).isNotNull();
+        assertThat((List<?>) feedback.get("frequentWords")).first().isEqualTo("캐시");
+        assertThat(feedback.get("fillerCount")).isEqualTo(2);
+    }
+
+    @Test
+    void failedJobClearsFeedbackForEveryNode() {
+        VideoAnalysisService worker = workerService(nodeStore());
+        PreliminaryFeedbackStore apiNode = nodeStore();
+        worker.updatePreliminaryFeedback(jobId, "음 캐시는 빠릅니다");
+
+        worker.markJobAsFailed(jobId, "FastAPI 분석 오류");
+
+        assertThat(apiNode.find(jobId)).isNull();
+    }
+}
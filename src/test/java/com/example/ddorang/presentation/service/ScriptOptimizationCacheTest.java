@@ -0,0 +1,163 @@
+package com.example.ddorang.presentation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScriptOptimizationCacheTest {
+
+    private final Map<String, String> redis = new HashMap<>();
+    private final AtomicLong millis = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ScriptOptimizationCache cache(int maxEntries) {
+        return cache(sharedRedis(), maxEntries);
+    }
+
+    private ScriptOptimizationCache cache(RedisTemplate<String, String> redisTemplate, int maxEntries) {
+        ScriptOptimizationCache cache =
+            new ScriptOptimizationCache(redisTemplate, new ObjectMapper(), new FastApiRequestCoalescer());
+        ReflectionTestUtils.setField(cache, "modelVersion", "v1");
+        ReflectionTestUtils.setField(cache, "localMaxEntries", maxEntries);
+        ReflectionTestUtils.setField(cache, "ttlHours", 24L);
+        ReflectionTestUtils.setField(cache, "clock", (LongSupplier) millis::get);
+        return cache;
+    }
+
+    @Test
+    void whitespaceVariantsShareOneEntry() throws Exception {
+        ScriptOptimizationCache cache = cache(10);
+
+        cache.get("안녕하세요.\n\n  오늘은   캐시를 설명합니다. ", 300, 240, loader("최적화"));
+        Map<String, Object> second = cache.get("안녕하세요. 오늘은 캐시를 설명합니다.", 300, 240, loader("다시 호출"));
+
+        assertThat(second).containsEntry("optimized_script", "최적화");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void goalAndDurationAreSeparateEntries() throws Exception {
+        ScriptOptimizationCache cache = cache(10);
+        String script = "안녕하세요. 오늘은 캐시를 설명합니다.";
+
+        assertThat(cache.cacheKey(script, 300, 240))
+            .isNotEqualTo(cache.cacheKey(script, 360, 240))
+            .isNotEqualTo(cache.cacheKey(script, 300, 200))
+            .isNotEqualTo(cache.cacheKey(script, 300, null));
+
+        cache.get(script, 300, 240, loader("5분"));
+        cache.get(script, 360, 240, loader("6분"));
+        cache.get(script, 300, null, loader("길이 모름"));
+
+        assertThat(loads).hasValue(3);
+        assertThat(cache.get(script, 360, 240, loader("다시 호출"))).containsEntry("optimized_script", "6분");
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtTheBound() throws Exception {
+        ScriptOptimizationCache cache = cache(redisDown(), 2);
+
+        cache.get("첫 번째 대본", 300, null, loader("1"));
+        cache.get("두 번째 대본", 300, null, loader("2"));
+        // 첫 번째를 다시 써서 두 번째가 가장 오래 안 쓴 항목이 됨
+        cache.get("첫 번째 대본", 300, null, loader("다시 호출"));
+        cache.get("세 번째 대본", 300, null, loader("3"));
+        assertThat(loads).hasValue(3);
+
+        cache.get("첫 번째 대본", 300, null, loader("다시 호출"));
+        assertThat(loads).hasValue(3);
+        cache.get("두 번째 대본", 300, null, loader("2"));
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void localEntriesExpireAfterTtl() throws Exception {
+        ScriptOptimizationCache cache = cache(redisDown(), 10);
+        cache.get("대본", 300, null, loader("처음"));
+
+        millis.addAndGet(Duration.ofHours(23).toMillis());
+        cache.get("대본", 300, null, loader("다시 호출"));
+        assertThat(loads).hasValue(1);
+
+        millis.addAndGet(Duration.ofHours(2).toMillis());
+        assertThat(cache.get("대본", 300, null, loader("만료 후"))).containsEntry("optimized_script", "만료 후");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void resultIsSharedWithOtherInstancesThroughRedis() throws Exception {
+        cache(10).get("대본", 300, null, loader("인스턴스 1"));
+
+        Map<String, Object> other = cache(10).get("대본", 300, null, loader("다시 호출"));
+
+        assertThat(other).containsEntry("optimized_script", "인스턴스 1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void redisOutageFallsBackToLocalCache() throws Exception {
+        ScriptOptimizationCache cache = cache(redisDown(), 10);
+
+        assertThat(cache.get("대본", 300, null, loader("최적화"))).containsEntry("optimized_script", "최적화");
+        assertThat(cache.get("대본", 300, null, loader("다시 호출"))).containsEntry("optimized_script", "최적화");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void failedLoadIsNotCached() throws Exception {
+        ScriptOptimizationCache cache = cache(10);
+
+        assertThatThrownBy(() -> cache.get("대본", 300, null, () -> {
+            throw new IllegalStateException("FastAPI 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(redis).isEmpty();
+        assertThat(cache.get("대본", 300, null, loader("재시도"))).containsEntry("optimized_script", "재시도");
+    }
+
+    private Callable<Map<String, Object>> loader(String optimized) {
+        return () -> {
+            loads.incrementAndGet();
+            return Map.of("optimized_script", optimized);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> sharedRedis() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+            .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        return redisTemplate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> redisDown() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        return redisTemplate;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.util.ScriptTexts;
+import com.example.ddorang.presentation.entity.Presentation;
+import com.example.ddorang.presentation.entity.PresentationFeedback;
+import com.example.ddorang.presentation.entity.SttResult;
+import com.example.ddorang.presentation.entity.VoiceAnalysis;
+import com.example.ddorang.presentation.repository.PresentationFeedbackRepository;
+import com.example.ddorang.presentation.repository.PresentationRepository;
+import com.example.ddorang.presentation.repository.SttResultRepository;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import com.example.ddorang.presentation.repository.VoiceAnalysisRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScriptReanalysisServiceTest {
+
+    private static final String TRANSCRIPT = "안녕하세요 오늘은 캐시 구조를 설명하겠습니다 감사합니다";
+
+    private final PresentationRepository presentationRepository = mock(PresentationRepository.class);
+    private final SttResultRepository sttResultRepository = mock(SttResultRepository.class);
+    private final VoiceAnalysisRepository voiceAnalysisRepository = mock(VoiceAnalysisRepository.class);
+    private final VideoAnalysisJobRepository videoAnalysisJobRepository = mock(VideoAnalysisJobRepository.class);
+    private final PresentationFeedbackRepository feedbackRepository = mock(PresentationFeedbackRepository.class);
+    private final FastApiService fastApiService = mock(FastApiService.class);
+
+    private final ScriptReanalysisService service = new ScriptReanalysisService(
+        presentationRepository, sttResultRepository, voiceAnalysisRepository, videoAnalysisJobRepository,
+        feedbackRepository, new TranscriptTextAnalyzer(new ObjectMapper(), List.of("음"), 5), fastApiService);
+
+    private Presentation presentation;
+    private SttResult sttResult;
+    private PresentationFeedback feedback;
+
+    @BeforeEach
+    void setUp() {
+        presentation = Presentation.builder()
+            .id(UUID.randomUUID())
+            .title("발표")
+            .script("안녕하세요. 오늘은 캐시 구조를 설명하겠습니다.")
+            .goalTime(5)
+            .build();
+        sttResult = SttResult.builder()
+            .id(UUID.randomUUID())
+            .presentation(presentation)
+            .transcription(TRANSCRIPT)
+            .adjustedScript("이전 최적화 대본")
+            .scriptAdherenceScore(ScriptTexts.adherence(presentation.getScript(), TRANSCRIPT))
+            .sourceScriptHash(ScriptTexts.hash(presentation.getScript()))
+            .build();
+        feedback = PresentationFeedback.builder().presentation(presentation).missedSentences("[]").build();
+
+        when(presentationRepository.findById(presentation.getId())).thenReturn(Optional.of(presentation));
+        when(sttResultRepository.findByPresentationId(presentation.getId())).thenReturn(Optional.of(sttResult));
+        when(sttResultRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(videoAnalysisJobRepository.findActiveJobByPresentationId(any())).thenReturn(Optional.empty());
+        when(feedbackRepository.findByPresentationId(presentation.getId())).thenReturn(Optional.of(feedback));
+        when(voiceAnalysisRepository.findByPresentationId(presentation.getId()))
+            .thenReturn(Optional.of(VoiceAnalysis.builder().wpmAvg(120f).build()));
+    }
+
+    @Test
+    void unchangedScriptReusesStoredResult() {
+        ScriptReanalysisService.Result result = service.reanalyze(presentation.getId());
+
+        assertThat(result.reused()).isTrue();
+        assertThat(result.sttResult().isScriptOutdated()).isFalse();
+        verify(fastApiService, never()).optimizeScript(anyString(), any(), any());
+    }
+
+    @Test
+    void editedScriptRecomputesOnlyScriptDependentParts() {
+        presentation.setScript("안녕하세요. 오늘은 캐시 구조를 설명하겠습니다.\n마지막으로 질문을 받겠습니다.");
+        when(fastApiService.optimizeScript(eq(presentation.getScript()), eq(300), anyInt()))
+            .thenReturn(Map.of("optimized_script", "새 최적화 대본"));
+
+        ScriptReanalysisService.Result result = service.reanalyze(presentation.getId());
+
+        assertThat(result.reused()).isFalse();
+        assertThat(result.sttResult().getAdjustedScript()).isEqualTo("새 최적화 대본");
+        assertThat(result.sttResult().getTranscription()).isEqualTo(TRANSCRIPT);
+        assertThat(result.sttResult().isScriptOutdated()).isFalse();
+        assertThat(result.sttResult().getScriptAdherenceScore()).isCloseTo(5 / 8f, within(0.001f));
+        assertThat(result.missedSentences()).containsExactly("마지막으로 질문을 받겠습니다.");
+        // 피드백 조회에도 새 대본 기준으로 보이도록 저장
+        assertThat(feedback.getMissedSentences()).isEqualTo("[\"마지막으로 질문을 받겠습니다.\"]");
+        verify(feedbackRepository).save(feedback);
+    }
+
+    @Test
+    void mockOptimizationKeepsPreviousScriptAndStaysOutdated() {
+        presentation.setScript("완전히 새로운 대본입니다.");
+        when(fastApiService.optimizeScript(anyString(), any(), any()))
+            .thenReturn(Map.of("optimized_script", "[목 데이터]", FastApiService.MOCK_RESULT_KEY, true));
+
+        ScriptReanalysisService.Result result = service.reanalyze(presentation.getId());
+
+        assertThat(result.sttResult().getAdjustedScript()).isEqualTo("이전 최적화 대본");
+        assertThat(result.sttResult().isScriptOutdated()).isTrue();
+        assertThat(result.sttResult().getScriptAdherenceScore()).isEqualTo(0f);
+    }
+
+    @Test
+    void whitespaceOnlyEditsKeepTheSameHash() {
+        assertThat(ScriptTexts.hash("첫 문장.\n\n둘째   문장."))
+            .isEqualTo(ScriptTexts.hash("첫 문장. 둘째 문장."));
+    }
+}
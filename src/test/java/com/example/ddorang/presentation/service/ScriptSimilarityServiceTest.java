@@ -0,0 +1,91 @@
+package com.example.ddorang.presentation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ScriptSimilarityServiceTest {
+
+    private static final String SCRIPT = "안녕하세요 오늘은 대규모 트래픽을 처리하는 캐시 구조에 대해 설명하겠습니다. "
+        + "먼저 로컬 캐시와 분산 캐시의 차이를 살펴보고, 이어서 만료 정책과 무효화 전략을 다룬 뒤 "
+        + "실제 장애 사례를 통해 교훈을 정리하겠습니다. 감사합니다.";
+
+    private final ScriptSimilarityService service = new ScriptSimilarityService(true, 0.9, 128);
+
+    @Test
+    void identicalScriptsAreComparedLocally() {
+        Optional<Map<String, Object>> result = service.compareLocally(SCRIPT, SCRIPT.replace(" ", "\n"));
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).containsKeys("strengths_comparison", "improvement_suggestions", "overall_feedback");
+        assertThat(result.get().get("local_similarity")).isEqualTo(1.0);
+    }
+
+    @Test
+    void smallEditsAreSummarizedFromTokenDiff() {
+        String edited = SCRIPT.replace("실제 장애 사례를", "실제 운영 장애 사례를").replace(" 감사합니다.", "");
+
+        Map<String, Object> result = service.compareLocally(SCRIPT, edited).orElseThrow();
+
+        assertThat(result.get("improvement_suggestions").toString())
+            .contains("빠진 표현: '감사합니다'")
+            .contains("추가된 표현: '운영'");
+        // 매번 같은 문장이 나와야 저장된 비교 결과와 일관됨
+        assertThat(service.compareLocally(SCRIPT, edited).orElseThrow()).isEqualTo(result);
+    }
+
+    @Test
+    void differentScriptsGoToFastApiAndHitRateIsTracked() {
+        service.compareLocally(SCRIPT, SCRIPT);
+        Optional<Map<String, Object>> result =
+            service.compareLocally(SCRIPT, "데이터베이스 인덱스 설계와 쿼리 튜닝 방법을 소개하겠습니다.");
+
+        assertThat(result).isEmpty();
+        ScriptSimilarityService.Stats stats = service.getStats();
+        assertThat(stats.threshold()).isEqualTo(0.9);
+        assertThat(stats.checks()).isEqualTo(2);
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void hitCountMovesOnlyWithLocalComparisons() {
+        assertThat(service.getStats().hits()).isZero();
+        assertThat(service.getStats().hitRate()).isZero();
+        service.logStats();
+
+        service.compareLocally(SCRIPT, SCRIPT);
+        service.compareLocally(SCRIPT, SCRIPT.replace("감사합니다", "고맙습니다"));
+        assertThat(service.getStats().hits()).isEqualTo(2);
+
+        ScriptSimilarityService disabled = new ScriptSimilarityService(false, 0.9, 128);
+        disabled.compareLocally(SCRIPT, SCRIPT);
+        assertThat(disabled.getStats().checks()).isZero();
+        service.logStats();
+    }
+
+    @Test
+    void thresholdIsConfigurable() {
+        String edited = SCRIPT.replace("먼저 로컬 캐시와 분산 캐시의 차이를 살펴보고, ", "");
+
+        assertThat(service.compareLocally(SCRIPT, edited)).isEmpty();
+        assertThat(new ScriptSimilarityService(true, 0.7, 128).compareLocally(SCRIPT, edited)).isPresent();
+        assertThat(new ScriptSimilarityService(false, 0.0, 128).compareLocally(SCRIPT, SCRIPT)).isEmpty();
+    }
+
+    @Test
+    void tokenDiffFindsInsertedAndRemovedRuns() {
+        ScriptSimilarityService.TokenDiff diff = ScriptSimilarityService.diff(
+            List.of("a", "b", "c", "d"), List.of("a", "x", "c", "d", "e"), 0);
+
+        assertThat(diff.similarity()).isCloseTo(6 / 9.0, within(1e-9));
+        assertThat(diff.removed()).containsExactly("b");
+        assertThat(diff.added()).containsExactly("x", "e");
+        assertThat(ScriptSimilarityService.diff(List.of("a", "b"), List.of("c", "d"), 0.5)).isNull();
+    }
+}
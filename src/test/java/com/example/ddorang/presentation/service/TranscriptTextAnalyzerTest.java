@@ -0,0 +1,59 @@
+package com.example.ddorang.presentation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptTextAnalyzerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TranscriptTextAnalyzer analyzer =
+        new TranscriptTextAnalyzer(objectMapper, List.of("음", "어", "이제", "그러니까"), 3);
+
+    @Test
+    void countsWordsAcrossParticlesAndSeparatesFillers() {
+        TranscriptTextAnalyzer.Analysis analysis = analyzer.analyze(
+            "음 오늘은 데이터를 보여드리겠습니다. 이제 데이터가 어떻게 모였는지, 어 데이터의 출처와 "
+                + "캐시에서 캐시로 옮기는 과정을 그러니까 설명하겠습니다. 음 감사합니다.");
+
+        assertThat(analysis.frequentWords()).extracting(TranscriptTextAnalyzer.WordCount::word)
+            .containsExactly("데이터", "캐시", "감사합니다");
+        assertThat(analysis.frequentWords().get(0).count()).isEqualTo(3);
+        assertThat(analysis.fillerWords()).containsExactly(
+            new TranscriptTextAnalyzer.WordCount("음", 2),
+            new TranscriptTextAnalyzer.WordCount("그러니까", 1),
+            new TranscriptTextAnalyzer.WordCount("어", 1),
+            new TranscriptTextAnalyzer.WordCount("이제", 1));
+        assertThat(analysis.fillerCount()).isEqualTo(5);
+        assertThat(analysis.totalWords()).isEqualTo(19);
+    }
+
+    @Test
+    void jsonMatchesFeedbackColumnFormats() throws Exception {
+        TranscriptTextAnalyzer.Analysis analysis = analyzer.analyze("음 발표를 시작하겠습니다 음 발표는");
+
+        assertThat(objectMapper.readValue(analyzer.frequentWordsJson(analysis), List.class))
+            .containsExactly("발표", "시작하겠습니다");
+        assertThat(analyzer.fillerWordsJson(analysis)).isEqualTo("[{\"word\":\"음\",\"count\":2}]");
+    }
+
+    @Test
+    void particlesAreOnlyStrippedFromLongEnoughHangulWords() {
+        assertThat(TranscriptTextAnalyzer.stripParticle("사용자에게")).isEqualTo("사용자");
+        assertThat(TranscriptTextAnalyzer.stripParticle("서버에서는")).isEqualTo("서버");
+        assertThat(TranscriptTextAnalyzer.stripParticle("회의")).isEqualTo("회의");
+        assertThat(TranscriptTextAnalyzer.stripParticle("api")).isEqualTo("api");
+    }
+
+    @Test
+    void emptyTranscriptProducesEmptyAnalysis() {
+        TranscriptTextAnalyzer.Analysis analysis = analyzer.analyze("  ");
+
+        assertThat(analysis.frequentWords()).isEmpty();
+        assertThat(analysis.fillerRatio()).isZero();
+        assertThat(analyzer.frequentWordsJson(analysis)).isEqualTo("[]");
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.ddorang.presentation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 워크로드로 FIFO 대비 SJF+aging 디스패치의 평균 완료 시간을 비교하는 시뮬레이션
+ */
+class VideoAnalysisDispatchSimulationTest {
+
+    private record SimJob(double arrival, double cost) {
+    }
+
+    private record SimResult(double meanCompletion, double completionOfLongest) {
+    }
+
+    @Test
+    void shortestJobFirstReducesMeanCompletionTime() {
+        List<SimJob> jobs = syntheticWorkload(500, 42L);
+
+        SimResult fifo = simulate(jobs, 3, SimJob::arrival);
+        SimResult sjf = simulate(jobs, 3, job -> VideoAnalysisDispatcher.priorityKey(job.cost(), job.arrival(), 1.0));
+
+        // 고정 시드 워크로드 기준 FIFO 약 1222초, SJF+aging 약 1049초 - 10% 이상 줄어야 함
+        assertThat(sjf.meanCompletion()).isLessThan(fifo.meanCompletion() * 0.9);
+    }
+
+    @Test
+    void agingPreventsStarvationOfLongJobs() {
+        // 30분짜리 영상 1개 뒤로 2분짜리 리허설이 처리량을 넘는 속도로 계속 들어오는 상황
+        List<SimJob> jobs = new ArrayList<>();
+        jobs.add(new SimJob(0, 60));
+        jobs.add(new SimJob(1, 1800));
+        for (int i = 0; i < 400; i++) {
+            jobs.add(new SimJob(2 + i * 100.0, 120));
+        }
+
+        SimResult withoutAging = simulate(jobs, 1, job -> VideoAnalysisDispatcher.priorityKey(job.cost(), job.arrival(), 0.0));
+        SimResult withAging = simulate(jobs, 1, job -> VideoAnalysisDispatcher.priorityKey(job.cost(), job.arrival(), 1.0));
+
+        // aging이 없으면 짧은 작업이 모두 끝난 뒤에야 실행됨
+        assertThat(withoutAging.completionOfLongest()).isGreaterThan(40_000);
+        // aging이 있으면 (예상 비용 차이 / agingFactor) 정도 대기 후 실행됨
+        assertThat(withAging.completionOfLongest()).isLessThan(4_500);
+    }
+
+    // 70%는 2~5분 리허설, 30%는 20~30분 발표로 구성된 워크로드 (서버 3대 기준 부하율 약 90%)
+    private List<SimJob> syntheticWorkload(int count, long seed) {
+        Random random = new Random(seed);
+        List<SimJob> jobs = new ArrayList<>();
+        double meanCost = 0.7 * 210 + 0.3 * 1500;
+        double meanInterArrival = meanCost / (3 * 0.9);
+        double clock = 0;
+
+        for (int i = 0; i < count; i++) {
+            clock += -Math.log(1 - random.nextDouble()) * meanInterArrival;
+            double cost = random.nextDouble() < 0.7
+                ? 120 + random.nextDouble() * 180
+                : 1200 + random.nextDouble() * 600;
+            jobs.add(new SimJob(clock, cost));
+        }
+        return jobs;
+    }
+
+    // 우선순위 키가 고정된 비선점 멀티 서버 큐 시뮬레이션
+    private SimResult simulate(List<SimJob> jobs, int servers, ToDoubleFunction<SimJob> key) {
+        List<SimJob> arrivals = new ArrayList<>(jobs);
+        arrivals.sort(Comparator.comparingDouble(SimJob::arrival));
+
+        PriorityQueue<Double> freeAt = new PriorityQueue<>();
+        for (int i = 0; i < servers; i++) {
+            freeAt.add(0.0);
+        }
+
+        PriorityQueue<SimJob> ready = new PriorityQueue<>(Comparator.comparingDouble(key));
+        SimJob longest = arrivals.stream().max(Comparator.comparingDouble(SimJob::cost)).orElseThrow();
+        double totalCompletion = 0;
+        double completionOfLongest = 0;
+        int index = 0;
+
+        while (index < arrivals.size() || !ready.isEmpty()) {
+            double serverFree = freeAt.poll();
+
+            while (index < arrivals.size() && arrivals.get(index).arrival() <= serverFree) {
+                ready.add(arrivals.get(index++));
+            }
+
+            double start = serverFree;
+            if (ready.isEmpty()) {
+                // 서버가 유휴 상태 - 다음 도착 시각까지 대기
+                SimJob next = arrivals.get(index++);
+                ready.add(next);
+                start = next.arrival();
+            }
+
+            SimJob job = ready.poll();
+            double finish = start + job.cost();
+            double completion = finish - job.arrival();
+            totalCompletion += completion;
+            if (job == longest) {
+                completionOfLongest = completion;
+            }
+            freeAt.add(finish);
+        }
+
+        return new SimResult(totalCompletion / arrivals.size(), completionOfLongest);
+    }
+}
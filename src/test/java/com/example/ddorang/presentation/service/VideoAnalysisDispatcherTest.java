@@ -0,0 +1,89 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.entity.VideoAnalysisJob;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VideoAnalysisDispatcherTest {
+
+    private final FastApiPollingService fastApiPollingService = mock(FastApiPollingService.class);
+    private final VideoAnalysisJobRepository repository = mock(VideoAnalysisJobRepository.class);
+    private final AnalysisCancellationRegistry cancellationRegistry = mock(AnalysisCancellationRegistry.class);
+    private final VideoAnalysisLeaseService leaseService = mock(VideoAnalysisLeaseService.class);
+    private final VideoAnalysisStageService stageService = mock(VideoAnalysisStageService.class);
+    private final VideoAnalysisDispatcher dispatcher = new VideoAnalysisDispatcher(fastApiPollingService,
+        repository, cancellationRegistry, leaseService, mock(VideoAnalysisService.class), stageService);
+
+    private VideoAnalysisDispatcher configured(int maxConcurrent, boolean workerEnabled) {
+        ReflectionTestUtils.setField(dispatcher, "maxConcurrent", maxConcurrent);
+        ReflectionTestUtils.setField(dispatcher, "bytesPerSecond", 1_048_576L);
+        ReflectionTestUtils.setField(dispatcher, "agingFactor", 1.0);
+        ReflectionTestUtils.setField(dispatcher, "defaultCostSeconds", 300.0);
+        ReflectionTestUtils.setField(dispatcher, "workerEnabled", workerEnabled);
+        return dispatcher;
+    }
+
+    private VideoAnalysisJob job() {
+        return VideoAnalysisJob.builder().id(UUID.randomUUID()).fileSize(1_048_576L).build();
+    }
+
+    @Test
+    void apiNodeReleasesLeaseInsteadOfRunningJob() {
+        VideoAnalysisDispatcher apiNode = configured(3, false);
+        VideoAnalysisJob job = job();
+
+        apiNode.submit(job);
+
+        verify(leaseService).release(job.getId());
+        verify(fastApiPollingService, never()).startVideoAnalysis(any());
+        verify(stageService, never()).queued(any());
+        assertThat(apiNode.getQueueSize()).isZero();
+        assertThat(apiNode.getRunningCount()).isZero();
+    }
+
+    @Test
+    void jobsFinishedElsewhereAreStoppedWhetherRunningOrQueued() {
+        VideoAnalysisDispatcher worker = configured(1, true);
+        VideoAnalysisJob running = job();
+        VideoAnalysisJob queued = job();
+        when(fastApiPollingService.startVideoAnalysis(running)).thenReturn(new CompletableFuture<>());
+
+        worker.submit(running);
+        worker.submit(queued);
+        assertThat(worker.getRunningCount()).isEqualTo(1);
+        assertThat(worker.getQueueSize()).isEqualTo(1);
+
+        when(fastApiPollingService.getUnsettledJobIds()).thenReturn(List.of(running.getId()));
+        when(repository.findFinishedJobIds(List.of(running.getId(), queued.getId())))
+            .thenReturn(List.of(running.getId(), queued.getId()));
+
+        worker.stopJobsFinishedElsewhere();
+
+        verify(cancellationRegistry).cancel(running.getId());
+        verify(cancellationRegistry).cancel(queued.getId());
+        assertThat(worker.getQueueSize()).isZero();
+        verify(fastApiPollingService, never()).startVideoAnalysis(queued);
+    }
+
+    @Test
+    void scanSkipsRepositoryWhenNothingIsInFlight() {
+        VideoAnalysisDispatcher worker = configured(1, true);
+        when(fastApiPollingService.getUnsettledJobIds()).thenReturn(List.of());
+
+        worker.stopJobsFinishedElsewhere();
+
+        verify(repository, never()).findFinishedJobIds(any());
+    }
+}
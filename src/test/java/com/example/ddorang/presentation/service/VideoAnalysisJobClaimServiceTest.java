@@ -0,0 +1,151 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.entity.Presentation;
+import com.example.ddorang.presentation.entity.VideoAnalysisJob;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VideoAnalysisJobClaimServiceTest {
+
+    private static final int REQUESTS = 16;
+
+    private final List<VideoAnalysisJob> store = new ArrayList<>();
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+
+    @Test
+    void concurrentRequestsCreateSingleJob() throws Exception {
+        VideoAnalysisJobClaimService service = claimService(false);
+
+        List<VideoAnalysisJobClaimService.Claim> claims = claimConcurrently(service, presentation());
+
+        assertThat(claims.stream().filter(VideoAnalysisJobClaimService.Claim::created)).hasSize(1);
+        assertThat(claims.stream().map(c -> c.job().getId()).distinct()).hasSize(1);
+        assertThat(store).hasSize(1);
+        assertThat(redis).isEmpty();
+        // 만든 노드가 점유한 채로 시작
+        assertThat(store.get(0).getLeaseOwner()).isEqualTo("node-a");
+        assertThat(store.get(0).getLeaseExpiresAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void uniqueConstraintAloneWhenRedisIsDown() throws Exception {
+        VideoAnalysisJobClaimService service = claimService(true);
+
+        List<VideoAnalysisJobClaimService.Claim> claims = claimConcurrently(service, presentation());
+
+        assertThat(claims.stream().filter(VideoAnalysisJobClaimService.Claim::created)).hasSize(1);
+        assertThat(claims.stream().map(c -> c.job().getId()).distinct()).hasSize(1);
+        assertThat(store).hasSize(1);
+    }
+
+    @Test
+    void finishedJobDoesNotBlockNewAnalysis() {
+        VideoAnalysisJobClaimService service = claimService(false);
+        Presentation presentation = presentation();
+
+        VideoAnalysisJobClaimService.Claim first = service.claim(presentation, "/api/files/videos/a.mp4", "a.mp4", 1L);
+        first.job().markAsFailed("테스트");
+        VideoAnalysisJobClaimService.Claim second = service.claim(presentation, "/api/files/videos/b.mp4", "b.mp4", 1L);
+
+        assertThat(second.created()).isTrue();
+        assertThat(second.job().getId()).isNotEqualTo(first.job().getId());
+        // 작업은 발표의 현재 영상이 아니라 그 요청이 올린 영상을 분석
+        assertThat(second.job().getVideoPath()).isEqualTo("/api/files/videos/b.mp4");
+    }
+
+    private List<VideoAnalysisJobClaimService.Claim> claimConcurrently(VideoAnalysisJobClaimService service,
+                                                                       Presentation presentation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<VideoAnalysisJobClaimService.Claim>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return service.claim(presentation, "/api/files/videos/video.mp4", "video.mp4", 1024L);
+                }));
+            }
+            start.countDown();
+
+            List<VideoAnalysisJobClaimService.Claim> claims = new ArrayList<>();
+            for (Future<VideoAnalysisJobClaimService.Claim> future : futures) {
+                claims.add(future.get());
+            }
+            return claims;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private VideoAnalysisJobClaimService claimService(boolean redisDown) {
+        VideoAnalysisJobRepository repository = mock(VideoAnalysisJobRepository.class);
+        when(repository.findActiveJobByPresentationId(any())).thenAnswer(inv -> findActive(inv.getArgument(0)));
+        when(repository.saveAndFlush(any())).thenAnswer(inv -> insert(inv.getArgument(0)));
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        if (redisDown) {
+            when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        } else {
+            when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> redis.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+            when(redisTemplate.delete(anyString())).thenAnswer(inv -> redis.remove(inv.getArgument(0)) != null);
+        }
+
+        VideoAnalysisJobClaimService service = new VideoAnalysisJobClaimService(repository, redisTemplate,
+            new VideoAnalysisLeaseService(repository, event -> { }, "node-a", 120_000), event -> { });
+        ReflectionTestUtils.setField(service, "claimWaitMillis", 2000L);
+        return service;
+    }
+
+    // active_presentation_id 유니크 제약 흉내
+    private synchronized VideoAnalysisJob insert(VideoAnalysisJob job) {
+        if (findActive(job.getPresentation().getId()).isPresent()) {
+            throw new DataIntegrityViolationException("duplicate active_presentation_id");
+        }
+        job.setId(UUID.randomUUID());
+        store.add(job);
+        return job;
+    }
+
+    private synchronized Optional<VideoAnalysisJob> findActive(UUID presentationId) {
+        return store.stream()
+            .filter(j -> j.getPresentation().getId().equals(presentationId) && j.isInProgress())
+            .findFirst();
+    }
+
+    private Presentation presentation() {
+        return Presentation.builder()
+            .id(UUID.randomUUID())
+            .title("발표")
+            .videoUrl("/tmp/video.mp4")
+            .build();
+    }
+}
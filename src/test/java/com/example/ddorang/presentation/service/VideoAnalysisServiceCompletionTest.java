@@ -0,0 +1,156 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.auth.entity.User;
+import com.example.ddorang.common.service.NotificationService;
+import com.example.ddorang.presentation.dto.FastApiAnalysisResult;
+import com.example.ddorang.presentation.entity.Presentation;
+import com.example.ddorang.presentation.entity.Topic;
+import com.example.ddorang.presentation.entity.VideoAnalysisJob;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VideoAnalysisServiceCompletionTest {
+
+    private final VideoAnalysisJobRepository repository = mock(VideoAnalysisJobRepository.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final VoiceAnalysisService voiceAnalysisService = mock(VoiceAnalysisService.class);
+    private final AnalysisResultStore analysisResultStore = mock(AnalysisResultStore.class);
+    private final VideoAnalysisLeaseService leaseService = mock(VideoAnalysisLeaseService.class);
+    private final PreliminaryFeedbackStore preliminaryFeedbackStore = mock(PreliminaryFeedbackStore.class);
+    private final VideoAnalysisService service = new VideoAnalysisService(repository, notificationService,
+        voiceAnalysisService, mock(TranscriptTextAnalyzer.class), mock(VideoAnalysisStageService.class),
+        event -> { }, leaseService, analysisResultStore, preliminaryFeedbackStore);
+
+    private final FastApiAnalysisResult result = FastApiAnalysisResult.builder().transcription("안녕하세요").build();
+
+    @Test
+    void jobCancelledOnAnotherNodeIsNotCompleted() {
+        VideoAnalysisJob job = job(UUID.randomUUID());
+        when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(leaseService.complete(job.getId())).thenReturn(false);
+
+        service.completeJob(job.getId(), result);
+
+        // 완료 표시 전에 저장한 결과는 지움
+        verify(analysisResultStore).evict(job.getId());
+        verify(voiceAnalysisService, never()).saveAnalysisResults(any(), any());
+        verify(notificationService, never()).sendAnalysisCompleteNotification(any(), anyString(), any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void activeJobStoresResultAndNotifies() {
+        UUID userId = UUID.randomUUID();
+        VideoAnalysisJob job = job(userId);
+        Presentation presentation = job.getPresentation();
+        when(leaseService.complete(job.getId())).thenReturn(true);
+        when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        service.completeJob(job.getId(), result);
+
+        // 결과가 저장소에 들어간 뒤에야 COMPLETED로 표시
+        InOrder order = inOrder(analysisResultStore, leaseService);
+        order.verify(analysisResultStore).save(job.getId(), presentation.getId(), result);
+        order.verify(leaseService).complete(job.getId());
+        verify(analysisResultStore, never()).evict(any());
+        verify(voiceAnalysisService).saveAnalysisResults(presentation.getId(), result);
+        verify(notificationService).sendAnalysisCompleteNotification(userId, "발표", presentation.getId());
+        // 전체 피드백이 저장된 뒤에야 예비 피드백을 지움
+        verify(preliminaryFeedbackStore).evict(job.getId());
+    }
+
+    @Test
+    void cancelClearsFeedbackAndCachedResult() {
+        UUID jobId = UUID.randomUUID();
+        when(leaseService.fail(jobId, "사용자에 의해 취소됨")).thenReturn(true);
+
+        assertThat(service.cancelJob(jobId)).isTrue();
+
+        verify(preliminaryFeedbackStore).evict(jobId);
+        verify(analysisResultStore).evict(jobId);
+    }
+
+    @Test
+    void cancelAfterCompletionLeavesResultInPlace() {
+        UUID jobId = UUID.randomUUID();
+        when(leaseService.fail(jobId, "사용자에 의해 취소됨")).thenReturn(false);
+
+        assertThat(service.cancelJob(jobId)).isFalse();
+
+        verify(analysisResultStore, never()).evict(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void resultReadBetweenCompletionAndPersistIsTheNewResult() {
+        Map<String, byte[]> redis = new HashMap<>();
+        AnalysisResultStore workerStore = nodeStore(redis, mock(VideoAnalysisJobRepository.class));
+        VideoAnalysisJobRepository apiRepository = mock(VideoAnalysisJobRepository.class);
+        AnalysisResultStore apiStore = nodeStore(redis, apiRepository);
+        VideoAnalysisService worker = new VideoAnalysisService(repository, notificationService,
+            voiceAnalysisService, mock(TranscriptTextAnalyzer.class), mock(VideoAnalysisStageService.class),
+            event -> { }, leaseService, workerStore, preliminaryFeedbackStore);
+
+        VideoAnalysisJob job = job(UUID.randomUUID());
+        when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(leaseService.complete(job.getId())).thenReturn(true);
+        // 완료 표시 후 분석 테이블 저장 전에 다른 노드가 결과를 조회
+        AtomicReference<FastApiAnalysisResult> readOnApiNode = new AtomicReference<>();
+        doAnswer(inv -> {
+            readOnApiNode.set(apiStore.find(job.getId()));
+            return null;
+        }).when(voiceAnalysisService).saveAnalysisResults(any(), any());
+
+        worker.completeJob(job.getId(), result);
+
+        assertThat(readOnApiNode.get()).isEqualTo(result);
+        // 이전 분석의 테이블 값으로 결과를 다시 만들지 않음
+        verify(apiRepository, never()).findPersistedResult(any());
+    }
+
+    private VideoAnalysisJob job(UUID userId) {
+        Presentation presentation = Presentation.builder()
+            .id(UUID.randomUUID())
+            .title("발표")
+            .topic(Topic.builder().user(User.builder().userId(userId).build()).build())
+            .build();
+        return VideoAnalysisJob.builder().id(UUID.randomUUID()).presentation(presentation).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private AnalysisResultStore nodeStore(Map<String, byte[]> redis, VideoAnalysisJobRepository jobRepository) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        RedisTemplate<String, byte[]> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, byte[]> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+            .when(valueOperations).set(anyString(), any(byte[].class), any(Duration.class));
+        AnalysisResultArchiveService archiveService = mock(AnalysisResultArchiveService.class);
+        when(archiveService.loadEncoded(any())).thenReturn(Optional.empty());
+        return new AnalysisResultStore(new AnalysisResultCache(1 << 20, Duration.ofHours(1), Duration.ofMinutes(10)),
+            redisTemplate, new AnalysisResultCodec(objectMapper, new FastApiResultParser(objectMapper, 1 << 20), 6),
+            archiveService, jobRepository, Duration.ofHours(24), Duration.ofHours(1));
+    }
+}
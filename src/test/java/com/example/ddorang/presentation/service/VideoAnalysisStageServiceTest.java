@@ -0,0 +1,78 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.presentation.dto.VideoAnalysisStageMetrics;
+import com.example.ddorang.presentation.dto.VideoAnalysisStageTimes;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VideoAnalysisStageServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Test
+    void nearestRankPercentilesUseObservedValues() {
+        long[] sorted = LongStream.rangeClosed(1, 100).toArray();
+
+        assertThat(VideoAnalysisStageService.percentile(sorted, 50)).isEqualTo(50);
+        assertThat(VideoAnalysisStageService.percentile(sorted, 95)).isEqualTo(95);
+        assertThat(VideoAnalysisStageService.percentile(sorted, 99)).isEqualTo(99);
+        assertThat(VideoAnalysisStageService.percentile(new long[]{7}, 99)).isEqualTo(7);
+        assertThat(VideoAnalysisStageService.percentile(new long[]{1, 2, 3}, 50)).isEqualTo(2);
+    }
+
+    @Test
+    void stageDurationsAreMeasuredBetweenAdjacentTransitions() {
+        List<VideoAnalysisStageTimes> times = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            times.add(completedJob(i));
+        }
+
+        Map<String, VideoAnalysisStageMetrics.StagePercentiles> stages =
+            VideoAnalysisStageService.percentilesByStage(times);
+
+        assertThat(stages.keySet())
+            .containsExactly("queue", "upload", "firstPoll", "upstream", "persist", "notify", "total");
+        assertThat(stages.get("queue").count()).isEqualTo(20);
+        assertThat(stages.get("queue").p50Ms()).isEqualTo(10_000);
+        assertThat(stages.get("queue").p95Ms()).isEqualTo(19_000);
+        assertThat(stages.get("queue").maxMs()).isEqualTo(20_000);
+        assertThat(stages.get("upload").p50Ms()).isEqualTo(30_000);
+        assertThat(stages.get("firstPoll").p99Ms()).isEqualTo(1_000);
+        assertThat(stages.get("upstream").p50Ms()).isEqualTo(60_000);
+        assertThat(stages.get("persist").p50Ms()).isEqualTo(200);
+        assertThat(stages.get("notify").p50Ms()).isEqualTo(50);
+        assertThat(stages.get("total").p50Ms()).isEqualTo(10_000 + 30_000 + 60_000 + 250);
+    }
+
+    @Test
+    void unfinishedStagesAreLeftOutOfTheirDistribution() {
+        VideoAnalysisStageTimes failedDuringUpload = new VideoAnalysisStageTimes(
+            T0, T0, T0.plusSeconds(1), T0.plusSeconds(1), null, null, null, null, null, null, null);
+
+        Map<String, VideoAnalysisStageMetrics.StagePercentiles> stages =
+            VideoAnalysisStageService.percentilesByStage(List.of(failedDuringUpload, completedJob(1)));
+
+        assertThat(stages.get("queue").count()).isEqualTo(2);
+        assertThat(stages.get("upload").count()).isEqualTo(1);
+        assertThat(stages.get("total").count()).isEqualTo(1);
+        assertThat(VideoAnalysisStageService.percentilesByStage(List.of()).get("upload"))
+            .isEqualTo(new VideoAnalysisStageMetrics.StagePercentiles(0, null, null, null, null));
+    }
+
+    // 대기 i초, 업로드 30초, FastAPI 60초, 저장 200ms, 알림 50ms
+    private static VideoAnalysisStageTimes completedJob(int queueSeconds) {
+        LocalDateTime started = T0.plusSeconds(queueSeconds);
+        LocalDateTime uploaded = started.plusSeconds(30);
+        LocalDateTime upstream = uploaded.plusSeconds(60);
+        LocalDateTime persisted = upstream.plusNanos(200_000_000);
+        return new VideoAnalysisStageTimes(T0, T0, started, started, uploaded, 300L * 1024 * 1024, 6,
+            uploaded.plusSeconds(1), upstream, persisted, persisted.plusNanos(50_000_000));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.ddorang.presentation.service;
+
+import com.example.ddorang.common.enums.JobStatus;
+import com.example.ddorang.presentation.dto.VideoAnalysisJobStatus;
+import com.example.ddorang.presentation.event.JobStatusChangedEvent;
+import com.example.ddorang.presentation.repository.VideoAnalysisJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VideoAnalysisStatusCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final Map<String, String> redis = new HashMap<>();
+    private final VideoAnalysisJobRepository repository = mock(VideoAnalysisJobRepository.class);
+    private final VideoAnalysisStatusCache cache;
+
+    private final UUID presentationId = UUID.randomUUID();
+    private final UUID jobId = UUID.randomUUID();
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 10, 0);
+
+    @SuppressWarnings("unchecked")
+    VideoAnalysisStatusCacheTest() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        // 버전 비교 후 저장 스크립트와 같은 동작
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenAnswer(inv -> {
+            List<String> keys = inv.getArgument(1);
+            String version = inv.getArgument(3);
+            String current = redis.get(keys.get(1));
+            if (current != null && Long.parseLong(current) > Long.parseLong(version)) {
+                return 0L;
+            }
+            redis.put(keys.get(0), inv.getArgument(2));
+            redis.put(keys.get(1), version);
+            return 1L;
+        });
+        when(redisTemplate.delete(anyCollection())).thenAnswer(inv -> {
+            Collection<String> keys = inv.getArgument(0);
+            return keys.stream().filter(key -> redis.remove(key) != null).count();
+        });
+
+        cache = new VideoAnalysisStatusCache(repository, redisTemplate, new ObjectMapper().findAndRegisterModules(), TTL);
+    }
+
+    @Test
+    void repeatedPollsReadTheDatabaseOnce() {
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.of(status(JobStatus.PROCESSING)));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.getLatest(presentationId).status()).isEqualTo(JobStatus.PROCESSING);
+        }
+
+        verify(repository, times(1)).findLatestStatus(presentationId);
+    }
+
+    @Test
+    void statusChangeOverwritesCachedStatus() {
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.of(status(JobStatus.PROCESSING)));
+        cache.getLatest(presentationId);
+
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.of(status(JobStatus.FAILED)));
+        when(repository.findErrorMessageById(jobId)).thenReturn(Optional.of("FastAPI 오류"));
+        cache.onJobStatusChanged(new JobStatusChangedEvent(jobId, presentationId));
+
+        VideoAnalysisJobStatus latest = cache.getLatest(presentationId);
+        assertThat(latest.status()).isEqualTo(JobStatus.FAILED);
+        assertThat(latest.errorMessage()).isEqualTo("FastAPI 오류");
+        assertThat(latest.createdAt()).isEqualTo(createdAt);
+        verify(repository, times(2)).findLatestStatus(presentationId);
+    }
+
+    @Test
+    void lateWriteOfOlderStatusDoesNotOverwriteNewerOne() {
+        // 완료 이벤트 처리가 먼저 쓰고, 그 전에 처리 중 상태를 읽어 둔 이벤트 처리가 늦게 씀
+        when(repository.findLatestStatus(presentationId))
+            .thenReturn(Optional.of(status(JobStatus.COMPLETED, createdAt.plusMinutes(5))))
+            .thenReturn(Optional.of(status(JobStatus.PROCESSING, createdAt.plusMinutes(1))));
+
+        cache.onJobStatusChanged(new JobStatusChangedEvent(jobId, presentationId));
+        cache.onJobStatusChanged(new JobStatusChangedEvent(jobId, presentationId));
+
+        assertThat(cache.getLatest(presentationId).status()).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    @Test
+    void newJobReplacesFinishedJob() {
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.of(status(JobStatus.COMPLETED)));
+        cache.getLatest(presentationId);
+
+        UUID nextJobId = UUID.randomUUID();
+        LocalDateTime nextCreatedAt = createdAt.plusHours(1);
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.of(
+            new VideoAnalysisJobStatus(nextJobId, JobStatus.PENDING, nextCreatedAt, nextCreatedAt)));
+        cache.onJobStatusChanged(new JobStatusChangedEvent(nextJobId, presentationId));
+
+        assertThat(cache.getLatest(presentationId).jobId()).isEqualTo(nextJobId);
+    }
+
+    @Test
+    void eventWithoutPresentationLooksItUpByJob() {
+        when(repository.findPresentationIdById(jobId)).thenReturn(Optional.of(presentationId));
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.of(status(JobStatus.PENDING)));
+
+        cache.onJobStatusChanged(new JobStatusChangedEvent(jobId, null));
+
+        assertThat(redis).containsKey(VideoAnalysisStatusCache.KEY_PREFIX + presentationId);
+    }
+
+    @Test
+    void deletedJobsAreEvicted() {
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.of(status(JobStatus.COMPLETED)));
+        cache.getLatest(presentationId);
+
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.empty());
+        cache.onJobStatusChanged(new JobStatusChangedEvent(null, presentationId));
+
+        assertThat(redis).isEmpty();
+        assertThat(cache.getLatest(presentationId)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisOutageFallsBackToDatabase() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        VideoAnalysisStatusCache downCache =
+            new VideoAnalysisStatusCache(repository, redisTemplate, new ObjectMapper().findAndRegisterModules(), TTL);
+        when(repository.findLatestStatus(presentationId)).thenReturn(Optional.of(status(JobStatus.PROCESSING)));
+
+        assertThat(downCache.getLatest(presentationId).status()).isEqualTo(JobStatus.PROCESSING);
+        verify(repository, never()).findErrorMessageById(any());
+    }
+
+    private VideoAnalysisJobStatus status(JobStatus status) {
+        return status(status, createdAt.plusMinutes(1));
+    }
+
+    private VideoAnalysisJobStatus status(JobStatus status, LocalDateTime updatedAt) {
+        return new VideoAnalysisJobStatus(jobId, status, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,404 @@
+package com.example.ddorang.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 FastAPI 대역 서버 (JDK 내장 HttpServer)
+ *
+ * 실제 GPU 분석 서버 없이 /analysis(청크 업로드), /result/{job_id}, /cancel/{job_id}, /optimize-script, /compare를 흉내 낸다.
+ * 처리 시간, 응답 지연, 오류 비율(HTTP 500 / 분석 실패), 결과 크기를 조절해 처리량/지연 테스트에 사용한다.
+ *
+ * <pre>
+ * try (FastApiStubServer stub = FastApiStubServer.builder().processingTime(Duration.ofSeconds(2)).start()) {
+ *     FastApiEndpointPool pool = new FastApiEndpointPool(List.of(stub.baseUrl()), "/docs", 1000);
+ * }
+ * </pre>
+ */
+public class FastApiStubServer implements AutoCloseable {
+
+    private static final Pattern FORM_FIELD = Pattern.compile(
+        "name=\"([^\"]+)\"\\r\\n(?:[^\\r\\n]+\\r\\n)*\\r\\n([^\\r\\n]*)");
+
+    // 큰 본문은 앞/뒤 일부만 보관 - 대용량 업로드에서도 스텁 메모리가 늘지 않도록 (텍스트 필드는 파일 파트 앞뒤에 있음)
+    private static final int BODY_HEAD_BYTES = 1024 * 1024;
+    private static final int BODY_TAIL_BYTES = 64 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration processingTime;
+    private final Duration responseDelay;
+    private final double errorRate;
+    private final double jobFailureRate;
+    private final int transcriptSentences;
+    private final Map<String, Metrics> metricsByFilename;
+    private final Random random;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, StubJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicLong receivedBytes = new AtomicLong();
+
+    // 분석 작업 (완료 예정 시각, 실패 여부, 돌려줄 음성 지표)
+    private record StubJob(long readyAtMillis, boolean failed, Metrics metrics) {
+    }
+
+    /**
+     * 분석 결과 음성 지표 (업로드 파일명별로 지정, 지정하지 않으면 DEFAULT)
+     */
+    public record Metrics(double wpmAvg, String wpmGrade, double intensityDb, double pitchAvg, double anxietyRatio) {
+        public static final Metrics DEFAULT = new Metrics(120.5, "보통", 65.5, 150.2, 0.5);
+    }
+
+    private FastApiStubServer(Builder builder) throws IOException {
+        this.processingTime = builder.processingTime;
+        this.responseDelay = builder.responseDelay;
+        this.errorRate = builder.errorRate;
+        this.jobFailureRate = builder.jobFailureRate;
+        this.transcriptSentences = builder.transcriptSentences;
+        this.metricsByFilename = Map.copyOf(builder.metricsByFilename);
+        this.random = new Random(builder.seed);
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/analysis", exchange -> handle(exchange, this::analysis));
+        server.createContext("/result/", exchange -> handle(exchange, this::result));
+        server.createContext("/optimize-script", exchange -> handle(exchange, this::optimizeScript));
+        server.createContext("/compare", exchange -> handle(exchange, this::compare));
+        server.createContext("/cancel/", exchange -> handle(exchange, this::cancel));
+        server.createContext("/docs", exchange -> handle(exchange, (path, body, contentType) -> Map.of("status", "ok")));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // 서버 주소 (fastapi.base-urls 대신 사용)
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // 경로별 요청 수 ("/analysis", "/result", "/cancel", "/optimize-script", "/compare", "/docs")
+    public long requestCount(String path) {
+        AtomicLong count = requestCounts.get(path);
+        return count != null ? count.get() : 0;
+    }
+
+    // /analysis로 받은 요청 본문 총 바이트 (보관하지 않고 흘려보낸 부분 포함)
+    public long receivedBytes() {
+        return receivedBytes.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // === 핸들러 ===
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(String path, byte[] body, String contentType) throws Exception;
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = readBody(exchange.getRequestBody(), path.equals("/analysis") ? receivedBytes : new AtomicLong());
+            requestCounts.computeIfAbsent(countKey(path), k -> new AtomicLong()).incrementAndGet();
+
+            if (!responseDelay.isZero()) {
+                Thread.sleep(responseDelay.toMillis());
+            }
+
+            if (errorRate > 0 && nextDouble() < errorRate) {
+                send(exchange, 500, Map.of("detail", "stub: injected error"));
+                return;
+            }
+
+            Object response = handler.handle(path, body, exchange.getRequestHeaders().getFirst("Content-Type"));
+            send(exchange, 200, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            send(exchange, 500, Map.of("detail", "stub: " + e.getMessage()));
+        }
+    }
+
+    // 청크 업로드: 마지막 청크를 받으면 job_id 발급, 청크 정보가 없으면 동기 분석 결과 반환
+    private Object analysis(String path, byte[] body, String contentType) throws InterruptedException {
+        Map<String, String> fields = formFields(body);
+        Metrics metrics = metricsByFilename.getOrDefault(fields.get("original_filename"), Metrics.DEFAULT);
+
+        if (!fields.containsKey("chunk_index")) {
+            if (!processingTime.isZero()) {
+                Thread.sleep(processingTime.toMillis());
+            }
+            return analysisResult(metrics);
+        }
+
+        int chunkIndex = Integer.parseInt(fields.get("chunk_index"));
+        int totalChunks = Integer.parseInt(fields.get("total_chunks"));
+
+        if (chunkIndex < totalChunks - 1) {
+            return Map.of("status", "chunk_received", "chunk_index", chunkIndex);
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        boolean failed = jobFailureRate > 0 && nextDouble() < jobFailureRate;
+        jobs.put(jobId, new StubJob(System.currentTimeMillis() + processingTime.toMillis(), failed, metrics));
+        return Map.of("status", "processing", "job_id", jobId);
+    }
+
+    private Object result(String path, byte[] body, String contentType) {
+        String jobId = path.substring("/result/".length());
+        StubJob job = jobs.get(jobId);
+
+        if (job == null) {
+            return Map.of("status", "not_found");
+        }
+        if (System.currentTimeMillis() < job.readyAtMillis()) {
+            return Map.of("status", "processing");
+        }
+        if (job.failed()) {
+            return Map.of("status", "error", "error", "stub: analysis failed");
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "completed");
+        response.put("result", analysisResult(job.metrics()));
+        return response;
+    }
+
+    // 작업 취소: 이후 /result는 not_found
+    private Object cancel(String path, byte[] body, String contentType) {
+        String jobId = path.substring("/cancel/".length());
+        return Map.of("status", jobs.remove(jobId) != null ? "cancelled" : "not_found");
+    }
+
+    private Object optimizeScript(String path, byte[] body, String contentType) throws Exception {
+        Map<?, ?> request = objectMapper.readValue(body, Map.class);
+        simulateProcessing();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("optimized_script", "[stub] " + request.get("script"));
+        response.put("optimization_notes", "stub optimization");
+        response.put("estimated_duration_seconds", request.get("goal_time_seconds"));
+        return response;
+    }
+
+    private Object compare(String path, byte[] body, String contentType) throws Exception {
+        Map<String, String> form = urlEncodedForm(new String(body, StandardCharsets.UTF_8));
+        simulateProcessing();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("strengths_comparison", "[stub] " + form.getOrDefault("script1", "").length()
+            + "자 vs " + form.getOrDefault("script2", "").length() + "자");
+        response.put("improvement_suggestions", "stub suggestions");
+        response.put("overall_feedback", "stub feedback");
+        return response;
+    }
+
+    // === 응답 데이터 ===
+
+    // 실제 FastAPI 분석 결과와 같은 구조 (transcriptSentences로 크기 조절)
+    private Map<String, Object> analysisResult(Metrics metrics) {
+        String[] words = {"발표", "그래서", "음", "데이터", "결과", "우리는", "이번", "프로젝트", "사용자", "분석"};
+        StringBuilder transcript = new StringBuilder();
+        List<String> frequentWords = new ArrayList<>();
+
+        synchronized (random) {
+            for (int i = 0; i < transcriptSentences; i++) {
+                for (int w = 0; w < 12; w++) {
+                    transcript.append(words[random.nextInt(words.length)]).append(' ');
+                }
+                transcript.append("입니다. ");
+            }
+        }
+        for (int i = 0; i < Math.min(words.length, Math.max(1, transcriptSentences / 2)); i++) {
+            frequentWords.add(words[i]);
+        }
+
+        Map<String, Object> feedback = new LinkedHashMap<>();
+        feedback.put("frequent_words", frequentWords);
+        feedback.put("awkward_sentences", List.of("stub awkward sentence"));
+        feedback.put("difficulty_issues", List.of());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("intensity_grade", "보통");
+        result.put("intensity_db", metrics.intensityDb());
+        result.put("intensity_text", "stub");
+        result.put("pitch_grade", "좋음");
+        result.put("pitch_avg", metrics.pitchAvg());
+        result.put("pitch_text", "stub");
+        result.put("wpm_grade", metrics.wpmGrade());
+        result.put("wpm_avg", metrics.wpmAvg());
+        result.put("wpm_comment", "stub");
+        result.put("anxiety_analysis", Map.of("grade", "B", "ratio", metrics.anxietyRatio()));
+        result.put("anxiety_ratio", metrics.anxietyRatio());
+        result.put("transcription", transcript.toString());
+        result.put("pronunciation_score", 0.75);
+        result.put("corrected_transcription", transcript.toString());
+        result.put("duration_seconds", transcriptSentences * 3);
+        result.put("feedback", feedback);
+        result.put("predicted_questions", List.of("stub question"));
+        return result;
+    }
+
+    // === 헬퍼 ===
+
+    private void simulateProcessing() throws InterruptedException {
+        if (!processingTime.isZero()) {
+            Thread.sleep(processingTime.toMillis());
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String countKey(String path) {
+        if (path.startsWith("/result/")) {
+            return "/result";
+        }
+        return path.startsWith("/cancel/") ? "/cancel" : path;
+    }
+
+    // 본문을 끝까지 읽되 앞 BODY_HEAD_BYTES와 마지막 BODY_TAIL_BYTES만 남김
+    private byte[] readBody(InputStream in, AtomicLong received) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        byte[] tail = new byte[BODY_TAIL_BYTES];
+        long tailWritten = 0;
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+
+        while ((read = in.read(buffer)) > 0) {
+            received.addAndGet(read);
+            int toHead = Math.min(read, BODY_HEAD_BYTES - head.size());
+            head.write(buffer, 0, toHead);
+            for (int i = toHead; i < read; i++) {
+                tail[(int) (tailWritten++ % BODY_TAIL_BYTES)] = buffer[i];
+            }
+        }
+
+        int tailLength = (int) Math.min(tailWritten, BODY_TAIL_BYTES);
+        int tailStart = (int) (tailWritten % BODY_TAIL_BYTES);
+        for (int i = 0; i < tailLength; i++) {
+            head.write(tail[tailLength < BODY_TAIL_BYTES ? i : (tailStart + i) % BODY_TAIL_BYTES]);
+        }
+        return head.toByteArray();
+    }
+
+    // multipart 본문에서 텍스트 필드만 추출 (파일 파트는 한 줄 값으로만 잡히므로 무시해도 됨)
+    private Map<String, String> formFields(byte[] body) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        Matcher matcher = FORM_FIELD.matcher(new String(body, StandardCharsets.ISO_8859_1));
+        while (matcher.find()) {
+            fields.putIfAbsent(matcher.group(1), matcher.group(2));
+        }
+        return fields;
+    }
+
+    private Map<String, String> urlEncodedForm(String body) {
+        Map<String, String> form = new LinkedHashMap<>();
+        for (String pair : body.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    public static class Builder {
+        private Duration processingTime = Duration.ZERO;
+        private Duration responseDelay = Duration.ZERO;
+        private double errorRate = 0.0;
+        private double jobFailureRate = 0.0;
+        private int transcriptSentences = 40;
+        private final Map<String, Metrics> metricsByFilename = new HashMap<>();
+        private long seed = 42L;
+
+        // 분석/최적화/비교에 걸리는 시간 (분석은 job_id 발급 후 /result가 completed가 될 때까지)
+        public Builder processingTime(Duration processingTime) {
+            this.processingTime = processingTime;
+            return this;
+        }
+
+        // 모든 응답 앞에 추가되는 지연 (느린 네트워크/과부하 흉내)
+        public Builder responseDelay(Duration responseDelay) {
+            this.responseDelay = responseDelay;
+            return this;
+        }
+
+        // HTTP 500을 돌려줄 확률 (0.0 ~ 1.0)
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        // 업로드는 성공하지만 /result가 error 상태가 되는 분석 작업 비율 (0.0 ~ 1.0)
+        public Builder jobFailureRate(double jobFailureRate) {
+            this.jobFailureRate = jobFailureRate;
+            return this;
+        }
+
+        // 분석 결과 전사 텍스트 문장 수 (결과 크기 조절)
+        public Builder transcriptSentences(int transcriptSentences) {
+            this.transcriptSentences = transcriptSentences;
+            return this;
+        }
+
+        // 확장자를 뺀 업로드 파일명별 음성 지표 (구간마다 다른 결과 흉내)
+        public Builder metrics(String originalFilename, Metrics metrics) {
+            this.metricsByFilename.put(originalFilename, metrics);
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public FastApiStubServer start() throws IOException {
+            return new FastApiStubServer(this);
+        }
+    }
+}